@@ -0,0 +1,173 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * The {@link Aggregates} class keeps the accumulators of the aggregators of a
+ * group in primitive arrays, the accumulator of the aggregator at index
+ * {@code i} is at index {@code i} of the arrays.
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see Aggregator
+ * @since 2022-01-01
+ */
+public final class Aggregates {
+
+  private final Aggregator<?>[] aggregators;
+
+  private final long[] longs;
+
+  private final double[] doubles;
+
+  private final Object[] sets;
+
+  private long count;
+
+  Aggregates(Aggregator<?>[] aggregators) {
+    this.aggregators = aggregators;
+    this.longs = new long[aggregators.length];
+    this.doubles = new double[aggregators.length];
+    this.sets = new Object[aggregators.length];
+
+    for (int i = 0; i < aggregators.length; i++) {
+      switch (aggregators[i].kind()) {
+        case LONG_MIN -> longs[i] = Long.MAX_VALUE;
+        case LONG_MAX -> longs[i] = Long.MIN_VALUE;
+        case DOUBLE_MIN -> doubles[i] = Double.POSITIVE_INFINITY;
+        case DOUBLE_MAX -> doubles[i] = Double.NEGATIVE_INFINITY;
+        case DISTINCT_COUNT -> sets[i] = new HashSet<>();
+        default -> {
+          // the other accumulators start from zero
+        }
+      }
+    }
+  }
+
+  /**
+   * The {@code count} method returns the number of elements of the group.
+   *
+   * @return number of elements
+   */
+  public long count() {
+    return count;
+  }
+
+  /**
+   * The {@code getLong} method returns the result of an aggregator whose
+   * result is a {@code long}, like {@link Aggregator#longSum}.
+   *
+   * @param index index of the aggregator
+   * @return the result
+   * @throws IllegalArgumentException if the result of the aggregator is not a {@code long}
+   */
+  public long getLong(int index) {
+    return switch (kind(index)) {
+      case COUNT, LONG_SUM, LONG_MIN, LONG_MAX -> longs[index];
+      case DISTINCT_COUNT -> ((Set<?>) sets[index]).size();
+      default -> throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.index")));
+    };
+  }
+
+  /**
+   * The {@code getDouble} method returns the result of an aggregator, the
+   * {@code long} results are converted to {@code double}.
+   *
+   * @param index index of the aggregator
+   * @return the result
+   * @throws IllegalArgumentException if {@code index} is out of range
+   */
+  public double getDouble(int index) {
+    return switch (kind(index)) {
+      case DOUBLE_SUM, DOUBLE_MIN, DOUBLE_MAX -> doubles[index];
+      case AVERAGE -> doubles[index] / longs[index];
+      default -> getLong(index);
+    };
+  }
+
+  @Override
+  public String toString() {
+    var joiner = new StringJoiner(", ", "Aggregates[", "]");
+    joiner.add("count=" + count);
+    for (int i = 0; i < aggregators.length; i++) {
+      joiner.add(aggregators[i].kind() + "=" + getDouble(i));
+    }
+
+    return joiner.toString();
+  }
+
+  @SuppressWarnings("unchecked")
+  <T> void accumulate(T element) {
+    count++;
+    for (int i = 0; i < aggregators.length; i++) {
+      var aggregator = (Aggregator<T>) aggregators[i];
+      switch (aggregator.kind()) {
+        case COUNT -> longs[i]++;
+        case LONG_SUM -> longs[i] += aggregator.longValue(element);
+        case LONG_MIN -> longs[i] = Math.min(longs[i], aggregator.longValue(element));
+        case LONG_MAX -> longs[i] = Math.max(longs[i], aggregator.longValue(element));
+        case DOUBLE_SUM -> doubles[i] += aggregator.doubleValue(element);
+        case DOUBLE_MIN -> doubles[i] = Math.min(doubles[i], aggregator.doubleValue(element));
+        case DOUBLE_MAX -> doubles[i] = Math.max(doubles[i], aggregator.doubleValue(element));
+        case AVERAGE -> {
+          doubles[i] += aggregator.doubleValue(element);
+          longs[i]++;
+        }
+        case DISTINCT_COUNT -> ((Set<Object>) sets[i]).add(aggregator.distinctValue(element));
+        default -> throw new IllegalStateException(aggregator.kind().name());
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  Aggregates merge(Aggregates other) {
+    count += other.count;
+    for (int i = 0; i < aggregators.length; i++) {
+      switch (aggregators[i].kind()) {
+        case COUNT, LONG_SUM -> longs[i] += other.longs[i];
+        case LONG_MIN -> longs[i] = Math.min(longs[i], other.longs[i]);
+        case LONG_MAX -> longs[i] = Math.max(longs[i], other.longs[i]);
+        case DOUBLE_SUM -> doubles[i] += other.doubles[i];
+        case DOUBLE_MIN -> doubles[i] = Math.min(doubles[i], other.doubles[i]);
+        case DOUBLE_MAX -> doubles[i] = Math.max(doubles[i], other.doubles[i]);
+        case AVERAGE -> {
+          doubles[i] += other.doubles[i];
+          longs[i] += other.longs[i];
+        }
+        case DISTINCT_COUNT -> ((Set<Object>) sets[i]).addAll((Set<Object>) other.sets[i]);
+        default -> throw new IllegalStateException(aggregators[i].kind().name());
+      }
+    }
+
+    return this;
+  }
+
+  private Aggregator.Kind kind(int index) {
+    if (index < 0 || index >= aggregators.length) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.index")));
+    }
+
+    return aggregators[index].kind();
+  }
+}
@@ -0,0 +1,231 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static com.pineframework.core.helper.validator.ObjectValidator.requireNonNull;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * The {@link Aggregator} class describes an aggregation of the elements of
+ * a group, which is computed by {@link CollectionUtils#aggregate} together
+ * with the other aggregations in one pass.
+ * <p>
+ * The values are read by primitive functions and accumulated in the primitive
+ * arrays of {@link Aggregates}, so they are not boxed. The result of the
+ * aggregator at index {@code i} is read by {@link Aggregates#getLong(int)} or
+ * {@link Aggregates#getDouble(int)}.
+ * </p>
+ *
+ * @param <T> type of elements
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see Aggregates
+ * @since 2022-01-01
+ */
+public final class Aggregator<T> {
+
+  private final Kind kind;
+
+  private final ToLongFunction<? super T> longValue;
+
+  private final ToDoubleFunction<? super T> doubleValue;
+
+  private final Function<? super T, ?> distinctValue;
+
+  private Aggregator(Kind kind, ToLongFunction<? super T> longValue, ToDoubleFunction<? super T> doubleValue,
+                     Function<? super T, ?> distinctValue) {
+    this.kind = kind;
+    this.longValue = longValue;
+    this.doubleValue = doubleValue;
+    this.distinctValue = distinctValue;
+  }
+
+  /**
+   * The {@code count} method returns the aggregator which counts the
+   * elements, its result is a {@code long}.
+   *
+   * @param <T> type of elements
+   * @return {@link Aggregator}
+   */
+  public static <T> Aggregator<T> count() {
+    return new Aggregator<>(Kind.COUNT, null, null, null);
+  }
+
+  /**
+   * The {@code longSum} method returns the aggregator which sums the
+   * {@code long} values, its result is a {@code long}.
+   *
+   * @param value {@link ToLongFunction} of the value
+   * @param <T>   type of elements
+   * @return {@link Aggregator}
+   * @throws IllegalArgumentException if {@code value} is {@code null}
+   */
+  public static <T> Aggregator<T> longSum(ToLongFunction<? super T> value) {
+    return ofLong(Kind.LONG_SUM, value);
+  }
+
+  /**
+   * The {@code longMin} method returns the aggregator which finds the
+   * minimum of the {@code long} values, its result is a {@code long}.
+   *
+   * @param value {@link ToLongFunction} of the value
+   * @param <T>   type of elements
+   * @return {@link Aggregator}
+   * @throws IllegalArgumentException if {@code value} is {@code null}
+   */
+  public static <T> Aggregator<T> longMin(ToLongFunction<? super T> value) {
+    return ofLong(Kind.LONG_MIN, value);
+  }
+
+  /**
+   * The {@code longMax} method returns the aggregator which finds the
+   * maximum of the {@code long} values, its result is a {@code long}.
+   *
+   * @param value {@link ToLongFunction} of the value
+   * @param <T>   type of elements
+   * @return {@link Aggregator}
+   * @throws IllegalArgumentException if {@code value} is {@code null}
+   */
+  public static <T> Aggregator<T> longMax(ToLongFunction<? super T> value) {
+    return ofLong(Kind.LONG_MAX, value);
+  }
+
+  /**
+   * The {@code doubleSum} method returns the aggregator which sums the
+   * {@code double} values, its result is a {@code double}.
+   *
+   * @param value {@link ToDoubleFunction} of the value
+   * @param <T>   type of elements
+   * @return {@link Aggregator}
+   * @throws IllegalArgumentException if {@code value} is {@code null}
+   */
+  public static <T> Aggregator<T> doubleSum(ToDoubleFunction<? super T> value) {
+    return ofDouble(Kind.DOUBLE_SUM, value);
+  }
+
+  /**
+   * The {@code doubleMin} method returns the aggregator which finds the
+   * minimum of the {@code double} values, its result is a {@code double}.
+   *
+   * @param value {@link ToDoubleFunction} of the value
+   * @param <T>   type of elements
+   * @return {@link Aggregator}
+   * @throws IllegalArgumentException if {@code value} is {@code null}
+   */
+  public static <T> Aggregator<T> doubleMin(ToDoubleFunction<? super T> value) {
+    return ofDouble(Kind.DOUBLE_MIN, value);
+  }
+
+  /**
+   * The {@code doubleMax} method returns the aggregator which finds the
+   * maximum of the {@code double} values, its result is a {@code double}.
+   *
+   * @param value {@link ToDoubleFunction} of the value
+   * @param <T>   type of elements
+   * @return {@link Aggregator}
+   * @throws IllegalArgumentException if {@code value} is {@code null}
+   */
+  public static <T> Aggregator<T> doubleMax(ToDoubleFunction<? super T> value) {
+    return ofDouble(Kind.DOUBLE_MAX, value);
+  }
+
+  /**
+   * The {@code average} method returns the aggregator which finds the
+   * average of the {@code double} values, its result is a {@code double}.
+   *
+   * @param value {@link ToDoubleFunction} of the value
+   * @param <T>   type of elements
+   * @return {@link Aggregator}
+   * @throws IllegalArgumentException if {@code value} is {@code null}
+   */
+  public static <T> Aggregator<T> average(ToDoubleFunction<? super T> value) {
+    return ofDouble(Kind.AVERAGE, value);
+  }
+
+  /**
+   * The {@code distinctCount} method returns the aggregator which counts the
+   * distinct values, its result is a {@code long}. The distinct values of
+   * each group are kept in a hash set.
+   *
+   * @param value {@link Function} of the value
+   * @param <T>   type of elements
+   * @return {@link Aggregator}
+   * @throws IllegalArgumentException if {@code value} is {@code null}
+   */
+  public static <T> Aggregator<T> distinctCount(Function<? super T, ?> value) {
+    requireNonNull(value, i18n("error.validation.should.not.be.null", i18n("var.name.valueGenerator")));
+
+    return new Aggregator<>(Kind.DISTINCT_COUNT, null, null, value);
+  }
+
+  Kind kind() {
+    return kind;
+  }
+
+  long longValue(T element) {
+    return longValue.applyAsLong(element);
+  }
+
+  double doubleValue(T element) {
+    return doubleValue.applyAsDouble(element);
+  }
+
+  Object distinctValue(T element) {
+    return distinctValue.apply(element);
+  }
+
+  @Override
+  public String toString() {
+    return "Aggregator[" + kind + "]";
+  }
+
+  private static <T> Aggregator<T> ofLong(Kind kind, ToLongFunction<? super T> value) {
+    requireNonNull(value, i18n("error.validation.should.not.be.null", i18n("var.name.valueGenerator")));
+
+    return new Aggregator<>(kind, value, null, null);
+  }
+
+  private static <T> Aggregator<T> ofDouble(Kind kind, ToDoubleFunction<? super T> value) {
+    requireNonNull(value, i18n("error.validation.should.not.be.null", i18n("var.name.valueGenerator")));
+
+    return new Aggregator<>(kind, null, value, null);
+  }
+
+  /**
+   * The {@link Kind} enum is the kind of aggregation.
+   *
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  enum Kind {
+    COUNT,
+    LONG_SUM,
+    LONG_MIN,
+    LONG_MAX,
+    DOUBLE_SUM,
+    DOUBLE_MIN,
+    DOUBLE_MAX,
+    AVERAGE,
+    DISTINCT_COUNT
+  }
+}
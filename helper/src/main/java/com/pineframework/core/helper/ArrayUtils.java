@@ -32,6 +32,8 @@ import java.util.Optional;
 import java.util.Random;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 /**
  * The {@link ArrayUtils} class provides utility functions for the arrays.
@@ -40,9 +42,17 @@ import java.util.function.Predicate;
  *  <li>{@link #ofNullable(Object[])}</li>
  *  <li>{@link #random(Object[])}</li>
  *  <li>{@link #find(Object[], Predicate)}</li>
+ *  <li>{@link #countFrequency(int[])}</li>
+ *  <li>{@link #countFrequency(long[])}</li>
  *  <li>{@link #subtract(Object[], Object[], BiPredicate, Class)}</li>
+ *  <li>{@link #subtract(int[], int[])}</li>
+ *  <li>{@link #subtract(long[], long[])}</li>
  *  <li>{@link #intersection(Object[], Object[], BiPredicate, Class)}</li>
+ *  <li>{@link #intersection(int[], int[])}</li>
+ *  <li>{@link #intersection(long[], long[])}</li>
  *  <li>{@link #union(Object[], Object[])}</li>
+ *  <li>{@link #union(int[], int[])}</li>
+ *  <li>{@link #union(long[], long[])}</li>
  *  <li>{@link #concat(Object[], Object[])}</li>
  * </ul>
  *
@@ -131,6 +141,46 @@ public final class ArrayUtils {
         .findAny();
   }
 
+  /**
+   * The {@code countFrequency} method counts the values of an array of
+   * {@code int} values in a {@link IntCounter}, which does not box the values
+   * and the counts.
+   *
+   * @param array array
+   * @return {@link IntCounter}
+   * @throws IllegalArgumentException if {@code array} is {@code null}
+   */
+  public static IntCounter countFrequency(int[] array) {
+    requireNonNull(array, i18n("error.validation.should.not.be.null", i18n("var.name.array")));
+
+    var counter = new IntCounter();
+    for (int value : array) {
+      counter.increment(value);
+    }
+
+    return counter;
+  }
+
+  /**
+   * The {@code countFrequency} method counts the values of an array of
+   * {@code long} values in a {@link LongCounter}, which does not box the values
+   * and the counts.
+   *
+   * @param array array
+   * @return {@link LongCounter}
+   * @throws IllegalArgumentException if {@code array} is {@code null}
+   */
+  public static LongCounter countFrequency(long[] array) {
+    requireNonNull(array, i18n("error.validation.should.not.be.null", i18n("var.name.array")));
+
+    var counter = new LongCounter();
+    for (long value : array) {
+      counter.increment(value);
+    }
+
+    return counter;
+  }
+
   /**
    * The {@code subtract} method performs subtract operation between two arrays
    * based on a comparison function.
@@ -158,6 +208,54 @@ public final class ArrayUtils {
         .toArray(value -> createArray(type, value));
   }
 
+  /**
+   * The {@code subtract} method performs subtract operation between two
+   * arrays of {@code int} values.
+   * <p>
+   * All values are included in {@code array1} but are not included in
+   * {@code array2}, the values of {@code array2} are kept in a
+   * {@link IntHashSet}, so the values are not boxed.
+   * </p>
+   *
+   * @param array1 1st array
+   * @param array2 2nd array
+   * @return {@code int}[]
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static int[] subtract(int[] array1, int[] array2) {
+    requireNonNull(array1, i18n("error.validation.should.not.be.null", i18n("var.name.array")));
+    requireNonNull(array2, i18n("error.validation.should.not.be.null", i18n("var.name.array")));
+
+    var set = IntHashSet.of(array2);
+    return Arrays.stream(array1)
+        .filter(value -> !set.contains(value))
+        .toArray();
+  }
+
+  /**
+   * The {@code subtract} method performs subtract operation between two
+   * arrays of {@code long} values.
+   * <p>
+   * All values are included in {@code array1} but are not included in
+   * {@code array2}, the values of {@code array2} are kept in a
+   * {@link LongHashSet}, so the values are not boxed.
+   * </p>
+   *
+   * @param array1 1st array
+   * @param array2 2nd array
+   * @return {@code long}[]
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static long[] subtract(long[] array1, long[] array2) {
+    requireNonNull(array1, i18n("error.validation.should.not.be.null", i18n("var.name.array")));
+    requireNonNull(array2, i18n("error.validation.should.not.be.null", i18n("var.name.array")));
+
+    var set = LongHashSet.of(array2);
+    return Arrays.stream(array1)
+        .filter(value -> !set.contains(value))
+        .toArray();
+  }
+
   /**
    * The {@code intersection} method performs intersection operation
    * between two arrays based on comparison function then it returns
@@ -182,6 +280,54 @@ public final class ArrayUtils {
         .toArray(value -> createArray(type, value));
   }
 
+  /**
+   * The {@code intersection} method performs intersection operation between
+   * two arrays of {@code int} values then it returns the values of
+   * {@code array1} which are included in {@code array2}.
+   * <p>
+   * The values of {@code array2} are kept in a {@link IntHashSet}, so the values
+   * are not boxed.
+   * </p>
+   *
+   * @param array1 1st array
+   * @param array2 2nd array
+   * @return {@code int}[]
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static int[] intersection(int[] array1, int[] array2) {
+    requireNonNull(array1, i18n("error.validation.should.not.be.null", i18n("var.name.array")));
+    requireNonNull(array2, i18n("error.validation.should.not.be.null", i18n("var.name.array")));
+
+    var set = IntHashSet.of(array2);
+    return Arrays.stream(array1)
+        .filter(value -> set.contains(value))
+        .toArray();
+  }
+
+  /**
+   * The {@code intersection} method performs intersection operation between
+   * two arrays of {@code long} values then it returns the values of
+   * {@code array1} which are included in {@code array2}.
+   * <p>
+   * The values of {@code array2} are kept in a {@link LongHashSet}, so the values
+   * are not boxed.
+   * </p>
+   *
+   * @param array1 1st array
+   * @param array2 2nd array
+   * @return {@code long}[]
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static long[] intersection(long[] array1, long[] array2) {
+    requireNonNull(array1, i18n("error.validation.should.not.be.null", i18n("var.name.array")));
+    requireNonNull(array2, i18n("error.validation.should.not.be.null", i18n("var.name.array")));
+
+    var set = LongHashSet.of(array2);
+    return Arrays.stream(array1)
+        .filter(value -> set.contains(value))
+        .toArray();
+  }
+
   /**
    * The {@code union} method performs union operation on two arrays and,
    * it returns a new array including the elements of two arrays and
@@ -204,6 +350,62 @@ public final class ArrayUtils {
     return set.toArray(createArray(array.getClass().getComponentType(), set.size()));
   }
 
+  /**
+   * The {@code union} method performs union operation on two arrays of
+   * {@code int} values and, it returns a new array including the values
+   * of two arrays in their order without the repetitive values.
+   * <p>
+   * The seen values are kept in a {@link IntHashSet}, so the values are not boxed.
+   * </p>
+   *
+   * @param array1 1st array
+   * @param array2 2nd array
+   * @return {@code int}[]
+   * @throws IllegalArgumentException if any parameter is {@code null}, or the arrays are too large
+   */
+  public static int[] union(int[] array1, int[] array2) {
+    requireNonNull(array1, i18n("error.validation.should.not.be.null", i18n("var.name.array")));
+    requireNonNull(array2, i18n("error.validation.should.not.be.null", i18n("var.name.array")));
+
+    var size = array1.length + array2.length;
+    if (size < 0) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+    }
+
+    var set = new IntHashSet(size);
+    return IntStream.concat(Arrays.stream(array1), Arrays.stream(array2))
+        .filter(set::add)
+        .toArray();
+  }
+
+  /**
+   * The {@code union} method performs union operation on two arrays of
+   * {@code long} values and, it returns a new array including the values
+   * of two arrays in their order without the repetitive values.
+   * <p>
+   * The seen values are kept in a {@link LongHashSet}, so the values are not boxed.
+   * </p>
+   *
+   * @param array1 1st array
+   * @param array2 2nd array
+   * @return {@code long}[]
+   * @throws IllegalArgumentException if any parameter is {@code null}, or the arrays are too large
+   */
+  public static long[] union(long[] array1, long[] array2) {
+    requireNonNull(array1, i18n("error.validation.should.not.be.null", i18n("var.name.array")));
+    requireNonNull(array2, i18n("error.validation.should.not.be.null", i18n("var.name.array")));
+
+    var size = array1.length + array2.length;
+    if (size < 0) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+    }
+
+    var set = new LongHashSet(size);
+    return LongStream.concat(Arrays.stream(array1), Arrays.stream(array2))
+        .filter(set::add)
+        .toArray();
+  }
+
   /**
    * The {@code concat} method joins an array and a vararg together.
    *
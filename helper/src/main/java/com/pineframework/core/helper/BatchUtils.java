@@ -0,0 +1,465 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static com.pineframework.core.helper.validator.ObjectValidator.requireNonNull;
+
+import io.vavr.control.Try;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The {@link BatchUtils} class provides static methods which split the
+ * elements of collections, iterators and streams into batches, e.g. for
+ * {@code executeBatch} of JDBC or the bulk requests.
+ * <p>
+ * The batches are created lazily while the returned streams are consumed,
+ * and each batch is a new {@link List}. The {@link #prefetch(Stream, int)}
+ * method reads the next elements of a stream, e.g. the next batches, on a
+ * background thread, so the producer and the consumer overlap.
+ * </p>
+ * <ul>
+ *   <li>{@link #chunk(Collection, int)}</li>
+ *   <li>{@link #chunk(Iterator, int)}</li>
+ *   <li>{@link #chunk(Stream, int)}</li>
+ *   <li>{@link #chunkByWeight(Collection, long, ToLongFunction)}</li>
+ *   <li>{@link #chunkByWeight(Iterator, long, ToLongFunction)}</li>
+ *   <li>{@link #chunkByWeight(Stream, long, ToLongFunction)}</li>
+ *   <li>{@link #prefetch(Stream, int)}</li>
+ *   <li>{@link #prefetch(Stream, int, Executor)}</li>
+ * </ul>
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @since 2022-01-01
+ */
+public final class BatchUtils {
+
+  private static final Object NULL = new Object();
+
+  private static final Object END = new Object();
+
+  private static final long OFFER_TIMEOUT_MILLIS = 10;
+
+  private BatchUtils() {
+  }
+
+  /**
+   * The {@code checkSize} method checks the {@code size} is positive or not.
+   *
+   * @param size size of batches
+   * @throws IllegalArgumentException if {@code size} is not positive
+   */
+  private static void checkSize(long size) {
+    if (size <= 0) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+    }
+  }
+
+  /**
+   * The {@code chunk} method splits the elements of the collection into
+   * batches of the size, the last batch may be smaller.
+   *
+   * @param collection {@link Collection}{@literal <}{@link T}{@literal >}
+   * @param size       maximum number of elements of a batch
+   * @param <T>        type of elements
+   * @return lazy {@link Stream} of batches
+   * @throws IllegalArgumentException if {@code collection} is {@code null} or {@code size} is not positive
+   */
+  public static <T> Stream<List<T>> chunk(Collection<T> collection, int size) {
+    requireNonNull(collection, i18n("error.validation.should.not.be.null", i18n("var.name.collection")));
+
+    return chunk(collection.iterator(), size);
+  }
+
+  /**
+   * The {@code chunk} method splits the elements of the iterator into
+   * batches of the size, the last batch may be smaller.
+   *
+   * @param iterator {@link Iterator}{@literal <}{@link T}{@literal >}
+   * @param size     maximum number of elements of a batch
+   * @param <T>      type of elements
+   * @return lazy {@link Stream} of batches
+   * @throws IllegalArgumentException if {@code iterator} is {@code null} or {@code size} is not positive
+   */
+  public static <T> Stream<List<T>> chunk(Iterator<T> iterator, int size) {
+    requireNonNull(iterator, i18n("error.validation.should.not.be.null", i18n("var.name.source")));
+    checkSize(size);
+
+    return batches(iterator, size, element -> 1, Math.min(size, 1_024));
+  }
+
+  /**
+   * The {@code chunk} method splits the elements of the stream into batches
+   * of the size, the last batch may be smaller. Closing the returned stream
+   * closes the stream.
+   *
+   * @param stream {@link Stream}{@literal <}{@link T}{@literal >}
+   * @param size   maximum number of elements of a batch
+   * @param <T>    type of elements
+   * @return lazy {@link Stream} of batches
+   * @throws IllegalArgumentException if {@code stream} is {@code null} or {@code size} is not positive
+   */
+  public static <T> Stream<List<T>> chunk(Stream<T> stream, int size) {
+    requireNonNull(stream, i18n("error.validation.should.not.be.null", i18n("var.name.source")));
+
+    return chunk(stream.iterator(), size).onClose(stream::close);
+  }
+
+  /**
+   * The {@code chunkByWeight} method splits the elements of the collection
+   * into batches whose total weight is not more than the maximum weight,
+   * like {@link #chunkByWeight(Iterator, long, ToLongFunction)}.
+   *
+   * @param collection {@link Collection}{@literal <}{@link T}{@literal >}
+   * @param maxWeight  maximum total weight of a batch
+   * @param weigher    {@link ToLongFunction} which returns the weight of an element
+   * @param <T>        type of elements
+   * @return lazy {@link Stream} of batches
+   * @throws IllegalArgumentException if any parameter is {@code null} or {@code maxWeight} is not positive
+   */
+  public static <T> Stream<List<T>> chunkByWeight(Collection<T> collection, long maxWeight, ToLongFunction<? super T> weigher) {
+    requireNonNull(collection, i18n("error.validation.should.not.be.null", i18n("var.name.collection")));
+
+    return chunkByWeight(collection.iterator(), maxWeight, weigher);
+  }
+
+  /**
+   * The {@code chunkByWeight} method splits the elements of the iterator
+   * into batches whose total weight is not more than the maximum weight,
+   * e.g. the number of bytes of a bulk request.
+   * <p>
+   * A batch is closed when the next element does not fit in it, and an
+   * element which is heavier than the maximum weight is a batch alone.
+   * </p>
+   *
+   * @param iterator  {@link Iterator}{@literal <}{@link T}{@literal >}
+   * @param maxWeight maximum total weight of a batch
+   * @param weigher   {@link ToLongFunction} which returns the weight of an element
+   * @param <T>       type of elements
+   * @return lazy {@link Stream} of batches
+   * @throws IllegalArgumentException if any parameter is {@code null} or {@code maxWeight} is not positive
+   */
+  public static <T> Stream<List<T>> chunkByWeight(Iterator<T> iterator, long maxWeight, ToLongFunction<? super T> weigher) {
+    requireNonNull(iterator, i18n("error.validation.should.not.be.null", i18n("var.name.source")));
+    requireNonNull(weigher, i18n("error.validation.should.not.be.null", i18n("var.name.mapper")));
+    checkSize(maxWeight);
+
+    return batches(iterator, maxWeight, weigher, 16);
+  }
+
+  /**
+   * The {@code chunkByWeight} method splits the elements of the stream into
+   * batches whose total weight is not more than the maximum weight, like
+   * {@link #chunkByWeight(Iterator, long, ToLongFunction)}. Closing the
+   * returned stream closes the stream.
+   *
+   * @param stream    {@link Stream}{@literal <}{@link T}{@literal >}
+   * @param maxWeight maximum total weight of a batch
+   * @param weigher   {@link ToLongFunction} which returns the weight of an element
+   * @param <T>       type of elements
+   * @return lazy {@link Stream} of batches
+   * @throws IllegalArgumentException if any parameter is {@code null} or {@code maxWeight} is not positive
+   */
+  public static <T> Stream<List<T>> chunkByWeight(Stream<T> stream, long maxWeight, ToLongFunction<? super T> weigher) {
+    requireNonNull(stream, i18n("error.validation.should.not.be.null", i18n("var.name.source")));
+
+    return chunkByWeight(stream.iterator(), maxWeight, weigher).onClose(stream::close);
+  }
+
+  /**
+   * The {@code prefetch} method reads the elements of the stream on a new
+   * daemon thread, like {@link #prefetch(Stream, int, Executor)}.
+   *
+   * @param stream   {@link Stream}{@literal <}{@link T}{@literal >}
+   * @param capacity maximum number of the prefetched elements
+   * @param <T>      type of elements
+   * @return {@link Stream} of the prefetched elements
+   * @throws IllegalArgumentException if {@code stream} is {@code null} or {@code capacity} is not positive
+   */
+  public static <T> Stream<T> prefetch(Stream<T> stream, int capacity) {
+    return prefetch(stream, capacity, task -> {
+      var thread = new Thread(task, "pine-prefetch");
+      thread.setDaemon(true);
+      thread.start();
+    });
+  }
+
+  /**
+   * The {@code prefetch} method reads the elements of the stream on the
+   * executor, and keeps at most the capacity number of them in a buffer
+   * until they are consumed.
+   * <p>
+   * The reading starts when the returned stream is consumed for the first
+   * time, and it waits while the buffer is full. An exception of the stream
+   * is thrown by the returned stream after the prefetched elements. Closing
+   * the returned stream stops the reading, waits until the current element
+   * is read and then closes the stream on the calling thread. If the returned
+   * stream is garbage collected without closing, the reading is stopped and
+   * the stream is closed on the reading thread.
+   * </p>
+   *
+   * @param stream   {@link Stream}{@literal <}{@link T}{@literal >}
+   * @param capacity maximum number of the prefetched elements
+   * @param executor {@link Executor} which reads the stream
+   * @param <T>      type of elements
+   * @return {@link Stream} of the prefetched elements
+   * @throws IllegalArgumentException if any parameter is {@code null} or {@code capacity} is not positive
+   */
+  public static <T> Stream<T> prefetch(Stream<T> stream, int capacity, Executor executor) {
+    requireNonNull(stream, i18n("error.validation.should.not.be.null", i18n("var.name.source")));
+    requireNonNull(executor, i18n("error.validation.should.not.be.null", i18n("var.name.pool")));
+    checkSize(capacity);
+
+    var prefetcher = new Prefetcher<>(stream, capacity, executor);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(prefetcher, Spliterator.ORDERED), false)
+        .onClose(prefetcher::cancel)
+        .onClose(stream::close);
+  }
+
+  private static <T> Stream<List<T>> batches(Iterator<T> iterator, long maxWeight, ToLongFunction<? super T> weigher, int capacity) {
+    var batches = new Iterator<List<T>>() {
+      private T pending;
+      private long pendingWeight;
+      private boolean hasPending;
+
+      @Override
+      public boolean hasNext() {
+        return hasPending || iterator.hasNext();
+      }
+
+      @Override
+      public List<T> next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+
+        var batch = new ArrayList<T>(capacity);
+        var weight = 0L;
+        if (hasPending) {
+          batch.add(pending);
+          weight = pendingWeight;
+          pending = null;
+          hasPending = false;
+        }
+
+        while (weight < maxWeight && iterator.hasNext()) {
+          var element = iterator.next();
+          var elementWeight = weigher.applyAsLong(element);
+          if (!batch.isEmpty() && weight + elementWeight > maxWeight) {
+            pending = element;
+            pendingWeight = elementWeight;
+            hasPending = true;
+            break;
+          }
+          batch.add(element);
+          weight += elementWeight;
+        }
+
+        return batch;
+      }
+    };
+
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED | Spliterator.NONNULL), false);
+  }
+
+  /**
+   * The {@link Prefetcher} class returns the elements which are read by its
+   * {@link Producer} on an executor into a bounded buffer.
+   *
+   * @param <T> type of elements
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class Prefetcher<T> implements Iterator<T> {
+
+    private final Producer<T> producer;
+
+    private final Executor executor;
+
+    private boolean started;
+
+    private Object next;
+
+    Prefetcher(Stream<T> source, int capacity, Executor executor) {
+      this.producer = new Producer<>(source, capacity, this);
+      this.executor = executor;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (next == null) {
+        if (!started) {
+          started = true;
+          try {
+            executor.execute(producer);
+          } catch (RuntimeException e) {
+            producer.finished.countDown();
+            throw e;
+          }
+        }
+        next = take();
+      }
+
+      if (next instanceof Failure failure) {
+        next = END;
+        throw ReflectionHandles.propagate(failure.cause());
+      }
+
+      return next != END;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      var element = next;
+      next = null;
+      return element == NULL ? null : (T) element;
+    }
+
+    /**
+     * The {@code cancel} method stops the producer and waits until it
+     * returns, so the source can be closed by the calling thread.
+     */
+    void cancel() {
+      producer.cancelled = true;
+      producer.buffer.clear();
+      if (!started) {
+        return;
+      }
+
+      try {
+        producer.finished.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    private Object take() {
+      try {
+        return producer.buffer.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+
+  /**
+   * The {@link Producer} class reads the elements of a stream into a bounded
+   * buffer.
+   * <p>
+   * It keeps a weak reference to its {@link Prefetcher}, so if the returned
+   * stream is abandoned without closing, the producer stops when it is
+   * garbage collected and closes the source on its own thread.
+   * </p>
+   *
+   * @param <T> type of elements
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class Producer<T> implements Runnable {
+
+    private final Stream<T> source;
+
+    private final BlockingQueue<Object> buffer;
+
+    private final WeakReference<Prefetcher<T>> consumer;
+
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    private volatile boolean cancelled;
+
+    private boolean abandoned;
+
+    Producer(Stream<T> source, int capacity, Prefetcher<T> consumer) {
+      this.source = source;
+      this.buffer = new ArrayBlockingQueue<>(capacity);
+      this.consumer = new WeakReference<>(consumer);
+    }
+
+    @Override
+    public void run() {
+      try {
+        var iterator = source.iterator();
+        while (!cancelled && iterator.hasNext()) {
+          var element = iterator.next();
+          put(element == null ? NULL : element);
+        }
+        put(END);
+      } catch (Throwable e) {
+        put(new Failure(e));
+      } finally {
+        if (abandoned) {
+          Try.run(source::close);
+        }
+        finished.countDown();
+      }
+    }
+
+    private void put(Object element) {
+      try {
+        while (!cancelled) {
+          if (buffer.offer(element, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            return;
+          } else if (consumer.get() == null) {
+            abandoned = true;
+            cancelled = true;
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        cancelled = true;
+        buffer.clear();
+        buffer.offer(new Failure(e));
+      }
+    }
+  }
+
+  /**
+   * The {@link Failure} record is the exception of the prefetched iterator.
+   *
+   * @param cause the exception
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private record Failure(Throwable cause) {
+  }
+}
@@ -0,0 +1,306 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.HashFunctions.checkHasher;
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static com.pineframework.core.helper.validator.ObjectValidator.requireNonNull;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.function.ToLongFunction;
+
+/**
+ * The {@link BloomFilter} class keeps a set of elements in a bit array, it
+ * answers whether an element might be in the set or it is definitely not.
+ * <p>
+ * The number of bits and hash functions are chosen from the expected number
+ * of elements and the false positive rate, e.g. about {@code 9.6} bits per
+ * element for the rate of {@code 1%}, which is a small fraction of a
+ * {@link java.util.HashSet} of the same elements. It can be used by
+ * {@link CollectionUtils#subtract(Collection, BloomFilter)} and
+ * {@link CollectionUtils#subtract(Collection, BloomFilter, java.util.function.Predicate)}
+ * to exclude a huge set of elements.
+ * </p>
+ * <p>
+ * It is not thread safe for adding, but it can be read by many threads after
+ * it is built. The elements are hashed by {@link HashFunctions} unless a
+ * hasher is given.
+ * </p>
+ *
+ * @param <T> type of elements
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see CountMinSketch
+ * @see HashFunctions
+ * @since 2022-01-01
+ */
+public final class BloomFilter<T> {
+
+  private static final int MAX_WORDS = Integer.MAX_VALUE - 8;
+
+  private final long[] words;
+
+  private final long bitSize;
+
+  private final int hashCount;
+
+  private final ToLongFunction<? super T> hasher;
+
+  /**
+   * The constructor creates an empty filter.
+   *
+   * @param expectedSize      expected number of elements
+   * @param falsePositiveRate expected false positive rate, between {@code 0} and {@code 1}
+   * @throws IllegalArgumentException if {@code expectedSize} is negative or {@code falsePositiveRate} is out of range
+   */
+  public BloomFilter(long expectedSize, double falsePositiveRate) {
+    this(bitSizeOf(expectedSize, falsePositiveRate), hashCountOf(falsePositiveRate), HashFunctions::hash);
+  }
+
+  /**
+   * The constructor creates an empty filter whose elements are hashed by the
+   * hasher.
+   *
+   * @param expectedSize      expected number of elements
+   * @param falsePositiveRate expected false positive rate, between {@code 0} and {@code 1}
+   * @param hasher            {@link ToLongFunction} which returns the 64-bit hash of an element
+   * @throws IllegalArgumentException if {@code expectedSize} is negative, {@code falsePositiveRate} is out of range
+   *                                  or {@code hasher} is {@code null}
+   */
+  public BloomFilter(long expectedSize, double falsePositiveRate, ToLongFunction<? super T> hasher) {
+    this(bitSizeOf(expectedSize, falsePositiveRate), hashCountOf(falsePositiveRate), checkHasher(hasher));
+  }
+
+  private BloomFilter(long bitSize, int hashCount, ToLongFunction<? super T> hasher) {
+    if (bitSize > (long) MAX_WORDS * Long.SIZE) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+    }
+
+    this.words = new long[(int) ((bitSize + Long.SIZE - 1) / Long.SIZE)];
+    this.bitSize = (long) words.length * Long.SIZE;
+    this.hashCount = hashCount;
+    this.hasher = hasher;
+  }
+
+  /**
+   * The {@code of} method creates a filter which includes the elements of the
+   * collection.
+   *
+   * @param collection        {@link Collection}{@literal <}{@link T}{@literal >}
+   * @param falsePositiveRate expected false positive rate, between {@code 0} and {@code 1}
+   * @param <T>               type of elements
+   * @return {@link BloomFilter}
+   * @throws IllegalArgumentException if {@code collection} is {@code null} or {@code falsePositiveRate} is out of range
+   */
+  public static <T> BloomFilter<T> of(Collection<? extends T> collection, double falsePositiveRate) {
+    requireNonNull(collection, i18n("error.validation.should.not.be.null", i18n("var.name.collection")));
+
+    var filter = new BloomFilter<T>(collection.size(), falsePositiveRate);
+    collection.forEach(filter::add);
+    return filter;
+  }
+
+  /**
+   * The {@code of} method creates a filter which includes the elements of the
+   * collection, the elements are hashed by the hasher.
+   *
+   * @param collection        {@link Collection}{@literal <}{@link T}{@literal >}
+   * @param falsePositiveRate expected false positive rate, between {@code 0} and {@code 1}
+   * @param hasher            {@link ToLongFunction} which returns the 64-bit hash of an element
+   * @param <T>               type of elements
+   * @return {@link BloomFilter}
+   * @throws IllegalArgumentException if any parameter is {@code null} or {@code falsePositiveRate} is out of range
+   */
+  public static <T> BloomFilter<T> of(Collection<? extends T> collection, double falsePositiveRate, ToLongFunction<? super T> hasher) {
+    requireNonNull(collection, i18n("error.validation.should.not.be.null", i18n("var.name.collection")));
+
+    var filter = new BloomFilter<T>(collection.size(), falsePositiveRate, hasher);
+    collection.forEach(filter::add);
+    return filter;
+  }
+
+  /**
+   * The {@code fromByteArray} method restores a filter which is serialized
+   * by {@link #toByteArray()}.
+   *
+   * @param bytes serialized filter
+   * @param <T>   type of elements
+   * @return {@link BloomFilter}
+   * @throws IllegalArgumentException if {@code bytes} is {@code null} or it is not a serialized filter
+   */
+  public static <T> BloomFilter<T> fromByteArray(byte[] bytes) {
+    return fromByteArray(bytes, HashFunctions::hash);
+  }
+
+  /**
+   * The {@code fromByteArray} method restores a filter which is serialized
+   * by {@link #toByteArray()}, the hasher should be the hasher of the
+   * serialized filter.
+   *
+   * @param bytes  serialized filter
+   * @param hasher {@link ToLongFunction} which returns the 64-bit hash of an element
+   * @param <T>    type of elements
+   * @return {@link BloomFilter}
+   * @throws IllegalArgumentException if any parameter is {@code null} or {@code bytes} is not a serialized filter
+   */
+  public static <T> BloomFilter<T> fromByteArray(byte[] bytes, ToLongFunction<? super T> hasher) {
+    requireNonNull(bytes, i18n("error.validation.should.not.be.null", i18n("var.name.data")));
+    checkHasher(hasher);
+
+    try {
+      var buffer = ByteBuffer.wrap(bytes);
+      var hashCount = buffer.getInt();
+      var wordCount = buffer.getInt();
+      if (hashCount <= 0 || wordCount <= 0 || bytes.length != 8 + (long) wordCount * Long.BYTES) {
+        throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.data")));
+      }
+
+      var filter = new BloomFilter<T>((long) wordCount * Long.SIZE, hashCount, hasher);
+      buffer.asLongBuffer().get(filter.words);
+      return filter;
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.data")), e);
+    }
+  }
+
+  /**
+   * The {@code add} method adds the element to the filter.
+   *
+   * @param element the element
+   */
+  public void add(T element) {
+    var hash = hasher.applyAsLong(element);
+    for (int i = 0; i < hashCount; i++) {
+      var bit = index(hash, i);
+      words[(int) (bit >>> 6)] |= 1L << bit;
+    }
+  }
+
+  /**
+   * The {@code mightContain} method returns {@code false} if the element is
+   * definitely not added, and {@code true} if it might be added.
+   *
+   * @param element the element
+   * @return {@code boolean}
+   */
+  public boolean mightContain(T element) {
+    var hash = hasher.applyAsLong(element);
+    for (int i = 0; i < hashCount; i++) {
+      var bit = index(hash, i);
+      if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * The {@code bitSize} method returns the number of bits of the filter.
+   *
+   * @return number of bits
+   */
+  public long bitSize() {
+    return bitSize;
+  }
+
+  /**
+   * The {@code hashCount} method returns the number of bits which are set
+   * for each element.
+   *
+   * @return number of hash functions
+   */
+  public int hashCount() {
+    return hashCount;
+  }
+
+  /**
+   * The {@code falsePositiveRate} method returns the current false positive
+   * rate of the filter, which is estimated from the number of set bits.
+   *
+   * @return false positive rate
+   */
+  public double falsePositiveRate() {
+    var setBits = 0L;
+    for (var word : words) {
+      setBits += Long.bitCount(word);
+    }
+
+    return Math.pow((double) setBits / bitSize, hashCount);
+  }
+
+  /**
+   * The {@code merge} method adds the elements of the other filter to this
+   * filter, the filters should be created with the same parameters.
+   *
+   * @param other {@link BloomFilter}
+   * @return this filter
+   * @throws IllegalArgumentException if the sizes of the filters are not equal
+   */
+  public BloomFilter<T> merge(BloomFilter<? extends T> other) {
+    if (other.bitSize != bitSize || other.hashCount != hashCount) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+    }
+
+    for (int i = 0; i < words.length; i++) {
+      words[i] |= other.words[i];
+    }
+
+    return this;
+  }
+
+  /**
+   * The {@code toByteArray} method serializes the filter, the bytes can be
+   * written to a file and restored by {@link #fromByteArray(byte[])}.
+   *
+   * @return serialized filter
+   */
+  public byte[] toByteArray() {
+    var buffer = ByteBuffer.allocate(8 + words.length * Long.BYTES);
+    buffer.putInt(hashCount).putInt(words.length);
+    buffer.asLongBuffer().put(words);
+
+    return buffer.array();
+  }
+
+  @Override
+  public String toString() {
+    return "BloomFilter[bitSize=" + bitSize + ", hashCount=" + hashCount + "]";
+  }
+
+  private long index(long hash, int i) {
+    var combined = hash + i * ((hash >>> 32) | 1);
+    return (combined & Long.MAX_VALUE) % bitSize;
+  }
+
+  private static long bitSizeOf(long expectedSize, double falsePositiveRate) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+    } else if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.number")));
+    }
+
+    return Math.max(Long.SIZE, (long) Math.ceil(-Math.max(1, expectedSize) * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+  }
+
+  private static int hashCountOf(double falsePositiveRate) {
+    return Math.max(1, (int) Math.round(-Math.log(falsePositiveRate) / Math.log(2)));
+  }
+}
@@ -0,0 +1,159 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static com.pineframework.core.helper.validator.ObjectValidator.requireNonNull;
+import static com.pineframework.core.helper.validator.StringValidator.requireNonEmptyOrNull;
+
+import io.vavr.control.Try;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The {@link ClassDescriptor} class is a lightweight description of a
+ * class which is read from its class file without loading the class.
+ * <p>
+ * The class is loaded only when {@link #resolve()} is called, and even
+ * then it is not initialized.
+ * </p>
+ *
+ * @param name            binary name of the class
+ * @param accessFlags     access flags of the class file
+ * @param superName       binary name of the super class, {@code null} for {@link Object}
+ * @param interfaceNames  binary names of the direct interfaces
+ * @param annotationNames binary names of the runtime visible annotations
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @since 2022-01-01
+ */
+public record ClassDescriptor(String name, int accessFlags, String superName, List<String> interfaceNames,
+                              Set<String> annotationNames) {
+
+  private static final int ACC_ANNOTATION = 0x2000;
+
+  private static final int ACC_ENUM = 0x4000;
+
+  /**
+   * This the constructor.
+   *
+   * @param name            binary name of the class
+   * @param accessFlags     access flags of the class file
+   * @param superName       binary name of the super class, {@code null} for {@link Object}
+   * @param interfaceNames  binary names of the direct interfaces
+   * @param annotationNames binary names of the runtime visible annotations
+   * @throws IllegalArgumentException if {@code name} is {@code null} or empty
+   */
+  public ClassDescriptor {
+    requireNonEmptyOrNull(name, i18n("error.validation.should.not.be.emptyOrNull", i18n("var.name.name")));
+    interfaceNames = interfaceNames == null ? List.of() : interfaceNames;
+    annotationNames = annotationNames == null ? Set.of() : annotationNames;
+  }
+
+  /**
+   * The {@code packageName} method returns the package name of the class.
+   *
+   * @return package name, empty for the default package
+   */
+  public String packageName() {
+    var index = name.lastIndexOf('.');
+    return index < 0 ? "" : name.substring(0, index);
+  }
+
+  /**
+   * The {@code isPublic} method returns {@code true} if the class is public.
+   *
+   * @return {@code boolean}
+   */
+  public boolean isPublic() {
+    return Modifier.isPublic(accessFlags);
+  }
+
+  /**
+   * The {@code isAbstract} method returns {@code true} if the class is abstract.
+   *
+   * @return {@code boolean}
+   */
+  public boolean isAbstract() {
+    return Modifier.isAbstract(accessFlags);
+  }
+
+  /**
+   * The {@code isInterface} method returns {@code true} if the class is an interface.
+   *
+   * @return {@code boolean}
+   */
+  public boolean isInterface() {
+    return Modifier.isInterface(accessFlags);
+  }
+
+  /**
+   * The {@code isAnnotation} method returns {@code true} if the class is an annotation.
+   *
+   * @return {@code boolean}
+   */
+  public boolean isAnnotation() {
+    return (accessFlags & ACC_ANNOTATION) != 0;
+  }
+
+  /**
+   * The {@code isEnum} method returns {@code true} if the class is an enum.
+   *
+   * @return {@code boolean}
+   */
+  public boolean isEnum() {
+    return (accessFlags & ACC_ENUM) != 0;
+  }
+
+  /**
+   * The {@code isAnnotatedWith} method returns {@code true} if the class is
+   * directly decorated with the annotation.
+   *
+   * @param annotation {@link Annotation}
+   * @return {@code boolean}
+   * @throws IllegalArgumentException if {@code annotation} is {@code null}
+   */
+  public boolean isAnnotatedWith(Class<? extends Annotation> annotation) {
+    requireNonNull(annotation, i18n("error.validation.should.not.be.null", i18n("var.name.annotation")));
+
+    return annotationNames.contains(annotation.getName());
+  }
+
+  /**
+   * The {@code resolve} method loads the class by the context class loader
+   * without initializing it.
+   *
+   * @return {@link Class}
+   */
+  public Class<?> resolve() {
+    return resolve(ReflectionUtils.getClassLoader());
+  }
+
+  /**
+   * The {@code resolve} method loads the class by the class loader
+   * without initializing it.
+   *
+   * @param classLoader {@link ClassLoader}
+   * @return {@link Class}
+   */
+  public Class<?> resolve(ClassLoader classLoader) {
+    return Try.of(() -> Class.forName(name, false, classLoader)).get();
+  }
+}
@@ -0,0 +1,222 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static com.pineframework.core.helper.validator.ObjectValidator.requireNonNull;
+
+import io.vavr.control.Try;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The {@link ClassFileReader} class reads the header of a class file and
+ * creates a {@link ClassDescriptor} without loading the class.
+ * <p>
+ * It only visits the constant pool, access flags, super types and the
+ * {@code RuntimeVisibleAnnotations} attribute of the class, the fields
+ * and methods are skipped and only the needed UTF-8 entries are decoded.
+ * </p>
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @since 2022-01-01
+ */
+final class ClassFileReader {
+
+  private static final int MAGIC = 0xCAFEBABE;
+
+  private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+  private final byte[] bytes;
+
+  private int[] offsets;
+
+  private int position;
+
+  private ClassFileReader(byte[] bytes) {
+    this.bytes = bytes;
+  }
+
+  /**
+   * The {@code read} method parses the class file content and returns
+   * the {@link ClassDescriptor} of it.
+   *
+   * @param bytes content of class file
+   * @return {@link ClassDescriptor}
+   * @throws IllegalArgumentException if {@code bytes} is {@code null} or it is not a class file
+   */
+  static ClassDescriptor read(byte[] bytes) {
+    requireNonNull(bytes, i18n("error.validation.should.not.be.null", i18n("var.name.content")));
+
+    return new ClassFileReader(bytes).read();
+  }
+
+  private ClassDescriptor read() {
+    if (bytes.length < 10 || readInt() != MAGIC) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.content")));
+    }
+
+    position += 4;
+    readConstantPool();
+
+    final var accessFlags = readUnsignedShort();
+    final var name = className(readUnsignedShort());
+    final var superIndex = readUnsignedShort();
+    final var superName = superIndex == 0 ? null : className(superIndex);
+
+    var interfacesCount = readUnsignedShort();
+    List<String> interfaceNames = new ArrayList<>(interfacesCount);
+    for (int i = 0; i < interfacesCount; i++) {
+      interfaceNames.add(className(readUnsignedShort()));
+    }
+
+    skipMembers();
+    skipMembers();
+
+    return new ClassDescriptor(name, accessFlags, superName, List.copyOf(interfaceNames), readAnnotationNames());
+  }
+
+  private void readConstantPool() {
+    var count = readUnsignedShort();
+    offsets = new int[count];
+
+    for (int i = 1; i < count; i++) {
+      offsets[i] = position;
+      var tag = bytes[position++];
+
+      switch (tag) {
+        case 1 -> {
+          var length = readUnsignedShort();
+          position += length;
+        }
+        case 7, 8, 16, 19, 20 -> position += 2;
+        case 15 -> position += 3;
+        case 3, 4, 9, 10, 11, 12, 17, 18 -> position += 4;
+        case 5, 6 -> {
+          position += 8;
+          i++;
+        }
+        default -> throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.content")));
+      }
+    }
+  }
+
+  private void skipMembers() {
+    var count = readUnsignedShort();
+
+    for (int i = 0; i < count; i++) {
+      position += 6;
+      skipAttributes();
+    }
+  }
+
+  private void skipAttributes() {
+    var count = readUnsignedShort();
+
+    for (int i = 0; i < count; i++) {
+      position += 2;
+      var length = readInt();
+      position += length;
+    }
+  }
+
+  private Set<String> readAnnotationNames() {
+    var count = readUnsignedShort();
+    Set<String> names = new LinkedHashSet<>();
+
+    for (int i = 0; i < count; i++) {
+      var attributeName = utf8(readUnsignedShort());
+      var length = readInt();
+      var end = position + length;
+
+      if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+        var annotationsCount = readUnsignedShort();
+        for (int j = 0; j < annotationsCount; j++) {
+          names.add(readAnnotation());
+        }
+      }
+
+      position = end;
+    }
+
+    return Set.copyOf(names);
+  }
+
+  private String readAnnotation() {
+    var descriptor = utf8(readUnsignedShort());
+    var pairsCount = readUnsignedShort();
+
+    for (int i = 0; i < pairsCount; i++) {
+      position += 2;
+      skipElementValue();
+    }
+
+    return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+  }
+
+  private void skipElementValue() {
+    var tag = (char) bytes[position++];
+
+    switch (tag) {
+      case 'e' -> position += 4;
+      case '@' -> readAnnotation();
+      case '[' -> {
+        var count = readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+          skipElementValue();
+        }
+      }
+      default -> position += 2;
+    }
+  }
+
+  private String className(int index) {
+    return utf8(readUnsignedShort(offsets[index] + 1)).replace('/', '.');
+  }
+
+  private String utf8(int index) {
+    var offset = offsets[index] + 1;
+    var length = readUnsignedShort(offset);
+
+    return Try.of(() -> DataInputStream.readUTF(new DataInputStream(new ByteArrayInputStream(bytes, offset, length + 2)))).get();
+  }
+
+  private int readUnsignedShort() {
+    var value = readUnsignedShort(position);
+    position += 2;
+    return value;
+  }
+
+  private int readUnsignedShort(int offset) {
+    return ((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF);
+  }
+
+  private int readInt() {
+    var value = ((bytes[position] & 0xFF) << 24)
+        | ((bytes[position + 1] & 0xFF) << 16)
+        | ((bytes[position + 2] & 0xFF) << 8)
+        | (bytes[position + 3] & 0xFF);
+    position += 4;
+    return value;
+  }
+}
@@ -0,0 +1,92 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The {@link CollectionDiff} record is the result of comparing two versions
+ * of a collection by {@link CollectionUtils#diff}, the elements of the
+ * versions are matched by their keys.
+ *
+ * @param added     elements of the new version whose keys are not in the old version
+ * @param removed   elements of the old version whose keys are not in the new version
+ * @param changed   matched elements whose values are not equal
+ * @param unchanged elements of the new version whose values are equal to the matched elements
+ * @param <T>       type of elements
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @since 2022-01-01
+ */
+public record CollectionDiff<T>(List<T> added, List<T> removed, List<Change<T>> changed, List<T> unchanged) {
+
+  /**
+   * This the constructor, it keeps unmodifiable views of the lists.
+   *
+   * @param added     elements of the new version whose keys are not in the old version
+   * @param removed   elements of the old version whose keys are not in the new version
+   * @param changed   matched elements whose values are not equal
+   * @param unchanged elements of the new version whose values are equal to the matched elements
+   */
+  public CollectionDiff {
+    added = Collections.unmodifiableList(added);
+    removed = Collections.unmodifiableList(removed);
+    changed = Collections.unmodifiableList(changed);
+    unchanged = Collections.unmodifiableList(unchanged);
+  }
+
+  /**
+   * The {@code isEmpty} method returns {@code true} if nothing is added,
+   * removed or changed.
+   *
+   * @return {@code boolean}
+   */
+  public boolean isEmpty() {
+    return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+  }
+
+  /**
+   * The {@link Kind} enum is the kind of a {@link Change}.
+   *
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  public enum Kind {
+    ADDED,
+    REMOVED,
+    CHANGED,
+    UNCHANGED
+  }
+
+  /**
+   * The {@link Change} record is a matched or unmatched element of the
+   * versions.
+   *
+   * @param kind   {@link Kind} of change
+   * @param before element of the old version, {@code null} if it is added
+   * @param after  element of the new version, {@code null} if it is removed
+   * @param <T>    type of elements
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  public record Change<T>(Kind kind, T before, T after) {
+  }
+}
@@ -20,36 +20,77 @@ package com.pineframework.core.helper;
 import static com.pineframework.core.helper.I18nUtils.i18n;
 import static com.pineframework.core.helper.validator.ObjectValidator.requireNonNull;
 import static java.util.Collections.emptyList;
-import static java.util.Collections.frequency;
 import static java.util.Objects.isNull;
-import static java.util.stream.Collectors.counting;
-import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The {@link CollectionUtils} class provides utility functions for collection data structures.
  * <ul>
  *   <li>{@link #ofNullable(Collection)}</li>
  *   <li>{@link #findFrequency(Collection)}</li>
+ *   <li>{@link #countFrequency(Collection)}</li>
+ *   <li>{@link #findFrequencyInParallel(Collection, ParallelOptions)}</li>
+ *   <li>{@link #countFrequencyInParallel(Collection, ParallelOptions)}</li>
+ *   <li>{@link #aggregate(Collection, Function, List)}</li>
+ *   <li>{@link #aggregateInParallel(Collection, Function, List, ParallelOptions)}</li>
+ *   <li>{@link #topK(Collection, int)}</li>
+ *   <li>{@link #topK(Stream, int, int)}</li>
  *   <li>{@link #findRepetitiveElements(Collection)}</li>
+ *   <li>{@link #findRepetitiveElementsInParallel(Collection)}</li>
  *   <li>{@link #subtract(Collection, Collection)}</li>
  *   <li>{@link #subtract(Collection, Collection, BiPredicate)}</li>
+ *   <li>{@link #subtract(Collection, Collection, Function, Function)}</li>
+ *   <li>{@link #subtract(Collection, BloomFilter)}</li>
+ *   <li>{@link #subtract(Collection, BloomFilter, Predicate)}</li>
+ *   <li>{@link #subtractInParallel(Collection, Collection, ParallelOptions)}</li>
  *   <li>{@link #intersection(Collection, Collection)}</li>
  *   <li>{@link #intersection(Collection, Collection, BiPredicate)}</li>
+ *   <li>{@link #intersection(Collection, Collection, Function, Function)}</li>
+ *   <li>{@link #intersectionInParallel(Collection, Collection, ParallelOptions)}</li>
  *   <li>{@link #union(Collection, Collection)}</li>
+ *   <li>{@link #unionInParallel(Collection, Collection, ParallelOptions)}</li>
+ *   <li>{@link #unionView(Collection, Collection)}</li>
  *   <li>{@link #concat(Collection, Collection)}</li>
+ *   <li>{@link #concatView(Collection, Collection)}</li>
+ *   <li>{@link #sortedUnion(Iterator, Iterator, Comparator)}</li>
+ *   <li>{@link #sortedUnion(Stream, Stream, Comparator)}</li>
+ *   <li>{@link #sortedIntersection(Iterator, Iterator, Comparator)}</li>
+ *   <li>{@link #sortedIntersection(Stream, Stream, Comparator)}</li>
+ *   <li>{@link #sortedSubtract(Iterator, Iterator, Comparator)}</li>
+ *   <li>{@link #sortedSubtract(Stream, Stream, Comparator)}</li>
+ *   <li>{@link #sortedDifference(Iterator, Iterator, Comparator)}</li>
+ *   <li>{@link #sortedDifference(Stream, Stream, Comparator)}</li>
+ *   <li>{@link #diff(Collection, Collection, Function)}</li>
+ *   <li>{@link #diff(Collection, Collection, Function, BiPredicate)}</li>
+ *   <li>{@link #sortedDiff(Iterator, Iterator, Function, Comparator, BiPredicate)}</li>
+ *   <li>{@link #sortedDiff(Stream, Stream, Function, Comparator, BiPredicate)}</li>
  * </ul>
  *
  * @author Saman Alishirishahrbabak
@@ -58,6 +99,8 @@ import java.util.function.BiPredicate;
  */
 public final class CollectionUtils {
 
+  private static final Object NULL = new Object();
+
   private CollectionUtils() {
   }
 
@@ -81,6 +124,86 @@ public final class CollectionUtils {
     requireNonNull(comparator, i18n("error.validation.should.not.be.null", i18n("var.name.comparator")));
   }
 
+  /**
+   * The {@code checkNull} method checks the {@code keyExtractor} is null or not.
+   *
+   * @param keyExtractor {@link Function}
+   * @throws IllegalArgumentException if {@code keyExtractor} is  {@code null}
+   */
+  private static <T, K> void checkNull(Function<T, K> keyExtractor) {
+    requireNonNull(keyExtractor, i18n("error.validation.should.not.be.null", i18n("var.name.keyGenerator")));
+  }
+
+  /**
+   * The {@code checkNull} method checks the {@code options} is null or not.
+   *
+   * @param options {@link ParallelOptions}
+   * @throws IllegalArgumentException if {@code options} is  {@code null}
+   */
+  private static void checkNull(ParallelOptions options) {
+    requireNonNull(options, i18n("error.validation.should.not.be.null", i18n("var.name.parameter")));
+  }
+
+  /**
+   * The {@code checkNull} method checks the {@code iterator} is null or not.
+   *
+   * @param iterator {@link Iterator}
+   * @throws IllegalArgumentException if {@code iterator} is  {@code null}
+   */
+  private static <T> void checkNull(Iterator<T> iterator) {
+    requireNonNull(iterator, i18n("error.validation.should.not.be.null", i18n("var.name.source")));
+  }
+
+  /**
+   * The {@code checkNull} method checks the {@code stream} is null or not.
+   *
+   * @param stream {@link Stream}
+   * @throws IllegalArgumentException if {@code stream} is  {@code null}
+   */
+  private static <T> void checkNull(Stream<T> stream) {
+    requireNonNull(stream, i18n("error.validation.should.not.be.null", i18n("var.name.source")));
+  }
+
+  /**
+   * The {@code checkNull} method checks the {@code filter} is null or not.
+   *
+   * @param filter {@link BloomFilter}
+   * @throws IllegalArgumentException if {@code filter} is  {@code null}
+   */
+  private static <T> void checkNull(BloomFilter<T> filter) {
+    requireNonNull(filter, i18n("error.validation.should.not.be.null", i18n("var.name.filter")));
+  }
+
+  /**
+   * The {@code checkComparator} method checks the {@code comparator} is null or not.
+   *
+   * @param comparator {@link Comparator}
+   * @throws IllegalArgumentException if {@code comparator} is  {@code null}
+   */
+  private static <T> void checkComparator(Comparator<T> comparator) {
+    requireNonNull(comparator, i18n("error.validation.should.not.be.null", i18n("var.name.comparator")));
+  }
+
+  /**
+   * The {@code checkAggregators} method checks the {@code aggregators} and
+   * returns them as an array.
+   *
+   * @param aggregators {@link List} of {@link Aggregator}
+   * @return array of aggregators
+   * @throws IllegalArgumentException if {@code aggregators} or any of them is {@code null}
+   */
+  private static Aggregator<?>[] checkAggregators(List<? extends Aggregator<?>> aggregators) {
+    requireNonNull(aggregators, i18n("error.validation.should.not.be.null", i18n("var.name.parameter")));
+    var array = aggregators.toArray(new Aggregator<?>[0]);
+    for (var aggregator : array) {
+      if (aggregator == null) {
+        throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.element")));
+      }
+    }
+
+    return array;
+  }
+
   /**
    * The {@code ofNullable} method checks if a collection is {@code null}
    * or not, if so then it returns an empty {@link List} otherwise it
@@ -107,16 +230,194 @@ public final class CollectionUtils {
    * @throws IllegalArgumentException if {@code collection} is {@code null}
    */
   public static <T> Map<T, Long> findFrequency(Collection<T> collection) {
+    return countFrequency(collection).toMap();
+  }
+
+  /**
+   * The {@code countFrequency} method counts the elements of a collection
+   * in an {@link ObjectCounter}, which increments the counts in place
+   * without boxing them, and sorts the elements by their counts.
+   *
+   * @param collection {@link Collection}{@literal <}{@link T}{@literal >}
+   * @param <T>        type of collection
+   * @return {@link ObjectCounter}
+   * @throws IllegalArgumentException if {@code collection} is {@code null}
+   */
+  public static <T> ObjectCounter<T> countFrequency(Collection<T> collection) {
     checkNull(collection);
 
-    return collection.stream()
-        .collect(groupingBy(e -> e, counting()));
+    var counter = new ObjectCounter<T>();
+    for (T e : collection) {
+      counter.increment(e);
+    }
+
+    return counter;
+  }
+
+  /**
+   * The {@code findFrequencyInParallel} method finds frequency of the elements
+   * like {@link #findFrequency(Collection)}, but the large collections are
+   * counted in parallel.
+   *
+   * @param collection {@link Collection}{@literal <}{@link T}{@literal >}
+   * @param options    {@link ParallelOptions}
+   * @param <T>        type of collection
+   * @return {@link Map} include the elements as a key and counting of them as a value
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T> Map<T, Long> findFrequencyInParallel(Collection<T> collection, ParallelOptions options) {
+    return countFrequencyInParallel(collection, options).toMap();
+  }
+
+  /**
+   * The {@code countFrequencyInParallel} method counts the elements of a
+   * collection like {@link #countFrequency(Collection)}.
+   * <p>
+   * If the collection is not smaller than the threshold of the options, each
+   * partition is counted in its own {@link ObjectCounter} by the pool, and
+   * the counters are merged at the end.
+   * </p>
+   *
+   * @param collection {@link Collection}{@literal <}{@link T}{@literal >}
+   * @param options    {@link ParallelOptions}
+   * @param <T>        type of collection
+   * @return {@link ObjectCounter}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T> ObjectCounter<T> countFrequencyInParallel(Collection<T> collection, ParallelOptions options) {
+    checkNull(collection);
+    checkNull(options);
+
+    return partition(collection, options, (elements, from, to) -> {
+      var counter = new ObjectCounter<T>();
+      for (int i = from; i < to; i++) {
+        counter.increment(elements[i]);
+      }
+
+      return counter;
+    }, (left, right) -> left.size() >= right.size() ? left.merge(right) : right.merge(left));
+  }
+
+  /**
+   * The {@code aggregate} method groups the elements by the key and computes
+   * all the aggregators of each group in one pass, like a
+   * {@link #findFrequency(Collection)} with more than counting.
+   * <p>
+   * The accumulators of each group are kept in the primitive arrays of one
+   * {@link Aggregates}, so a group costs one map entry and the values are not
+   * boxed. The result of the aggregator at index {@code i} of the list is
+   * read by {@link Aggregates#getLong(int)} or {@link Aggregates#getDouble(int)}.
+   * </p>
+   *
+   * @param collection  {@link Collection}{@literal <}{@link T}{@literal >}
+   * @param key         {@link Function} which generates the key of the group
+   * @param aggregators {@link List} of {@link Aggregator}
+   * @param <T>         type of collection
+   * @param <K>         type of key
+   * @return {@link Map} include the keys and the aggregates of their groups
+   * @throws IllegalArgumentException if any parameter or aggregator is {@code null}
+   */
+  public static <T, K> Map<K, Aggregates> aggregate(Collection<T> collection, Function<? super T, ? extends K> key,
+                                                    List<? extends Aggregator<? super T>> aggregators) {
+    checkNull(collection);
+    checkNull(key);
+    var array = checkAggregators(aggregators);
+
+    return groups(collection.iterator(), key, array);
+  }
+
+  /**
+   * The {@code aggregateInParallel} method groups and aggregates the elements
+   * like {@link #aggregate(Collection, Function, List)}.
+   * <p>
+   * If the collection is not smaller than the threshold of the options, each
+   * partition is aggregated in its own map by the pool, and the maps are
+   * merged at the end.
+   * </p>
+   *
+   * @param collection  {@link Collection}{@literal <}{@link T}{@literal >}
+   * @param key         {@link Function} which generates the key of the group
+   * @param aggregators {@link List} of {@link Aggregator}
+   * @param options     {@link ParallelOptions}
+   * @param <T>         type of collection
+   * @param <K>         type of key
+   * @return {@link Map} include the keys and the aggregates of their groups
+   * @throws IllegalArgumentException if any parameter or aggregator is {@code null}
+   */
+  public static <T, K> Map<K, Aggregates> aggregateInParallel(Collection<T> collection, Function<? super T, ? extends K> key,
+                                                              List<? extends Aggregator<? super T>> aggregators,
+                                                              ParallelOptions options) {
+    checkNull(collection);
+    checkNull(key);
+    var array = checkAggregators(aggregators);
+    checkNull(options);
+
+    return partition(collection, options, (elements, from, to) -> groups(Arrays.asList(elements).subList(from, to).iterator(), key, array),
+        (left, right) -> {
+          var target = left.size() >= right.size() ? left : right;
+          var source = target == left ? right : left;
+          source.forEach((k, aggregates) -> target.merge(k, aggregates, Aggregates::merge));
+
+          return target;
+        });
+  }
+
+  /**
+   * The {@code topK} method returns the {@code k} most frequent elements of
+   * the collection, sorted by their frequencies in descending order.
+   * <p>
+   * The elements are counted exactly, then only {@code k} of them are kept in
+   * a heap instead of sorting all the counts.
+   * </p>
+   *
+   * @param collection {@link Collection}{@literal <}{@link T}{@literal >}
+   * @param k          maximum number of elements
+   * @param <T>        type of collection
+   * @return {@link List}{@literal <}{@link T}{@literal >}
+   * @throws IllegalArgumentException if {@code collection} is {@code null} or {@code k} is negative
+   */
+  public static <T> List<T> topK(Collection<T> collection, int k) {
+    return countFrequency(collection).keysByCount(k);
+  }
+
+  /**
+   * The {@code topK} method returns the {@code k} most frequent elements of
+   * the stream, which are estimated in a bounded memory by
+   * {@link SpaceSaving}.
+   * <p>
+   * At most the capacity number of elements are tracked, so the result is
+   * approximate, but every element whose frequency is more than
+   * {@code n / capacity} is found. The partitions of a parallel stream are
+   * summarized separately and merged.
+   * </p>
+   *
+   * @param stream   {@link Stream}{@literal <}{@link T}{@literal >}
+   * @param k        maximum number of elements
+   * @param capacity maximum number of tracked elements, not less than {@code k}
+   * @param <T>      type of stream
+   * @return {@link List}{@literal <}{@link T}{@literal >}
+   * @throws IllegalArgumentException if {@code stream} is {@code null} or {@code k} or {@code capacity} is wrong
+   */
+  public static <T> List<T> topK(Stream<T> stream, int k, int capacity) {
+    checkNull(stream);
+    if (k < 0 || capacity < k) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+    }
+
+    return stream.collect(() -> new SpaceSaving<T>(capacity), SpaceSaving::add, SpaceSaving::merge)
+        .topK(k).stream()
+        .map(SpaceSaving.Entry::element)
+        .toList();
   }
 
   /**
    * The {@code findRepetitiveElements} method finds the elements
    * that be repeated in a collection then it returns {@link Set}
    * include the elements.
+   * <p>
+   * The collection is traversed once, and every element is looked up in a
+   * hash set of the elements which are seen before.
+   * </p>
    *
    * @param collection {@link Collection}{@literal <}{@link T}{@literal >}
    * @param <T>        type of collection
@@ -126,9 +427,46 @@ public final class CollectionUtils {
   public static <T> Collection<T> findRepetitiveElements(Collection<T> collection) {
     checkNull(collection);
 
-    return collection.stream()
-        .filter(e -> frequency(collection, e) > 1)
-        .collect(toSet());
+    Set<T> seen = new HashSet<>(capacity(collection.size()));
+    Set<T> repeated = new HashSet<>();
+    for (T e : collection) {
+      if (!seen.add(e)) {
+        repeated.add(e);
+      }
+    }
+
+    return repeated;
+  }
+
+  /**
+   * The {@code findRepetitiveElementsInParallel} method finds the elements
+   * that be repeated in a collection like {@link #findRepetitiveElements(Collection)},
+   * but the collection is traversed by a parallel stream.
+   * <p>
+   * The seen elements are kept in a concurrent hash set, so it is faster for
+   * the collections with millions of elements which can be split well, like
+   * {@link java.util.ArrayList}.
+   * </p>
+   *
+   * @param collection {@link Collection}{@literal <}{@link T}{@literal >}
+   * @param <T>        type of collection
+   * @return {@link Set}
+   * @throws IllegalArgumentException if {@code collection} is {@code null}
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Collection<T> findRepetitiveElementsInParallel(Collection<T> collection) {
+    checkNull(collection);
+
+    Set<Object> seen = ConcurrentHashMap.newKeySet(capacity(collection.size()));
+    Set<Object> repeated = ConcurrentHashMap.newKeySet();
+    collection.parallelStream()
+        .map(e -> e == null ? NULL : e)
+        .filter(e -> !seen.add(e))
+        .forEach(repeated::add);
+
+    Set<T> result = new HashSet<>(capacity(repeated.size()));
+    repeated.forEach(e -> result.add(e == NULL ? null : (T) e));
+    return result;
   }
 
   /**
@@ -138,6 +476,10 @@ public final class CollectionUtils {
    * All objects included in {@code c1} but not included in {@code c2}. It
    * means the result is subset of fist collection {@code c1}
    * </p>
+   * <p>
+   * If the comparator is a {@link StructuralEquivalence}, the elements are
+   * compared by their structural hash codes instead of comparing each pair.
+   * </p>
    *
    * @param c1         {@link Collection}{@literal <}{@link T}{@literal >}
    * @param c2         {@link Collection}{@literal <}{@link E}{@literal >}
@@ -152,6 +494,11 @@ public final class CollectionUtils {
     checkNull(c2);
     checkNull(comparator);
 
+    if (comparator instanceof StructuralEquivalence<?> equivalence) {
+      Function<Object, Object> key = e -> key(e, equivalence);
+      return hashJoin(c1, c2, key, key, false).collect(toList());
+    }
+
     return c1.stream()
         .filter(e1 -> c2.stream().noneMatch(e2 -> comparator.test(e1, e2)))
         .collect(toList());
@@ -165,6 +512,11 @@ public final class CollectionUtils {
    * means the result is subset of fist collection {@code c1}
    * </p>
    *
+   * <p>
+   * The elements are looked up in a hash set, so their {@code hashCode}
+   * function should be consistent with their {@code equals} function.
+   * </p>
+   *
    * @param c1  {@link Collection}{@literal <}{@link T}{@literal >}
    * @param c2  {@link Collection}{@literal <}{@link E}{@literal >}
    * @param <T> type of first collection
@@ -173,12 +525,117 @@ public final class CollectionUtils {
    * @throws IllegalArgumentException if any parameter is {@code null} or empty
    */
   public static <T, E> Collection<T> subtract(Collection<T> c1, Collection<E> c2) {
-    return subtract(c1, c2, Objects::equals);
+    return subtract(c1, c2, Function.identity(), Function.identity());
+  }
+
+  /**
+   * The {@code subtract} method performs subtract operation between two
+   * collections based on the keys of elements.
+   * <p>
+   * All objects included in {@code c1} whose key is not the key of any
+   * object of {@code c2}. The keys of the smaller collection are kept in a
+   * hash set, so it takes linear time.
+   * </p>
+   *
+   * @param c1   {@link Collection}{@literal <}{@link T}{@literal >}
+   * @param c2   {@link Collection}{@literal <}{@link E}{@literal >}
+   * @param key1 key extractor of first collection
+   * @param key2 key extractor of second collection
+   * @param <T>  type of first collection
+   * @param <E>  type of second collection
+   * @param <K>  type of keys
+   * @return {@link Collection}{@literal <}{@link T}{@literal >}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T, E, K> Collection<T> subtract(Collection<T> c1, Collection<E> c2, Function<? super T, ? extends K> key1,
+                                                 Function<? super E, ? extends K> key2) {
+    checkNull(c1);
+    checkNull(c2);
+    checkNull(key1);
+    checkNull(key2);
+
+    return hashJoin(c1, c2, key1, key2, false).collect(toList());
+  }
+
+  /**
+   * The {@code subtract} method returns the elements of {@code c1} which are
+   * not included in the filter.
+   * <p>
+   * It accepts the false positive rate of the filter, so an element which is
+   * not added to the filter may be removed, but every added element is
+   * removed. The filter can be reused for many collections.
+   * </p>
+   *
+   * @param c1     {@link Collection}{@literal <}{@link T}{@literal >}
+   * @param filter {@link BloomFilter} of the excluded elements
+   * @param <T>    type of collection
+   * @return {@link Collection}{@literal <}{@link T}{@literal >}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T> Collection<T> subtract(Collection<T> c1, BloomFilter<? super T> filter) {
+    checkNull(c1);
+    checkNull(filter);
+
+    return c1.stream().filter(element -> !filter.mightContain(element)).collect(toList());
+  }
+
+  /**
+   * The {@code subtract} method returns the elements of {@code c1} which are
+   * not included in the filter, the elements which might be included are
+   * verified by the exact predicate.
+   * <p>
+   * The predicate is only called for the elements which pass the filter, so
+   * the exact lookup, e.g. a query or a sorted file, is skipped for most of
+   * the elements which are not excluded.
+   * </p>
+   *
+   * @param c1       {@link Collection}{@literal <}{@link T}{@literal >}
+   * @param filter   {@link BloomFilter} of the excluded elements
+   * @param excluded exact predicate of the excluded elements
+   * @param <T>      type of collection
+   * @return {@link Collection}{@literal <}{@link T}{@literal >}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T> Collection<T> subtract(Collection<T> c1, BloomFilter<? super T> filter, Predicate<? super T> excluded) {
+    checkNull(c1);
+    checkNull(filter);
+    requireNonNull(excluded, i18n("error.validation.should.not.be.null", i18n("var.name.logic")));
+
+    return c1.stream().filter(element -> !filter.mightContain(element) || !excluded.test(element)).collect(toList());
+  }
+
+  /**
+   * The {@code subtractInParallel} method performs subtract operation between
+   * two collections like {@link #subtract(Collection, Collection)}.
+   * <p>
+   * The elements of {@code c2} are kept in a hash set, then if {@code c1} is
+   * not smaller than the threshold of the options, its partitions are
+   * filtered by the pool and the results are joined in order.
+   * </p>
+   *
+   * @param c1      {@link Collection}{@literal <}{@link T}{@literal >}
+   * @param c2      {@link Collection}{@literal <}{@link E}{@literal >}
+   * @param options {@link ParallelOptions}
+   * @param <T>     type of first collection
+   * @param <E>     type of second collection
+   * @return {@link Collection}{@literal <}{@link T}{@literal >}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T, E> Collection<T> subtractInParallel(Collection<T> c1, Collection<E> c2, ParallelOptions options) {
+    checkNull(c1);
+    checkNull(c2);
+    checkNull(options);
+
+    return filterInParallel(c1, new HashSet<>(c2), false, options);
   }
 
   /**
    * The {@code intersection} method performs intersection operation between two
    * collections based on comparison function then it returns common elements.
+   * <p>
+   * If the comparator is a {@link StructuralEquivalence}, the elements are
+   * compared by their structural hash codes instead of comparing each pair.
+   * </p>
    *
    * @param c1         {@link Collection}{@literal <}{@link T}{@literal >}
    * @param c2         {@link Collection}{@literal <}{@link E}{@literal >}
@@ -193,6 +650,11 @@ public final class CollectionUtils {
     checkNull(c2);
     checkNull(comparator);
 
+    if (comparator instanceof StructuralEquivalence<?> equivalence) {
+      Function<Object, Object> key = e -> key(e, equivalence);
+      return hashJoin(c1, c2, key, key, true).collect(toCollection(ArrayList::new));
+    }
+
     return c1.stream()
         .filter(e1 -> c2.stream().anyMatch(e2 -> comparator.test(e1, e2)))
         .collect(toCollection(ArrayList::new));
@@ -203,6 +665,11 @@ public final class CollectionUtils {
    * collections based on {@code equals} function of elements then it returns
    * common elements.
    *
+   * <p>
+   * The elements are looked up in a hash set, so their {@code hashCode}
+   * function should be consistent with their {@code equals} function.
+   * </p>
+   *
    * @param c1  {@link Collection}{@literal <}{@link T}{@literal >}
    * @param c2  {@link Collection}{@literal <}{@link E}{@literal >}
    * @param <E> type of first collection
@@ -211,7 +678,61 @@ public final class CollectionUtils {
    * @throws IllegalArgumentException if any parameter is {@code null} or empty
    */
   public static <T, E> Collection<T> intersection(Collection<T> c1, Collection<E> c2) {
-    return intersection(c1, c2, Objects::equals);
+    return intersection(c1, c2, Function.identity(), Function.identity());
+  }
+
+  /**
+   * The {@code intersection} method performs intersection operation between two
+   * collections based on the keys of elements then it returns the elements of
+   * {@code c1} whose key is the key of an element of {@code c2}.
+   * <p>
+   * The keys of the smaller collection are kept in a hash set, so it takes
+   * linear time.
+   * </p>
+   *
+   * @param c1   {@link Collection}{@literal <}{@link T}{@literal >}
+   * @param c2   {@link Collection}{@literal <}{@link E}{@literal >}
+   * @param key1 key extractor of first collection
+   * @param key2 key extractor of second collection
+   * @param <T>  type of first collection
+   * @param <E>  type of second collection
+   * @param <K>  type of keys
+   * @return {@link Collection}{@literal <}{@link T}{@literal >}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T, E, K> Collection<T> intersection(Collection<T> c1, Collection<E> c2, Function<? super T, ? extends K> key1,
+                                                     Function<? super E, ? extends K> key2) {
+    checkNull(c1);
+    checkNull(c2);
+    checkNull(key1);
+    checkNull(key2);
+
+    return hashJoin(c1, c2, key1, key2, true).collect(toCollection(ArrayList::new));
+  }
+
+  /**
+   * The {@code intersectionInParallel} method performs intersection operation
+   * between two collections like {@link #intersection(Collection, Collection)}.
+   * <p>
+   * The elements of {@code c2} are kept in a hash set, then if {@code c1} is
+   * not smaller than the threshold of the options, its partitions are
+   * filtered by the pool and the results are joined in order.
+   * </p>
+   *
+   * @param c1      {@link Collection}{@literal <}{@link T}{@literal >}
+   * @param c2      {@link Collection}{@literal <}{@link E}{@literal >}
+   * @param options {@link ParallelOptions}
+   * @param <T>     type of first collection
+   * @param <E>     type of second collection
+   * @return {@link Collection}{@literal <}{@link T}{@literal >}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T, E> Collection<T> intersectionInParallel(Collection<T> c1, Collection<E> c2, ParallelOptions options) {
+    checkNull(c1);
+    checkNull(c2);
+    checkNull(options);
+
+    return filterInParallel(c1, new HashSet<>(c2), true, options);
   }
 
   /**
@@ -235,6 +756,98 @@ public final class CollectionUtils {
     return set.stream().toList();
   }
 
+  /**
+   * The {@code unionInParallel} method performs union operation on two
+   * collections like {@link #union(Collection, Collection)}.
+   * <p>
+   * If the collections are not smaller than the threshold of the options,
+   * the distinct elements of each partition are collected in its own hash
+   * set by the pool, and the sets are merged at the end.
+   * </p>
+   *
+   * @param c1      {@link Collection}
+   * @param c2      {@link Collection}
+   * @param options {@link ParallelOptions}
+   * @param <T>     type of elements
+   * @return {@link Collection}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T> Collection<T> unionInParallel(Collection<T> c1, Collection<T> c2, ParallelOptions options) {
+    checkNull(c1);
+    checkNull(c2);
+    checkNull(options);
+
+    var elements = new ArrayList<T>(c1.size() + c2.size());
+    elements.addAll(c1);
+    elements.addAll(c2);
+
+    return partition(elements, options, (array, from, to) -> {
+      Set<T> set = new HashSet<>(capacity(to - from));
+      for (int i = from; i < to; i++) {
+        set.add(array[i]);
+      }
+
+      return set;
+    }, (left, right) -> {
+      if (left.size() < right.size()) {
+        right.addAll(left);
+        return right;
+      }
+
+      left.addAll(right);
+      return left;
+    }).stream().toList();
+  }
+
+  /**
+   * The {@code unionView} method performs union operation on two collections
+   * like {@link #union(Collection, Collection)}, but it does not copy the
+   * elements.
+   * <p>
+   * Each iterator of the returned {@link Iterable} walks the first and then
+   * the second collection, and skips the elements which are already returned
+   * by it, so the changes of the collections are visible and the distinct
+   * elements are only hashed while they are consumed.
+   * </p>
+   *
+   * @param c1  {@link Collection}
+   * @param c2  {@link Collection}
+   * @param <T> type of elements
+   * @return {@link Iterable}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T> Iterable<T> unionView(Collection<T> c1, Collection<T> c2) {
+    checkNull(c1);
+    checkNull(c2);
+
+    return () -> new Iterator<>() {
+      private final Iterator<T> elements = new ConcatView<>(c1, c2).iterator();
+      private final Set<T> returned = new HashSet<>();
+      private boolean found;
+      private T next;
+
+      @Override
+      public boolean hasNext() {
+        while (!found && elements.hasNext()) {
+          next = elements.next();
+          found = returned.add(next);
+        }
+
+        return found;
+      }
+
+      @Override
+      public T next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+
+        found = false;
+        return next;
+      }
+    };
+  }
+
   /**
    * The {@code concat} method joins two collection.
    *
@@ -256,4 +869,778 @@ public final class CollectionUtils {
     list.addAll(c2);
     return list;
   }
+
+  /**
+   * The {@code concatView} method joins two collection like
+   * {@link #concat(Collection, Collection)}, but it returns a read-only
+   * {@link List} over the collections instead of copying them.
+   * <p>
+   * The changes of the collections are visible in the view, a {@code null}
+   * collection is considered as empty, and the elements of a collection which
+   * is not a {@link List} are found by iteration.
+   * </p>
+   *
+   * @param c1  {@link Collection}
+   * @param c2  {@link Collection}
+   * @param <T> type of collection elements
+   * @return {@link List}
+   */
+  public static <T> List<T> concatView(Collection<T> c1, Collection<T> c2) {
+    if (isNull(c1) && isNull(c2)) {
+      return null;
+    }
+
+    return new ConcatView<>(ofNullable(c1), ofNullable(c2));
+  }
+
+  /**
+   * The {@code sortedUnion} method returns the distinct elements of the union of two sorted
+   * iterators by merging them.
+   * <p>
+   * Each element is returned once, even if it is repeated in the inputs.
+   * The iterators are read while the returned {@link Stream} is consumed, so
+   * only the current element of each one is kept in memory. The result is
+   * unspecified if an iterator is not sorted by the comparator.
+   * </p>
+   *
+   * @param i1         {@link Iterator} of the first sorted input
+   * @param i2         {@link Iterator} of the second sorted input
+   * @param comparator {@link Comparator} which sorts the inputs
+   * @param <T>        type of elements
+   * @return lazy sorted {@link Stream}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T> Stream<T> sortedUnion(Iterator<T> i1, Iterator<T> i2, Comparator<? super T> comparator) {
+    checkNull(i1);
+    checkNull(i2);
+    checkComparator(comparator);
+
+    return StreamSupport.stream(new SortedMerge<>(i1, i2, comparator, SortedMerge.UNION), false);
+  }
+
+  /**
+   * The {@code sortedUnion} method returns the distinct elements of the union of two sorted
+   * streams like {@link #sortedUnion(Iterator, Iterator, Comparator)}, closing
+   * the returned stream closes both of them.
+   *
+   * @param s1         {@link Stream} of the first sorted input
+   * @param s2         {@link Stream} of the second sorted input
+   * @param comparator {@link Comparator} which sorts the inputs
+   * @param <T>        type of elements
+   * @return lazy sorted {@link Stream}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T> Stream<T> sortedUnion(Stream<T> s1, Stream<T> s2, Comparator<? super T> comparator) {
+    checkNull(s1);
+    checkNull(s2);
+
+    return sortedUnion(s1.iterator(), s2.iterator(), comparator).onClose(s1::close).onClose(s2::close);
+  }
+
+  /**
+   * The {@code sortedIntersection} method returns the intersection of two sorted
+   * iterators by merging them.
+   * <p>
+   * The elements of the first input which are equal to an element of the second
+   * input are returned, with their repetitions.
+   * The iterators are read while the returned {@link Stream} is consumed, so
+   * only the current element of each one is kept in memory. The result is
+   * unspecified if an iterator is not sorted by the comparator.
+   * </p>
+   *
+   * @param i1         {@link Iterator} of the first sorted input
+   * @param i2         {@link Iterator} of the second sorted input
+   * @param comparator {@link Comparator} which sorts the inputs
+   * @param <T>        type of elements
+   * @return lazy sorted {@link Stream}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T> Stream<T> sortedIntersection(Iterator<T> i1, Iterator<T> i2, Comparator<? super T> comparator) {
+    checkNull(i1);
+    checkNull(i2);
+    checkComparator(comparator);
+
+    return StreamSupport.stream(new SortedMerge<>(i1, i2, comparator, SortedMerge.INTERSECTION), false);
+  }
+
+  /**
+   * The {@code sortedIntersection} method returns the intersection of two sorted
+   * streams like {@link #sortedIntersection(Iterator, Iterator, Comparator)}, closing
+   * the returned stream closes both of them.
+   *
+   * @param s1         {@link Stream} of the first sorted input
+   * @param s2         {@link Stream} of the second sorted input
+   * @param comparator {@link Comparator} which sorts the inputs
+   * @param <T>        type of elements
+   * @return lazy sorted {@link Stream}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T> Stream<T> sortedIntersection(Stream<T> s1, Stream<T> s2, Comparator<? super T> comparator) {
+    checkNull(s1);
+    checkNull(s2);
+
+    return sortedIntersection(s1.iterator(), s2.iterator(), comparator).onClose(s1::close).onClose(s2::close);
+  }
+
+  /**
+   * The {@code sortedSubtract} method returns the subtraction of two sorted
+   * iterators by merging them.
+   * <p>
+   * The elements of the first input which are not equal to any element of the
+   * second input are returned, with their repetitions.
+   * The iterators are read while the returned {@link Stream} is consumed, so
+   * only the current element of each one is kept in memory. The result is
+   * unspecified if an iterator is not sorted by the comparator.
+   * </p>
+   *
+   * @param i1         {@link Iterator} of the first sorted input
+   * @param i2         {@link Iterator} of the second sorted input
+   * @param comparator {@link Comparator} which sorts the inputs
+   * @param <T>        type of elements
+   * @return lazy sorted {@link Stream}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T> Stream<T> sortedSubtract(Iterator<T> i1, Iterator<T> i2, Comparator<? super T> comparator) {
+    checkNull(i1);
+    checkNull(i2);
+    checkComparator(comparator);
+
+    return StreamSupport.stream(new SortedMerge<>(i1, i2, comparator, SortedMerge.SUBTRACT), false);
+  }
+
+  /**
+   * The {@code sortedSubtract} method returns the subtraction of two sorted
+   * streams like {@link #sortedSubtract(Iterator, Iterator, Comparator)}, closing
+   * the returned stream closes both of them.
+   *
+   * @param s1         {@link Stream} of the first sorted input
+   * @param s2         {@link Stream} of the second sorted input
+   * @param comparator {@link Comparator} which sorts the inputs
+   * @param <T>        type of elements
+   * @return lazy sorted {@link Stream}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T> Stream<T> sortedSubtract(Stream<T> s1, Stream<T> s2, Comparator<? super T> comparator) {
+    checkNull(s1);
+    checkNull(s2);
+
+    return sortedSubtract(s1.iterator(), s2.iterator(), comparator).onClose(s1::close).onClose(s2::close);
+  }
+
+  /**
+   * The {@code sortedDifference} method returns the symmetric difference of two sorted
+   * iterators by merging them.
+   * <p>
+   * The elements of each input which are not equal to any element of the other
+   * input are returned, with their repetitions.
+   * The iterators are read while the returned {@link Stream} is consumed, so
+   * only the current element of each one is kept in memory. The result is
+   * unspecified if an iterator is not sorted by the comparator.
+   * </p>
+   *
+   * @param i1         {@link Iterator} of the first sorted input
+   * @param i2         {@link Iterator} of the second sorted input
+   * @param comparator {@link Comparator} which sorts the inputs
+   * @param <T>        type of elements
+   * @return lazy sorted {@link Stream}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T> Stream<T> sortedDifference(Iterator<T> i1, Iterator<T> i2, Comparator<? super T> comparator) {
+    checkNull(i1);
+    checkNull(i2);
+    checkComparator(comparator);
+
+    return StreamSupport.stream(new SortedMerge<>(i1, i2, comparator, SortedMerge.DIFFERENCE), false);
+  }
+
+  /**
+   * The {@code sortedDifference} method returns the symmetric difference of two sorted
+   * streams like {@link #sortedDifference(Iterator, Iterator, Comparator)}, closing
+   * the returned stream closes both of them.
+   *
+   * @param s1         {@link Stream} of the first sorted input
+   * @param s2         {@link Stream} of the second sorted input
+   * @param comparator {@link Comparator} which sorts the inputs
+   * @param <T>        type of elements
+   * @return lazy sorted {@link Stream}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T> Stream<T> sortedDifference(Stream<T> s1, Stream<T> s2, Comparator<? super T> comparator) {
+    checkNull(s1);
+    checkNull(s2);
+
+    return sortedDifference(s1.iterator(), s2.iterator(), comparator).onClose(s1::close).onClose(s2::close);
+  }
+
+  /**
+   * The {@code diff} method compares two versions of a collection, the
+   * elements are matched by their keys and compared by their
+   * {@code equals} methods.
+   *
+   * @param before {@link Collection}{@literal <}{@link T}{@literal >} of the old version
+   * @param after  {@link Collection}{@literal <}{@link T}{@literal >} of the new version
+   * @param key    key extractor of the elements
+   * @param <T>    type of elements
+   * @param <K>    type of keys
+   * @return {@link CollectionDiff}
+   * @throws IllegalArgumentException if any parameter is {@code null} or a key is repeated in a version
+   * @see #diff(Collection, Collection, Function, BiPredicate)
+   */
+  public static <T, K> CollectionDiff<T> diff(Collection<T> before, Collection<T> after, Function<? super T, ? extends K> key) {
+    return diff(before, after, key, Objects::equals);
+  }
+
+  /**
+   * The {@code diff} method compares two versions of a collection, the
+   * elements are matched by their keys and compared by the equality.
+   * <p>
+   * The elements of the old version are indexed by their keys in one hash
+   * map, then each element of the new version is looked up once, so it takes
+   * linear time. The keys should be unique in each version, the added,
+   * changed and unchanged elements keep the order of the new version, and the
+   * removed elements keep the order of the old version.
+   * </p>
+   *
+   * @param before   {@link Collection}{@literal <}{@link T}{@literal >} of the old version
+   * @param after    {@link Collection}{@literal <}{@link T}{@literal >} of the new version
+   * @param key      key extractor of the elements
+   * @param equality equality of the values of the matched elements
+   * @param <T>      type of elements
+   * @param <K>      type of keys
+   * @return {@link CollectionDiff}
+   * @throws IllegalArgumentException if any parameter is {@code null} or a key is repeated in a version
+   */
+  public static <T, K> CollectionDiff<T> diff(Collection<T> before, Collection<T> after, Function<? super T, ? extends K> key,
+                                             BiPredicate<? super T, ? super T> equality) {
+    checkNull(before);
+    checkNull(after);
+    checkNull(key);
+    requireNonNull(equality, i18n("error.validation.should.not.be.null", i18n("var.name.comparator")));
+
+    var index = new LinkedHashMap<K, T>(capacity(before.size()));
+    for (var element : before) {
+      var elementKey = key.apply(element);
+      if (index.containsKey(elementKey)) {
+        throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.key")));
+      }
+      index.put(elementKey, element);
+    }
+
+    var added = new ArrayList<T>();
+    var changed = new ArrayList<CollectionDiff.Change<T>>();
+    var unchanged = new ArrayList<T>();
+    var keys = new HashSet<K>(capacity(after.size()));
+    for (var element : after) {
+      var elementKey = key.apply(element);
+      if (!keys.add(elementKey)) {
+        throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.key")));
+      }
+
+      var matched = index.get(elementKey);
+      if (matched == null && !index.containsKey(elementKey)) {
+        added.add(element);
+      } else if (equality.test(index.remove(elementKey), element)) {
+        unchanged.add(element);
+      } else {
+        changed.add(new CollectionDiff.Change<>(CollectionDiff.Kind.CHANGED, matched, element));
+      }
+    }
+
+    return new CollectionDiff<>(added, new ArrayList<>(index.values()), changed, unchanged);
+  }
+
+  /**
+   * The {@code sortedDiff} method compares two versions of a collection
+   * which are sorted by the keys of their elements, by merging them.
+   * <p>
+   * It returns a lazy {@link Stream} of {@link CollectionDiff.Change} in the
+   * order of the keys, and only the current element of each version is kept
+   * in memory, so the versions can be larger than the heap. The keys should
+   * be unique in each version, and the result is unspecified if a version is
+   * not sorted by the comparator.
+   * </p>
+   *
+   * @param before        {@link Iterator} of the old version
+   * @param after         {@link Iterator} of the new version
+   * @param key           key extractor of the elements
+   * @param keyComparator {@link Comparator} which sorts the keys
+   * @param equality      equality of the values of the matched elements
+   * @param <T>           type of elements
+   * @param <K>           type of keys
+   * @return lazy sorted {@link Stream} of {@link CollectionDiff.Change}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T, K> Stream<CollectionDiff.Change<T>> sortedDiff(Iterator<T> before, Iterator<T> after,
+                                                                  Function<? super T, ? extends K> key,
+                                                                  Comparator<? super K> keyComparator,
+                                                                  BiPredicate<? super T, ? super T> equality) {
+    checkNull(before);
+    checkNull(after);
+    checkNull(key);
+    checkComparator(keyComparator);
+    requireNonNull(equality, i18n("error.validation.should.not.be.null", i18n("var.name.comparator")));
+
+    return StreamSupport.stream(new SortedDiff<T, K>(before, after, key, keyComparator, equality), false);
+  }
+
+  /**
+   * The {@code sortedDiff} method compares two versions of a collection
+   * which are sorted by the keys of their elements like
+   * {@link #sortedDiff(Iterator, Iterator, Function, Comparator, BiPredicate)},
+   * closing the returned stream closes both of them.
+   *
+   * @param before        {@link Stream} of the old version
+   * @param after         {@link Stream} of the new version
+   * @param key           key extractor of the elements
+   * @param keyComparator {@link Comparator} which sorts the keys
+   * @param equality      equality of the values of the matched elements
+   * @param <T>           type of elements
+   * @param <K>           type of keys
+   * @return lazy sorted {@link Stream} of {@link CollectionDiff.Change}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T, K> Stream<CollectionDiff.Change<T>> sortedDiff(Stream<T> before, Stream<T> after,
+                                                                  Function<? super T, ? extends K> key,
+                                                                  Comparator<? super K> keyComparator,
+                                                                  BiPredicate<? super T, ? super T> equality) {
+    checkNull(before);
+    checkNull(after);
+
+    return sortedDiff(before.iterator(), after.iterator(), key, keyComparator, equality).onClose(before::close).onClose(after::close);
+  }
+
+  /**
+   * The {@code filterInParallel} method returns the elements of the
+   * collection which are or are not included in the set.
+   *
+   * @param collection {@link Collection}
+   * @param set        {@link Set}
+   * @param included   {@code true} for the included elements, {@code false} for the others
+   * @param options    {@link ParallelOptions}
+   * @return {@link List}
+   */
+  private static <T> List<T> filterInParallel(Collection<T> collection, Set<?> set, boolean included, ParallelOptions options) {
+    return partition(collection, options, (elements, from, to) -> {
+      List<T> list = new ArrayList<>();
+      for (int i = from; i < to; i++) {
+        if (set.contains(elements[i]) == included) {
+          list.add(elements[i]);
+        }
+      }
+
+      return list;
+    }, (left, right) -> {
+      left.addAll(right);
+      return left;
+    });
+  }
+
+  /**
+   * The {@code partition} method processes the partitions of the collection
+   * by the pool of the options and merges their results in order, the
+   * collections which are smaller than the threshold are processed as one
+   * partition on the calling thread.
+   *
+   * @param collection {@link Collection}
+   * @param options    {@link ParallelOptions}
+   * @param leaf       processor of a partition
+   * @param merge      merger of the results of two adjacent partitions
+   * @return the result
+   */
+  @SuppressWarnings("unchecked")
+  private static <T, R> R partition(Collection<T> collection, ParallelOptions options, Partition<T, R> leaf, BinaryOperator<R> merge) {
+    var elements = (T[]) collection.toArray();
+    if (elements.length < options.threshold()) {
+      return leaf.apply(elements, 0, elements.length);
+    }
+
+    return options.pool().invoke(new PartitionTask<>(elements, 0, elements.length, options.partitionSize(elements.length), leaf, merge));
+  }
+
+  /**
+   * The {@code groups} method aggregates the elements of the iterator in a
+   * {@link HashMap} of the groups.
+   *
+   * @param iterator    {@link Iterator}
+   * @param key         key extractor
+   * @param aggregators array of aggregators
+   * @return {@link Map} of the groups
+   */
+  private static <T, K> Map<K, Aggregates> groups(Iterator<T> iterator, Function<? super T, ? extends K> key,
+                                                  Aggregator<?>[] aggregators) {
+    var groups = new HashMap<K, Aggregates>();
+    while (iterator.hasNext()) {
+      var element = iterator.next();
+      groups.computeIfAbsent(key.apply(element), k -> new Aggregates(aggregators)).accumulate(element);
+    }
+
+    return groups;
+  }
+
+  /**
+   * The {@code hashJoin} method returns the elements of {@code c1} whose key
+   * is or is not the key of an element of {@code c2}.
+   * <p>
+   * If {@code c2} is smaller, its keys are kept in a hash set, otherwise the
+   * keys of {@code c1} are kept and the matched ones are found by {@code c2}.
+   * </p>
+   *
+   * @param c1      {@link Collection}
+   * @param c2      {@link Collection}
+   * @param key1    key extractor of first collection
+   * @param key2    key extractor of second collection
+   * @param matched {@code true} for the matched elements, {@code false} for the others
+   * @return {@link Stream} of elements of first collection
+   */
+  private static <T, E, K> Stream<T> hashJoin(Collection<T> c1, Collection<E> c2, Function<? super T, ? extends K> key1,
+                                              Function<? super E, ? extends K> key2, boolean matched) {
+    Set<K> keys = new HashSet<>(capacity(Math.min(c1.size(), c2.size())));
+
+    if (c2.size() <= c1.size()) {
+      c2.forEach(e2 -> keys.add(key2.apply(e2)));
+      return c1.stream().filter(e1 -> keys.contains(key1.apply(e1)) == matched);
+    }
+
+    c1.forEach(e1 -> keys.add(key1.apply(e1)));
+    Set<K> found = new HashSet<>();
+    for (E e2 : c2) {
+      var key = key2.apply(e2);
+      if (keys.contains(key) && found.add(key) && found.size() == keys.size()) {
+        break;
+      }
+    }
+
+    return c1.stream().filter(e1 -> found.contains(key1.apply(e1)) == matched);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object key(Object element, StructuralEquivalence<?> equivalence) {
+    return ((StructuralEquivalence<Object>) equivalence).key(element);
+  }
+
+  private static int capacity(int size) {
+    return (int) Math.min(Integer.MAX_VALUE, size * 4L / 3 + 1);
+  }
+
+  /**
+   * The {@link ConcatView} class is a read-only {@link List} which joins two
+   * collections without copying them.
+   *
+   * @param <T> type of elements
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class ConcatView<T> extends AbstractList<T> {
+
+    private final Collection<T> first;
+
+    private final Collection<T> second;
+
+    ConcatView(Collection<T> first, Collection<T> second) {
+      this.first = first;
+      this.second = second;
+    }
+
+    @Override
+    public T get(int index) {
+      var firstSize = first.size();
+      if (index < 0 || index >= firstSize + second.size()) {
+        throw new IndexOutOfBoundsException(index);
+      }
+
+      return index < firstSize ? element(first, index) : element(second, index - firstSize);
+    }
+
+    @Override
+    public int size() {
+      return first.size() + second.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      return new Iterator<>() {
+        private Iterator<T> current = first.iterator();
+        private boolean onFirst = true;
+
+        @Override
+        public boolean hasNext() {
+          if (onFirst && !current.hasNext()) {
+            current = second.iterator();
+            onFirst = false;
+          }
+
+          return current.hasNext();
+        }
+
+        @Override
+        public T next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+
+          return current.next();
+        }
+      };
+    }
+
+    private static <T> T element(Collection<T> collection, int index) {
+      if (collection instanceof List<T> list) {
+        return list.get(index);
+      }
+
+      var iterator = collection.iterator();
+      for (int i = 0; i < index; i++) {
+        iterator.next();
+      }
+
+      return iterator.next();
+    }
+  }
+
+  /**
+   * The {@link SortedMerge} class merges two sorted iterators, and returns
+   * the elements which belong to the result of a set operation.
+   *
+   * @param <T> type of elements
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class SortedMerge<T> extends Spliterators.AbstractSpliterator<T> {
+
+    static final int FIRST = 1;
+
+    static final int SECOND = 2;
+
+    static final int BOTH = 4;
+
+    static final int UNION = FIRST | SECOND | BOTH;
+
+    static final int INTERSECTION = BOTH;
+
+    static final int SUBTRACT = FIRST;
+
+    static final int DIFFERENCE = FIRST | SECOND;
+
+    private final Iterator<T> first;
+
+    private final Iterator<T> second;
+
+    private final Comparator<? super T> comparator;
+
+    private final int mode;
+
+    private T firstHead;
+
+    private T secondHead;
+
+    private boolean hasFirst;
+
+    private boolean hasSecond;
+
+    private T last;
+
+    private boolean hasLast;
+
+    SortedMerge(Iterator<T> first, Iterator<T> second, Comparator<? super T> comparator, int mode) {
+      super(Long.MAX_VALUE, ORDERED);
+      this.first = first;
+      this.second = second;
+      this.comparator = comparator;
+      this.mode = mode;
+      nextFirst();
+      nextSecond();
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      while (hasFirst || hasSecond) {
+        var order = !hasFirst ? 1 : !hasSecond ? -1 : comparator.compare(firstHead, secondHead);
+        T element;
+        int source;
+
+        if (order < 0) {
+          element = nextFirst();
+          source = FIRST;
+        } else if (order > 0) {
+          element = nextSecond();
+          source = SECOND;
+        } else {
+          element = nextFirst();
+          source = BOTH;
+          if (!hasFirst || comparator.compare(firstHead, element) != 0) {
+            while (hasSecond && comparator.compare(secondHead, element) == 0) {
+              nextSecond();
+            }
+          }
+        }
+
+        if ((mode & source) != 0 && (mode != UNION || !hasLast || comparator.compare(last, element) != 0)) {
+          last = element;
+          hasLast = true;
+          action.accept(element);
+          return true;
+        }
+      }
+
+      return false;
+    }
+
+    private T nextFirst() {
+      var element = firstHead;
+      hasFirst = first.hasNext();
+      firstHead = hasFirst ? first.next() : null;
+      return element;
+    }
+
+    private T nextSecond() {
+      var element = secondHead;
+      hasSecond = second.hasNext();
+      secondHead = hasSecond ? second.next() : null;
+      return element;
+    }
+  }
+
+  /**
+   * The {@link SortedDiff} class merges two versions which are sorted by
+   * their keys, and returns the changes of the elements.
+   *
+   * @param <T> type of elements
+   * @param <K> type of keys
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class SortedDiff<T, K> extends Spliterators.AbstractSpliterator<CollectionDiff.Change<T>> {
+
+    private final Iterator<T> before;
+
+    private final Iterator<T> after;
+
+    private final Function<? super T, ? extends K> key;
+
+    private final Comparator<? super K> keyComparator;
+
+    private final BiPredicate<? super T, ? super T> equality;
+
+    private T beforeHead;
+
+    private T afterHead;
+
+    private boolean hasBefore;
+
+    private boolean hasAfter;
+
+    SortedDiff(Iterator<T> before, Iterator<T> after, Function<? super T, ? extends K> key, Comparator<? super K> keyComparator,
+               BiPredicate<? super T, ? super T> equality) {
+      super(Long.MAX_VALUE, ORDERED | NONNULL);
+      this.before = before;
+      this.after = after;
+      this.key = key;
+      this.keyComparator = keyComparator;
+      this.equality = equality;
+      nextBefore();
+      nextAfter();
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super CollectionDiff.Change<T>> action) {
+      if (!hasBefore && !hasAfter) {
+        return false;
+      }
+
+      var order = !hasBefore ? 1 : !hasAfter ? -1 : keyComparator.compare(key.apply(beforeHead), key.apply(afterHead));
+      if (order < 0) {
+        action.accept(new CollectionDiff.Change<>(CollectionDiff.Kind.REMOVED, nextBefore(), null));
+      } else if (order > 0) {
+        action.accept(new CollectionDiff.Change<>(CollectionDiff.Kind.ADDED, null, nextAfter()));
+      } else {
+        var oldElement = nextBefore();
+        var newElement = nextAfter();
+        var kind = equality.test(oldElement, newElement) ? CollectionDiff.Kind.UNCHANGED : CollectionDiff.Kind.CHANGED;
+        action.accept(new CollectionDiff.Change<>(kind, oldElement, newElement));
+      }
+
+      return true;
+    }
+
+    private T nextBefore() {
+      var element = beforeHead;
+      hasBefore = before.hasNext();
+      beforeHead = hasBefore ? before.next() : null;
+      return element;
+    }
+
+    private T nextAfter() {
+      var element = afterHead;
+      hasAfter = after.hasNext();
+      afterHead = hasAfter ? after.next() : null;
+      return element;
+    }
+  }
+
+  /**
+   * The {@link Partition} interface processes the elements of a partition.
+   *
+   * @param <T> type of elements
+   * @param <R> type of result
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  @FunctionalInterface
+  private interface Partition<T, R> {
+
+    R apply(T[] elements, int from, int to);
+  }
+
+  /**
+   * The {@link PartitionTask} class splits the elements in half until the
+   * partition size, then it processes the partitions and merges their results.
+   *
+   * @param <T> type of elements
+   * @param <R> type of result
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  @SuppressWarnings("serial")
+  private static final class PartitionTask<T, R> extends RecursiveTask<R> {
+
+    private final T[] elements;
+
+    private final int from;
+
+    private final int to;
+
+    private final int partitionSize;
+
+    private final Partition<T, R> leaf;
+
+    private final BinaryOperator<R> merge;
+
+    PartitionTask(T[] elements, int from, int to, int partitionSize, Partition<T, R> leaf, BinaryOperator<R> merge) {
+      this.elements = elements;
+      this.from = from;
+      this.to = to;
+      this.partitionSize = partitionSize;
+      this.leaf = leaf;
+      this.merge = merge;
+    }
+
+    @Override
+    protected R compute() {
+      if (to - from <= partitionSize) {
+        return leaf.apply(elements, from, to);
+      }
+
+      var middle = (from + to) >>> 1;
+      var left = new PartitionTask<>(elements, from, middle, partitionSize, leaf, merge);
+      left.fork();
+      var right = new PartitionTask<>(elements, middle, to, partitionSize, leaf, merge).compute();
+
+      return merge.apply(left.join(), right);
+    }
+  }
 }
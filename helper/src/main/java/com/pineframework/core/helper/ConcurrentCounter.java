@@ -0,0 +1,207 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@link ConcurrentCounter} class counts the objects which are added by
+ * many threads at the same time, the {@code null} object is counted too.
+ * <p>
+ * Each object is counted by a {@link LongAdder}, whose striped cells let the
+ * threads increment the same hot object without contention, and the adders
+ * are kept in a {@link ConcurrentHashMap}, so the increments do not lock.
+ * </p>
+ * <p>
+ * The {@link #snapshot()} method returns the counts at one point in time.
+ * It starts a new generation of adders for the next increments, waits for
+ * the increments which are still writing to the old generation, and adds the
+ * old generation to the counts of the previous snapshots. The {@link #get}
+ * and {@link #toString()} methods read the live counts without waiting, like
+ * {@link LongAdder#sum()}.
+ * </p>
+ *
+ * @param <T> type of objects
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see ObjectCounter
+ * @since 2022-01-01
+ */
+public final class ConcurrentCounter<T> {
+
+  private static final Object NULL = new Object();
+
+  private volatile State state = new State(Map.of(), null, new Generation());
+
+  /**
+   * The constructor creates an empty counter.
+   */
+  public ConcurrentCounter() {
+  }
+
+  /**
+   * The {@code increment} method adds one to the count of the object.
+   *
+   * @param key the object
+   */
+  public void increment(T key) {
+    add(key, 1);
+  }
+
+  /**
+   * The {@code add} method adds the delta to the count of the object.
+   *
+   * @param key   the object
+   * @param delta positive number
+   * @throws IllegalArgumentException if {@code delta} is not positive
+   */
+  public void add(T key, long delta) {
+    if (delta <= 0) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.number")));
+    }
+
+    var maskedKey = key == null ? NULL : key;
+    while (true) {
+      var generation = state.current;
+      generation.entered.increment();
+      try {
+        if (state.current == generation) {
+          generation.adder(maskedKey).add(delta);
+          return;
+        }
+      } finally {
+        generation.exited.increment();
+      }
+    }
+  }
+
+  /**
+   * The {@code get} method returns the live count of the object, the
+   * concurrent increments may not be included.
+   *
+   * @param key the object
+   * @return count of the object, {@code 0} if it is not counted
+   */
+  public long get(T key) {
+    var maskedKey = key == null ? NULL : key;
+    var current = state;
+
+    return current.base.getOrDefault(maskedKey, 0L) + current.current.sum(maskedKey)
+        + (current.previous == null ? 0 : current.previous.sum(maskedKey));
+  }
+
+  /**
+   * The {@code snapshot} method returns the counts of all the increments
+   * which are completed before a point in time during the call.
+   *
+   * @return unmodifiable {@link Map} of objects and counts
+   */
+  public synchronized Map<T, Long> snapshot() {
+    var old = state;
+    var sealed = old.current;
+    state = new State(old.base, sealed, new Generation());
+
+    // exited is read before entered, so an increment which is still writing keeps them unequal
+    while (sealed.exited.sum() != sealed.entered.sum()) {
+      Thread.onSpinWait();
+    }
+
+    var base = new HashMap<>(old.base);
+    sealed.addTo(base);
+    var unmodifiableBase = Collections.unmodifiableMap(base);
+    state = new State(unmodifiableBase, null, state.current);
+
+    return unmask(unmodifiableBase);
+  }
+
+  @Override
+  public String toString() {
+    var current = state;
+    var counts = new HashMap<>(current.base);
+    if (current.previous != null) {
+      current.previous.addTo(counts);
+    }
+    current.current.addTo(counts);
+
+    return unmask(counts).toString();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<T, Long> unmask(Map<Object, Long> base) {
+    if (!base.containsKey(NULL)) {
+      return (Map<T, Long>) (Map<?, Long>) base;
+    }
+
+    var map = new HashMap<T, Long>(base.size() * 4 / 3 + 1);
+    base.forEach((key, count) -> map.put(key == NULL ? null : (T) key, count));
+    return Collections.unmodifiableMap(map);
+  }
+
+  /**
+   * The {@link State} record is the counts of the previous snapshots, the
+   * generation which is being sealed by a snapshot, and the generation of
+   * the new increments.
+   *
+   * @param base     counts of the previous snapshots
+   * @param previous sealed generation, {@code null} if there is no running snapshot
+   * @param current  current generation
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private record State(Map<Object, Long> base, Generation previous, Generation current) {
+  }
+
+  /**
+   * The {@link Generation} class keeps the adders of the increments between
+   * two snapshots, and the number of the increments which have entered and
+   * exited it.
+   *
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class Generation {
+
+    private final ConcurrentHashMap<Object, LongAdder> adders = new ConcurrentHashMap<>();
+
+    private final LongAdder entered = new LongAdder();
+
+    private final LongAdder exited = new LongAdder();
+
+    LongAdder adder(Object key) {
+      var adder = adders.get(key);
+      return adder != null ? adder : adders.computeIfAbsent(key, k -> new LongAdder());
+    }
+
+    long sum(Object key) {
+      var adder = adders.get(key);
+      return adder == null ? 0 : adder.sum();
+    }
+
+    void addTo(Map<Object, Long> counts) {
+      adders.forEach((key, adder) -> counts.merge(key, adder.sum(), Long::sum));
+    }
+  }
+}
@@ -0,0 +1,577 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static com.pineframework.core.helper.ReflectionHandles.constructor;
+import static com.pineframework.core.helper.ReflectionHandles.getter;
+import static com.pineframework.core.helper.ReflectionHandles.isOpen;
+import static com.pineframework.core.helper.ReflectionHandles.propagate;
+import static com.pineframework.core.helper.ReflectionHandles.setter;
+import static com.pineframework.core.helper.validator.ObjectValidator.requireNonNull;
+import static java.lang.invoke.MethodType.methodType;
+
+import io.vavr.control.Try;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * The {@link CopyUtils} class provides utility functions to copy objects.
+ * <ul>
+ *   <li>{@link #deepCopy(Object)}</li>
+ *   <li>{@link #isImmutable(Class)}</li>
+ * </ul>
+ * <p>
+ * The copy plan of each class is compiled once from its deep fields and
+ * cached, so copying an object does not use reflection. The immutable
+ * objects are shared instead of being copied, and the cycles of the object
+ * graph are kept in the copy.
+ * </p>
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @since 2022-01-01
+ */
+public final class CopyUtils {
+
+  private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, Boolean.class, Character.class, Byte.class,
+      Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class, UUID.class,
+      Locale.class, URI.class, Class.class, OptionalInt.class, OptionalLong.class, OptionalDouble.class,
+      DateTimeFormatter.class);
+
+  private static final ClassValue<Boolean> IMMUTABLES = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return isImmutable(type, new HashSet<>());
+    }
+  };
+
+  private static final CopyPlan SHARE = (original, copier) -> original;
+
+  private static final ClassValue<CopyPlan> PLANS = new ClassValue<>() {
+    @Override
+    protected CopyPlan computeValue(Class<?> type) {
+      return compile(type);
+    }
+  };
+
+  private static final MethodHandle COPY = Try.of(() -> MethodHandles.lookup()
+      .findVirtual(Copier.class, "copy", methodType(Object.class, Object.class))).get();
+
+  private CopyUtils() {
+  }
+
+  /**
+   * The {@code deepCopy} method returns a deep copy of the object.
+   * <p>
+   * The fields of the classes are copied recursively and the classes need
+   * a no-arg constructor, records are created by their canonical constructor.
+   * The JDK collections and maps are copied to the same type when it has a
+   * public constructor, otherwise to an unmodifiable view. The content of an
+   * {@link Optional} is copied and the other JDK objects are cloned, a JDK
+   * object which is neither immutable nor cloneable can not be copied.
+   * </p>
+   *
+   * @param object the object
+   * @param <T>    type of the object
+   * @return the copy, or {@code null} if {@code object} is {@code null}
+   * @throws IllegalArgumentException if a class of the object graph has not a no-arg constructor,
+   *                                  or it is a JDK class which can not be copied
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T deepCopy(T object) {
+    return (T) new Copier().copy(object);
+  }
+
+  /**
+   * The {@code isImmutable} method returns {@code true} if the objects of the
+   * class are immutable, the immutable types are the primitives, the wrappers,
+   * {@link String}, {@link BigInteger}, {@link BigDecimal}, {@link UUID},
+   * {@link Locale}, {@link URI}, the primitive optionals, the types of the
+   * {@code java.time} package, {@link DateTimeFormatter}, the enums and the
+   * records whose components are immutable.
+   *
+   * @param type class object
+   * @return {@code boolean}
+   * @throws IllegalArgumentException if {@code type} is {@code null}
+   */
+  public static boolean isImmutable(Class<?> type) {
+    requireNonNull(type, i18n("error.validation.should.not.be.null", i18n("var.name.type")));
+
+    return IMMUTABLES.get(type);
+  }
+
+  private static boolean isImmutable(Class<?> type, Set<Class<?>> visiting) {
+    if (type.isPrimitive() || IMMUTABLE_TYPES.contains(type) || Enum.class.isAssignableFrom(type)
+        || type.getPackageName().equals("java.time")) {
+      return true;
+    } else if (!type.isRecord()) {
+      return false;
+    } else if (!visiting.add(type)) {
+      return true;
+    }
+
+    for (RecordComponent component : type.getRecordComponents()) {
+      var componentType = component.getType();
+      if (!isFinal(componentType) || !isImmutable(componentType, visiting)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * The {@code isShared} method returns {@code true} if the value of a field
+   * or an array element with the declared type is always shared.
+   *
+   * @param type declared class object
+   * @return {@code boolean}
+   */
+  private static boolean isShared(Class<?> type) {
+    return type.isPrimitive() || (isFinal(type) && IMMUTABLES.get(type));
+  }
+
+  private static boolean isFinal(Class<?> type) {
+    return type.isPrimitive() || Modifier.isFinal(type.getModifiers()) || Enum.class.isAssignableFrom(type);
+  }
+
+  private static CopyPlan compile(Class<?> type) {
+    if (IMMUTABLES.get(type) || type.isHidden()) {
+      return SHARE;
+    } else if (type.isArray()) {
+      return type.getComponentType().isPrimitive() ? CopyUtils::copyPrimitiveArray : arrayPlan(type.getComponentType());
+    } else if (!isOpen(type)) {
+      return platformPlan(type);
+    } else if (type.isRecord()) {
+      return new RecordPlan(type);
+    }
+
+    return new BeanPlan(type);
+  }
+
+  private static Object copyPrimitiveArray(Object original, Copier copier) {
+    var length = Array.getLength(original);
+    var copy = Array.newInstance(original.getClass().getComponentType(), length);
+    System.arraycopy(original, 0, copy, 0, length);
+    copier.register(original, copy);
+    return copy;
+  }
+
+  private static CopyPlan arrayPlan(Class<?> componentType) {
+    var shared = isShared(componentType);
+
+    return (original, copier) -> {
+      var array = (Object[]) original;
+      var copy = (Object[]) Array.newInstance(componentType, array.length);
+      copier.register(original, copy);
+
+      if (shared) {
+        System.arraycopy(array, 0, copy, 0, array.length);
+      } else {
+        for (int i = 0; i < array.length; i++) {
+          copy[i] = copier.copy(array[i]);
+        }
+      }
+
+      return copy;
+    };
+  }
+
+  /**
+   * The {@code platformPlan} method creates the plan of a class whose fields
+   * are not accessible, like the JDK classes.
+   *
+   * @param type class object
+   * @return {@link CopyPlan}
+   * @throws IllegalArgumentException if the objects of the class can not be copied
+   */
+  private static CopyPlan platformPlan(Class<?> type) {
+    if (type == Object.class) {
+      return (original, copier) -> copier.register(original, new Object());
+    } else if (type == Optional.class) {
+      return CopyUtils::copyOptional;
+    } else if (EnumSet.class.isAssignableFrom(type)) {
+      return (original, copier) -> copier.register(original, ((EnumSet<?>) original).clone());
+    } else if (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+      var factory = platformFactory(type);
+      return factory == null ? CopyUtils::copyToUnmodifiable : new ContainerPlan(factory);
+    } else if (Cloneable.class.isAssignableFrom(type)) {
+      return Try.of(() -> type.getMethod("clone"))
+          .map(ReflectionHandles::method)
+          .map(clone -> (CopyPlan) new ClonePlan(clone))
+          .getOrElseThrow(() -> new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.type"))));
+    }
+
+    throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.type")));
+  }
+
+  private static Object copyOptional(Object original, Copier copier) {
+    var value = ((Optional<?>) original).orElse(null);
+    var copy = copier.copy(value);
+    return copy == value ? original : copier.register(original, Optional.of(copy));
+  }
+
+  /**
+   * The {@code platformFactory} method returns the handle which creates an
+   * empty collection or map with the same type and comparator of the
+   * original one, or {@code null} if the type has not a suitable public
+   * constructor.
+   *
+   * @param type class object of a collection or map
+   * @return handle with type {@code (Object)Object} or {@code null}
+   */
+  private static MethodHandle platformFactory(Class<?> type) {
+    if (!Modifier.isPublic(type.getModifiers())) {
+      return null;
+    }
+
+    var base = Collection.class.isAssignableFrom(type) ? Collection.class : Map.class;
+    var comparator = Try.of(() -> MethodHandles.publicLookup()
+        .findVirtual(SortedSet.class.isAssignableFrom(type) ? SortedSet.class
+            : SortedMap.class.isAssignableFrom(type) ? SortedMap.class : PriorityQueue.class,
+            "comparator", methodType(Comparator.class)));
+    var byComparator = findConstructor(type, Comparator.class);
+
+    if (comparator.isSuccess() && byComparator != null && comparator.get().type().parameterType(0).isAssignableFrom(type)) {
+      return MethodHandles.filterArguments(byComparator, 0,
+          comparator.get().asType(methodType(Comparator.class, Object.class)));
+    }
+
+    var noArg = findConstructor(type);
+    if (noArg != null) {
+      return MethodHandles.dropArguments(noArg, 0, Object.class);
+    }
+
+    var byCopy = findConstructor(type, base);
+    return byCopy == null ? null : MethodHandles.filterReturnValue(byCopy.asType(methodType(Object.class, Object.class)),
+        Try.of(() -> MethodHandles.lookup().findStatic(CopyUtils.class, "clear", methodType(Object.class, Object.class))).get());
+  }
+
+  private static MethodHandle findConstructor(Class<?> type, Class<?>... parameterTypes) {
+    return Try.of(() -> MethodHandles.publicLookup().findConstructor(type, methodType(void.class, parameterTypes)))
+        .map(constructor -> constructor.asType(methodType(Object.class, parameterTypes)))
+        .getOrNull();
+  }
+
+  private static Object clear(Object container) {
+    if (container instanceof Collection<?> collection) {
+      collection.clear();
+    } else {
+      ((Map<?, ?>) container).clear();
+    }
+
+    return container;
+  }
+
+  /**
+   * The {@code copyToUnmodifiable} method copies a collection or map which
+   * can not be created, like the immutable collections, to an unmodifiable
+   * view. The original is shared if all of its elements are shared.
+   *
+   * @param original the collection or map
+   * @param copier   {@link Copier}
+   * @return the copy
+   */
+  @SuppressWarnings("unchecked")
+  private static Object copyToUnmodifiable(Object original, Copier copier) {
+    var shared = true;
+    Object copy;
+
+    if (original instanceof Map<?, ?> map) {
+      Map<Object, Object> content;
+      if (original instanceof SortedMap<?, ?> sorted) {
+        var sortedContent = new TreeMap<>((Comparator<Object>) sorted.comparator());
+        content = sortedContent;
+        copy = copier.register(original, Collections.unmodifiableSortedMap(sortedContent));
+      } else {
+        content = new LinkedHashMap<>();
+        copy = copier.register(original, Collections.unmodifiableMap(content));
+      }
+
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        var key = copier.copy(entry.getKey());
+        var value = copier.copy(entry.getValue());
+        shared &= key == entry.getKey() && value == entry.getValue();
+        content.put(key, value);
+      }
+    } else {
+      Collection<Object> content;
+      if (original instanceof SortedSet<?> sorted) {
+        var sortedContent = new TreeSet<>((Comparator<Object>) sorted.comparator());
+        content = sortedContent;
+        copy = copier.register(original, Collections.unmodifiableSortedSet(sortedContent));
+      } else if (original instanceof Set<?>) {
+        content = new LinkedHashSet<>();
+        copy = copier.register(original, Collections.unmodifiableSet((Set<Object>) content));
+      } else {
+        content = new ArrayList<>();
+        copy = copier.register(original, original instanceof List<?> ? Collections.unmodifiableList((List<Object>) content)
+            : Collections.unmodifiableCollection(content));
+      }
+
+      for (Object element : (Collection<?>) original) {
+        var value = copier.copy(element);
+        shared &= value == element;
+        content.add(value);
+      }
+    }
+
+    return shared ? copier.register(original, original) : copy;
+  }
+
+  /**
+   * The {@link CopyPlan} interface is the compiled copy function of a class.
+   *
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  @FunctionalInterface
+  private interface CopyPlan {
+
+    Object copy(Object original, Copier copier);
+  }
+
+  /**
+   * The {@link Copier} class keeps the copies of one deep copy by identity
+   * of the originals, so the shared references and the cycles are kept.
+   *
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class Copier {
+
+    private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+    Object copy(Object original) {
+      if (original == null) {
+        return null;
+      }
+
+      var plan = PLANS.get(original.getClass());
+      if (plan == SHARE) {
+        return original;
+      }
+
+      var copy = copies.get(original);
+      return copy == null ? plan.copy(original, this) : copy;
+    }
+
+    Object register(Object original, Object copy) {
+      copies.put(original, copy);
+      return copy;
+    }
+  }
+
+  /**
+   * The {@link BeanPlan} class copies the objects of a class by its no-arg
+   * constructor and a single handle which copies all the fields.
+   *
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class BeanPlan implements CopyPlan {
+
+    private static final MethodType FILL_TYPE = methodType(void.class, Object.class, Object.class, Copier.class);
+
+    private final MethodHandle constructor;
+
+    private final MethodHandle fill;
+
+    BeanPlan(Class<?> type) {
+      constructor = Try.of(() -> constructor(type.getDeclaredConstructor()))
+          .getOrElseThrow(() -> new IllegalArgumentException(i18n("error.validation.can.not.find", i18n("var.name.constructor"))));
+
+      var fill = MethodHandles.empty(FILL_TYPE);
+      for (Field field : ReflectionUtils.getDeepFields(type)) {
+        if (!Modifier.isStatic(field.getModifiers())) {
+          fill = MethodHandles.foldArguments(fill, step(field));
+        }
+      }
+
+      this.fill = fill;
+    }
+
+    /**
+     * The {@code step} method creates the handle which copies a field, the
+     * value is shared if the declared type is immutable, otherwise it is
+     * copied by the {@link Copier}.
+     *
+     * @param field {@link Field}
+     * @return handle with type {@code (Object copy, Object original, Copier)void}
+     */
+    private static MethodHandle step(Field field) {
+      var type = field.getType();
+      var setter = setter(field);
+
+      if (isShared(type)) {
+        return MethodHandles.dropArguments(MethodHandles.filterArguments(setter, 1, getter(field)), 2, Copier.class);
+      }
+
+      var value = MethodHandles.permuteArguments(
+          MethodHandles.filterArguments(COPY, 1, getter(field).asType(methodType(Object.class, Object.class))),
+          methodType(Object.class, Object.class, Copier.class), 1, 0);
+      return MethodHandles.collectArguments(setter, 1, value.asType(methodType(type, Object.class, Copier.class)));
+    }
+
+    @Override
+    public Object copy(Object original, Copier copier) {
+      try {
+        Object copy = constructor.invokeExact();
+        copier.register(original, copy);
+        fill.invokeExact(copy, original, copier);
+        return copy;
+      } catch (Throwable e) {
+        throw propagate(e);
+      }
+    }
+  }
+
+  /**
+   * The {@link RecordPlan} class copies the records by their canonical
+   * constructor. A record which is reached again while its components are
+   * being copied is shared, because it can not exist before its components.
+   *
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class RecordPlan implements CopyPlan {
+
+    private final RecordLayout layout;
+
+    RecordPlan(Class<?> type) {
+      layout = RecordLayout.of(type);
+    }
+
+    @Override
+    public Object copy(Object original, Copier copier) {
+      copier.register(original, original);
+
+      var values = new Object[layout.size()];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = copier.copy(layout.get(original, i));
+      }
+
+      return copier.register(original, layout.instantiate(values));
+    }
+  }
+
+  /**
+   * The {@link ContainerPlan} class copies the collections and maps to a new
+   * instance of the same type.
+   *
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class ContainerPlan implements CopyPlan {
+
+    private final MethodHandle factory;
+
+    ContainerPlan(MethodHandle factory) {
+      this.factory = factory;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object copy(Object original, Copier copier) {
+      Object copy;
+      try {
+        copy = factory.invokeExact(original);
+      } catch (Throwable e) {
+        throw propagate(e);
+      }
+
+      copier.register(original, copy);
+      if (original instanceof Map<?, ?> map) {
+        var content = (Map<Object, Object>) copy;
+        map.forEach((key, value) -> content.put(copier.copy(key), copier.copy(value)));
+      } else {
+        var content = (Collection<Object>) copy;
+        for (Object element : (Collection<?>) original) {
+          content.add(copier.copy(element));
+        }
+      }
+
+      return copy;
+    }
+  }
+
+  /**
+   * The {@link ClonePlan} class copies the cloneable JDK objects by their
+   * public {@code clone} method.
+   *
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class ClonePlan implements CopyPlan {
+
+    private final MethodHandle clone;
+
+    ClonePlan(MethodHandle clone) {
+      this.clone = clone.asType(methodType(Object.class, Object.class));
+    }
+
+    @Override
+    public Object copy(Object original, Copier copier) {
+      try {
+        Object copy = clone.invokeExact(original);
+        return copier.register(original, copy);
+      } catch (Throwable e) {
+        throw propagate(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,274 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.HashFunctions.checkHasher;
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static com.pineframework.core.helper.validator.ObjectValidator.requireNonNull;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.function.ToLongFunction;
+
+/**
+ * The {@link CountMinSketch} class estimates the frequency of the elements
+ * of a stream in a fixed memory, unlike {@link CollectionUtils#findFrequency}
+ * which keeps every distinct element.
+ * <p>
+ * The estimated count of an element is never less than its real count, and
+ * with the probability of {@code 1 - delta} it exceeds the real count by at
+ * most {@code epsilon} multiplied by the total count. The table has
+ * {@code ceil(e / epsilon)} columns and {@code ceil(ln(1 / delta))} rows.
+ * </p>
+ * <p>
+ * It is not thread safe, the sketches of different threads can be merged by
+ * {@link #merge(CountMinSketch)}. The elements are hashed by
+ * {@link HashFunctions} unless a hasher is given.
+ * </p>
+ *
+ * @param <T> type of elements
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see HyperLogLog
+ * @see HashFunctions
+ * @since 2022-01-01
+ */
+public final class CountMinSketch<T> {
+
+  private final int width;
+
+  private final int depth;
+
+  private final long[] table;
+
+  private final ToLongFunction<? super T> hasher;
+
+  private long size;
+
+  /**
+   * The constructor creates an empty sketch with the error bounds.
+   *
+   * @param epsilon maximum error as a fraction of the total count, between {@code 0} and {@code 1}
+   * @param delta   probability of exceeding the error, between {@code 0} and {@code 1}
+   * @throws IllegalArgumentException if {@code epsilon} or {@code delta} is out of range
+   */
+  public CountMinSketch(double epsilon, double delta) {
+    this(widthOf(epsilon), depthOf(delta), HashFunctions::hash);
+  }
+
+  /**
+   * The constructor creates an empty sketch with the error bounds whose
+   * elements are hashed by the hasher.
+   *
+   * @param epsilon maximum error as a fraction of the total count, between {@code 0} and {@code 1}
+   * @param delta   probability of exceeding the error, between {@code 0} and {@code 1}
+   * @param hasher  {@link ToLongFunction} which returns the 64-bit hash of an element
+   * @throws IllegalArgumentException if {@code epsilon} or {@code delta} is out of range, or {@code hasher} is {@code null}
+   */
+  public CountMinSketch(double epsilon, double delta, ToLongFunction<? super T> hasher) {
+    this(widthOf(epsilon), depthOf(delta), checkHasher(hasher));
+  }
+
+  private CountMinSketch(int width, int depth, ToLongFunction<? super T> hasher) {
+    if ((long) width * depth > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+    }
+
+    this.width = width;
+    this.depth = depth;
+    this.table = new long[width * depth];
+    this.hasher = hasher;
+  }
+
+  /**
+   * The {@code fromByteArray} method restores a sketch which is serialized
+   * by {@link #toByteArray()}.
+   *
+   * @param bytes serialized sketch
+   * @param <T>   type of elements
+   * @return {@link CountMinSketch}
+   * @throws IllegalArgumentException if {@code bytes} is {@code null} or it is not a serialized sketch
+   */
+  public static <T> CountMinSketch<T> fromByteArray(byte[] bytes) {
+    return fromByteArray(bytes, HashFunctions::hash);
+  }
+
+  /**
+   * The {@code fromByteArray} method restores a sketch which is serialized
+   * by {@link #toByteArray()}, the hasher should be the hasher of the
+   * serialized sketch.
+   *
+   * @param bytes  serialized sketch
+   * @param hasher {@link ToLongFunction} which returns the 64-bit hash of an element
+   * @param <T>    type of elements
+   * @return {@link CountMinSketch}
+   * @throws IllegalArgumentException if any parameter is {@code null} or {@code bytes} is not a serialized sketch
+   */
+  public static <T> CountMinSketch<T> fromByteArray(byte[] bytes, ToLongFunction<? super T> hasher) {
+    requireNonNull(bytes, i18n("error.validation.should.not.be.null", i18n("var.name.data")));
+    checkHasher(hasher);
+
+    try {
+      var buffer = ByteBuffer.wrap(bytes);
+      var width = buffer.getInt();
+      var depth = buffer.getInt();
+      if (width <= 0 || depth <= 0 || bytes.length != 16 + (long) width * depth * Long.BYTES) {
+        throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.data")));
+      }
+
+      var sketch = new CountMinSketch<T>(width, depth, hasher);
+      sketch.size = buffer.getLong();
+      buffer.asLongBuffer().get(sketch.table);
+      return sketch;
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.data")), e);
+    }
+  }
+
+  /**
+   * The {@code add} method adds one to the count of the element.
+   *
+   * @param element the element
+   */
+  public void add(T element) {
+    add(element, 1);
+  }
+
+  /**
+   * The {@code add} method adds the delta to the count of the element.
+   *
+   * @param element the element
+   * @param delta   positive number
+   * @throws IllegalArgumentException if {@code delta} is not positive
+   */
+  public void add(T element, long delta) {
+    if (delta <= 0) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.number")));
+    }
+
+    var hash = hasher.applyAsLong(element);
+    for (int row = 0; row < depth; row++) {
+      table[index(hash, row)] += delta;
+    }
+    size += delta;
+  }
+
+  /**
+   * The {@code estimate} method returns the estimated count of the element.
+   *
+   * @param element the element
+   * @return estimated count, it is not less than the real count
+   */
+  public long estimate(T element) {
+    var hash = hasher.applyAsLong(element);
+    var estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      estimate = Math.min(estimate, table[index(hash, row)]);
+    }
+
+    return estimate;
+  }
+
+  /**
+   * The {@code size} method returns the total count of the added elements.
+   *
+   * @return total count
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * The {@code width} method returns the number of columns of the table.
+   *
+   * @return number of columns
+   */
+  public int width() {
+    return width;
+  }
+
+  /**
+   * The {@code depth} method returns the number of rows of the table.
+   *
+   * @return number of rows
+   */
+  public int depth() {
+    return depth;
+  }
+
+  /**
+   * The {@code merge} method adds the counts of the other sketch to this
+   * sketch, the sketches should be created with the same error bounds.
+   *
+   * @param other {@link CountMinSketch}
+   * @return this sketch
+   * @throws IllegalArgumentException if the sizes of the tables are not equal
+   */
+  public CountMinSketch<T> merge(CountMinSketch<? extends T> other) {
+    if (other.width != width || other.depth != depth) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+    }
+
+    for (int i = 0; i < table.length; i++) {
+      table[i] += other.table[i];
+    }
+    size += other.size;
+
+    return this;
+  }
+
+  /**
+   * The {@code toByteArray} method serializes the sketch.
+   *
+   * @return serialized sketch
+   * @see #fromByteArray(byte[])
+   */
+  public byte[] toByteArray() {
+    var buffer = ByteBuffer.allocate(16 + table.length * Long.BYTES);
+    buffer.putInt(width).putInt(depth).putLong(size);
+    buffer.asLongBuffer().put(table);
+
+    return buffer.array();
+  }
+
+  @Override
+  public String toString() {
+    return "CountMinSketch[width=" + width + ", depth=" + depth + ", size=" + size + "]";
+  }
+
+  private int index(long hash, int row) {
+    var combined = (int) hash + row * (int) (hash >>> 32);
+    return row * width + (combined & Integer.MAX_VALUE) % width;
+  }
+
+  private static int widthOf(double epsilon) {
+    if (!(epsilon > 0 && epsilon < 1)) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.number")));
+    }
+
+    return (int) Math.ceil(Math.E / epsilon);
+  }
+
+  private static int depthOf(double delta) {
+    if (!(delta > 0 && delta < 1)) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.number")));
+    }
+
+    return (int) Math.ceil(Math.log(1 / delta));
+  }
+}
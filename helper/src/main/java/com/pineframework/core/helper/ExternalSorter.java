@@ -0,0 +1,636 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static com.pineframework.core.helper.validator.ObjectValidator.requireNonNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.vavr.control.Try;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The {@link ExternalSorter} class sorts, de-duplicates and counts the
+ * elements which do not fit in the heap.
+ * <p>
+ * The elements are collected in runs until the memory budget is used, then
+ * each run is sorted, its equal elements are collapsed to one element and a
+ * count, and it is spilled to a temporary file by the {@link Codec}. At the
+ * end the runs are merged by a k-way merge, so only one element of each run
+ * is kept in memory. If all the elements fit in one run, nothing is spilled.
+ * </p>
+ * <p>
+ * At most {@link #maxFanIn(int)} runs are opened at once, if there are more
+ * runs, the oldest ones are merged to a new run by intermediate passes until
+ * the remaining runs can be merged by the final pass.
+ * </p>
+ * <p>
+ * The returned streams are lazy and read the runs while they are consumed,
+ * the temporary files are deleted when a stream is exhausted or closed, so
+ * the streams should be used in a try-with-resources statement. The files
+ * are deleted too if a run can not be written or read. The {@code null}
+ * elements are not supported.
+ * </p>
+ * <pre>{@code
+ * var sorter = ExternalSorter.create(Codec.strings(), Comparator.<String>naturalOrder())
+ *     .memoryBudget(256L << 20)
+ *     .sizeEstimator(s -> 48 + s.length());
+ * try (var distinct = sorter.distinct(lines)) {
+ *   distinct.forEach(writer::println);
+ * }
+ * }</pre>
+ *
+ * @param <T> type of elements
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @since 2022-01-01
+ */
+public final class ExternalSorter<T> {
+
+  /**
+   * The default memory budget of a run, {@code 64} MB.
+   */
+  public static final long DEFAULT_MEMORY_BUDGET = 64L << 20;
+
+  /**
+   * The default maximum number of runs which are merged at once, {@code 64}.
+   */
+  public static final int DEFAULT_MAX_FAN_IN = 64;
+
+  private static final int SAMPLE_INTERVAL = 64;
+
+  private static final int REFERENCE_SIZE = 8;
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final Codec<T> codec;
+
+  private final Comparator<? super T> comparator;
+
+  private long memoryBudget = DEFAULT_MEMORY_BUDGET;
+
+  private int maxFanIn = DEFAULT_MAX_FAN_IN;
+
+  private ToLongFunction<? super T> sizeEstimator = MemoryUtils::deepSizeOf;
+
+  private Path directory;
+
+  private ExternalSorter(Codec<T> codec, Comparator<? super T> comparator) {
+    this.codec = codec;
+    this.comparator = comparator;
+  }
+
+  /**
+   * The {@code create} method is static factory method to
+   * create a new instance of {@link ExternalSorter}.
+   *
+   * @param codec      {@link Codec} which writes the elements to the runs
+   * @param comparator {@link Comparator} of the elements
+   * @param <T>        type of elements
+   * @return {@link ExternalSorter}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T> ExternalSorter<T> create(Codec<T> codec, Comparator<? super T> comparator) {
+    requireNonNull(codec, i18n("error.validation.should.not.be.null", i18n("var.name.convertor")));
+    requireNonNull(comparator, i18n("error.validation.should.not.be.null", i18n("var.name.comparator")));
+
+    return new ExternalSorter<>(codec, comparator);
+  }
+
+  /**
+   * The {@code memoryBudget} method sets the estimated number of bytes of
+   * the elements of a run.
+   *
+   * @param memoryBudget number of bytes
+   * @return {@link ExternalSorter}
+   * @throws IllegalArgumentException if {@code memoryBudget} is not positive
+   */
+  public ExternalSorter<T> memoryBudget(long memoryBudget) {
+    if (memoryBudget <= 0) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+    }
+
+    this.memoryBudget = memoryBudget;
+    return this;
+  }
+
+  /**
+   * The {@code maxFanIn} method sets the maximum number of runs which are
+   * opened and merged at once, each of them keeps an open file and a buffer.
+   *
+   * @param maxFanIn number of runs, at least {@code 2}
+   * @return {@link ExternalSorter}
+   * @throws IllegalArgumentException if {@code maxFanIn} is less than {@code 2}
+   */
+  public ExternalSorter<T> maxFanIn(int maxFanIn) {
+    if (maxFanIn < 2) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+    }
+
+    this.maxFanIn = maxFanIn;
+    return this;
+  }
+
+  /**
+   * The {@code sizeEstimator} method sets the function which estimates the
+   * number of bytes of an element, by default {@link MemoryUtils#deepSizeOf}.
+   * It is applied to one of every {@code 64} elements, and the estimate is
+   * used for the next elements too.
+   *
+   * @param sizeEstimator {@link ToLongFunction}
+   * @return {@link ExternalSorter}
+   * @throws IllegalArgumentException if {@code sizeEstimator} is {@code null}
+   */
+  public ExternalSorter<T> sizeEstimator(ToLongFunction<? super T> sizeEstimator) {
+    requireNonNull(sizeEstimator, i18n("error.validation.should.not.be.null", i18n("var.name.mapper")));
+
+    this.sizeEstimator = sizeEstimator;
+    return this;
+  }
+
+  /**
+   * The {@code directory} method sets the directory of the temporary files,
+   * by default the temporary directory of the system.
+   *
+   * @param directory {@link Path}
+   * @return {@link ExternalSorter}
+   * @throws IllegalArgumentException if {@code directory} is {@code null}
+   */
+  public ExternalSorter<T> directory(Path directory) {
+    requireNonNull(directory, i18n("error.validation.should.not.be.null", i18n("var.name.path")));
+
+    this.directory = directory;
+    return this;
+  }
+
+  /**
+   * The {@code sort} method returns the elements sorted by the comparator,
+   * the equal elements are repeated.
+   *
+   * @param elements {@link Iterator} of elements
+   * @return lazy sorted {@link Stream}
+   * @throws IllegalArgumentException if {@code elements} is {@code null}
+   */
+  public Stream<T> sort(Iterator<? extends T> elements) {
+    return merge(elements).flatMap(counted -> Stream.generate(counted::element).limit(counted.count()));
+  }
+
+  /**
+   * The {@code distinct} method returns the distinct elements sorted by the
+   * comparator.
+   *
+   * @param elements {@link Iterator} of elements
+   * @return lazy sorted {@link Stream}
+   * @throws IllegalArgumentException if {@code elements} is {@code null}
+   */
+  public Stream<T> distinct(Iterator<? extends T> elements) {
+    return merge(elements).map(Counted::element);
+  }
+
+  /**
+   * The {@code duplicates} method returns the repeated elements sorted by
+   * the comparator, each of them is returned once.
+   *
+   * @param elements {@link Iterator} of elements
+   * @return lazy sorted {@link Stream}
+   * @throws IllegalArgumentException if {@code elements} is {@code null}
+   */
+  public Stream<T> duplicates(Iterator<? extends T> elements) {
+    return merge(elements).filter(counted -> counted.count() > 1).map(Counted::element);
+  }
+
+  /**
+   * The {@code frequencies} method returns the distinct elements sorted by
+   * the comparator and their counts.
+   *
+   * @param elements {@link Iterator} of elements
+   * @return lazy sorted {@link Stream} of elements and counts
+   * @throws IllegalArgumentException if {@code elements} is {@code null}
+   */
+  public Stream<Map.Entry<T, Long>> frequencies(Iterator<? extends T> elements) {
+    return merge(elements).map(counted -> new AbstractMap.SimpleImmutableEntry<>(counted.element(), counted.count()));
+  }
+
+  private Stream<Counted<T>> merge(Iterator<? extends T> elements) {
+    requireNonNull(elements, i18n("error.validation.should.not.be.null", i18n("var.name.source")));
+
+    var runs = new ArrayList<Path>();
+    try {
+      var run = new ArrayList<T>();
+      var used = 0L;
+      var estimate = 0L;
+      while (elements.hasNext()) {
+        var element = elements.next();
+        if (run.size() % SAMPLE_INTERVAL == 0) {
+          estimate = sizeEstimator.applyAsLong(element) + REFERENCE_SIZE;
+        }
+        run.add(element);
+        used += estimate;
+
+        if (used >= memoryBudget) {
+          runs.add(spill(run));
+          run.clear();
+          used = 0;
+        }
+      }
+
+      if (runs.isEmpty()) {
+        run.sort(comparator);
+        return stream(new Collapse<>(run.iterator(), comparator), run::clear);
+      } else if (!run.isEmpty()) {
+        runs.add(spill(run));
+      }
+
+      while (runs.size() > maxFanIn) {
+        var group = new ArrayList<>(runs.subList(0, maxFanIn));
+        runs.subList(0, maxFanIn).clear();
+        var merge = new RunMerge<>(group, codec, comparator);
+        try {
+          runs.add(write(merge));
+        } finally {
+          merge.close();
+        }
+      }
+
+      var merge = new RunMerge<>(runs, codec, comparator);
+      return stream(merge, merge::close);
+    } catch (Throwable e) {
+      runs.forEach(ExternalSorter::delete);
+      throw e;
+    }
+  }
+
+  private Path spill(List<T> run) {
+    run.sort(comparator);
+    return write(new Collapse<>(run.iterator(), comparator));
+  }
+
+  private Path write(Iterator<Counted<T>> counts) {
+    var file = Try.of(() -> directory == null
+        ? Files.createTempFile("pine-sort-", ".run")
+        : Files.createTempFile(directory, "pine-sort-", ".run")).get();
+
+    Try.withResources(() -> new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE)))
+        .of(output -> {
+          while (counts.hasNext()) {
+            var counted = counts.next();
+            writeVarLong(output, counted.count());
+            codec.write(output, counted.element());
+          }
+          writeVarLong(output, 0);
+          return file;
+        })
+        .onFailure(e -> delete(file))
+        .get();
+
+    return file;
+  }
+
+  private static <E> Stream<E> stream(Iterator<E> iterator, Runnable close) {
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(close);
+  }
+
+  private static void delete(Path file) {
+    Try.run(() -> Files.deleteIfExists(file));
+  }
+
+  private static void writeVarLong(DataOutput output, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      output.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    output.writeByte((int) value);
+  }
+
+  private static long readVarLong(DataInput input) throws IOException {
+    var value = 0L;
+    for (int shift = 0; ; shift += 7) {
+      var b = input.readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+  }
+
+  /**
+   * The {@link Codec} interface writes the elements to the runs and reads
+   * them back.
+   *
+   * @param <T> type of elements
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  public interface Codec<T> {
+
+    /**
+     * The {@code write} method writes the element.
+     *
+     * @param output  {@link DataOutput}
+     * @param element the element
+     * @throws IOException if it can not be written
+     */
+    void write(DataOutput output, T element) throws IOException;
+
+    /**
+     * The {@code read} method reads an element.
+     *
+     * @param input {@link DataInput}
+     * @return the element
+     * @throws IOException if it can not be read
+     */
+    T read(DataInput input) throws IOException;
+
+    /**
+     * The {@code strings} method returns the codec of the strings, which
+     * writes the length and the UTF-8 bytes of them.
+     *
+     * @return {@link Codec}
+     */
+    static Codec<String> strings() {
+      return new Codec<>() {
+        @Override
+        public void write(DataOutput output, String element) throws IOException {
+          var bytes = element.getBytes(UTF_8);
+          writeVarLong(output, bytes.length);
+          output.write(bytes);
+        }
+
+        @Override
+        public String read(DataInput input) throws IOException {
+          var bytes = new byte[(int) readVarLong(input)];
+          input.readFully(bytes);
+          return new String(bytes, UTF_8);
+        }
+      };
+    }
+
+    /**
+     * The {@code longs} method returns the codec of the {@link Long} values,
+     * which writes them in the zigzag variable length format.
+     *
+     * @return {@link Codec}
+     */
+    static Codec<Long> longs() {
+      return new Codec<>() {
+        @Override
+        public void write(DataOutput output, Long element) throws IOException {
+          writeVarLong(output, (element << 1) ^ (element >> 63));
+        }
+
+        @Override
+        public Long read(DataInput input) throws IOException {
+          var value = readVarLong(input);
+          return (value >>> 1) ^ -(value & 1);
+        }
+      };
+    }
+
+    /**
+     * The {@code integers} method returns the codec of the {@link Integer}
+     * values, which writes them in the zigzag variable length format.
+     *
+     * @return {@link Codec}
+     */
+    static Codec<Integer> integers() {
+      return new Codec<>() {
+        @Override
+        public void write(DataOutput output, Integer element) throws IOException {
+          writeVarLong(output, Integer.toUnsignedLong((element << 1) ^ (element >> 31)));
+        }
+
+        @Override
+        public Integer read(DataInput input) throws IOException {
+          var value = (int) readVarLong(input);
+          return (value >>> 1) ^ -(value & 1);
+        }
+      };
+    }
+  }
+
+  /**
+   * The {@link Counted} record is an element and its count.
+   *
+   * @param element the element
+   * @param count   number of the equal elements
+   * @param <T>     type of element
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private record Counted<T>(T element, long count) {
+  }
+
+  /**
+   * The {@link Collapse} class collapses the equal adjacent elements of a
+   * sorted iterator to one element and a count.
+   *
+   * @param <T> type of elements
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class Collapse<T> implements Iterator<Counted<T>> {
+
+    private final Iterator<? extends T> elements;
+
+    private final Comparator<? super T> comparator;
+
+    private T head;
+
+    private boolean hasHead;
+
+    Collapse(Iterator<? extends T> elements, Comparator<? super T> comparator) {
+      this.elements = elements;
+      this.comparator = comparator;
+      advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return hasHead;
+    }
+
+    @Override
+    public Counted<T> next() {
+      if (!hasHead) {
+        throw new NoSuchElementException();
+      }
+
+      var element = head;
+      var count = 1L;
+      advance();
+      while (hasHead && comparator.compare(head, element) == 0) {
+        count++;
+        advance();
+      }
+
+      return new Counted<>(element, count);
+    }
+
+    private void advance() {
+      hasHead = elements.hasNext();
+      head = hasHead ? elements.next() : null;
+    }
+  }
+
+  /**
+   * The {@link RunMerge} class merges the sorted runs, and adds the counts
+   * of the equal elements of different runs.
+   *
+   * @param <T> type of elements
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class RunMerge<T> implements Iterator<Counted<T>> {
+
+    private final List<Path> files;
+
+    private final List<RunReader<T>> readers;
+
+    private final PriorityQueue<RunReader<T>> queue;
+
+    private final Comparator<? super T> comparator;
+
+    RunMerge(List<Path> files, Codec<T> codec, Comparator<? super T> comparator) {
+      this.files = files;
+      this.comparator = comparator;
+      this.readers = new ArrayList<>(files.size());
+      this.queue = new PriorityQueue<>(files.size(), (first, second) -> comparator.compare(first.head.element(), second.head.element()));
+
+      try {
+        for (var file : files) {
+          var reader = new RunReader<>(file, codec);
+          readers.add(reader);
+          if (reader.head != null) {
+            queue.add(reader);
+          }
+        }
+      } catch (Throwable e) {
+        close();
+        throw e;
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (queue.isEmpty()) {
+        close();
+        return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public Counted<T> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      var reader = queue.poll();
+      var element = reader.head.element();
+      var count = reader.head.count();
+      advance(reader);
+      while (!queue.isEmpty() && comparator.compare(queue.peek().head.element(), element) == 0) {
+        var next = queue.poll();
+        count += next.head.count();
+        advance(next);
+      }
+
+      return new Counted<>(element, count);
+    }
+
+    void close() {
+      readers.forEach(RunReader::close);
+      readers.clear();
+      queue.clear();
+      files.forEach(ExternalSorter::delete);
+    }
+
+    private void advance(RunReader<T> reader) {
+      reader.advance();
+      if (reader.head != null) {
+        queue.add(reader);
+      }
+    }
+  }
+
+  /**
+   * The {@link RunReader} class reads the elements of a run.
+   *
+   * @param <T> type of elements
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class RunReader<T> {
+
+    private final DataInputStream input;
+
+    private final Codec<T> codec;
+
+    private Counted<T> head;
+
+    RunReader(Path file, Codec<T> codec) {
+      this.input = Try.of(() -> new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE))).get();
+      this.codec = codec;
+      try {
+        advance();
+      } catch (Throwable e) {
+        close();
+        throw e;
+      }
+    }
+
+    void advance() {
+      head = Try.of(() -> {
+        var count = readVarLong(input);
+        return count == 0 ? null : new Counted<>(codec.read(input), count);
+      }).get();
+    }
+
+    void close() {
+      Try.run(input::close);
+    }
+  }
+}
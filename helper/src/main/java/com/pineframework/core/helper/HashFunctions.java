@@ -0,0 +1,144 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static com.pineframework.core.helper.validator.ObjectValidator.requireNonNull;
+
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * The {@link HashFunctions} class provides the 64-bit hash functions which
+ * are used by the probabilistic data structures like {@link CountMinSketch},
+ * {@link HyperLogLog} and {@link BloomFilter}.
+ * <p>
+ * The strings, the byte arrays and the boxed primitives are hashed by their
+ * content to 64 bits, the other objects are hashed by their 32-bit hash codes,
+ * so at most {@code 2^32} of them are distinguished and the colliding ones
+ * share their counts, registers or bits. A {@code ToLongFunction} hasher
+ * should be given to the data structures for them if they are many, and the
+ * serialized data structures are only valid with the same hasher.
+ * </p>
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @since 2022-01-01
+ */
+final class HashFunctions {
+
+  private static final long SEED = 0x9E3779B97F4A7C15L;
+
+  private static final long PRIME = 0x100000001B3L;
+
+  private HashFunctions() {
+  }
+
+  /**
+   * The {@code hash} method returns the 64-bit hash of the object, the hash of
+   * {@code null} is the hash of {@code 0}.
+   *
+   * @param value the object
+   * @return 64-bit hash
+   */
+  static long hash(Object value) {
+    if (value instanceof String string) {
+      return hash(string);
+    } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      return hash(((Number) value).longValue());
+    } else if (value instanceof Double number) {
+      return hash(Double.doubleToLongBits(number));
+    } else if (value instanceof Float number) {
+      return hash(Float.floatToIntBits(number));
+    } else if (value instanceof Character character) {
+      return hash(character.charValue());
+    } else if (value instanceof byte[] bytes) {
+      return hash(bytes);
+    }
+
+    return hash(Objects.hashCode(value));
+  }
+
+  /**
+   * The {@code hash} method returns the 64-bit hash of the value, the distinct
+   * values have distinct hashes.
+   *
+   * @param value the value
+   * @return 64-bit hash
+   */
+  static long hash(long value) {
+    return mix(value ^ SEED);
+  }
+
+  /**
+   * The {@code hash} method returns the 64-bit hash of the characters of the
+   * string.
+   *
+   * @param value the string
+   * @return 64-bit hash
+   */
+  static long hash(CharSequence value) {
+    var hash = SEED ^ value.length();
+    for (int i = 0; i < value.length(); i++) {
+      hash = (hash ^ value.charAt(i)) * PRIME;
+    }
+
+    return mix(hash);
+  }
+
+  /**
+   * The {@code hash} method returns the 64-bit hash of the bytes.
+   *
+   * @param value the bytes
+   * @return 64-bit hash
+   */
+  static long hash(byte[] value) {
+    var hash = SEED ^ value.length;
+    for (var b : value) {
+      hash = (hash ^ (b & 0xFF)) * PRIME;
+    }
+
+    return mix(hash);
+  }
+
+  /**
+   * The {@code checkHasher} method checks the {@code hasher} is null or not.
+   *
+   * @param hasher {@link ToLongFunction}
+   * @param <T>    type of elements
+   * @return {@code hasher}
+   * @throws IllegalArgumentException if {@code hasher} is {@code null}
+   */
+  static <T> ToLongFunction<T> checkHasher(ToLongFunction<T> hasher) {
+    requireNonNull(hasher, i18n("error.validation.should.not.be.null", i18n("var.name.mapper")));
+    return hasher;
+  }
+
+  /**
+   * The {@code mix} method spreads the bits of the value by the finalizer of
+   * MurmurHash3.
+   *
+   * @param value the value
+   * @return 64-bit hash
+   */
+  static long mix(long value) {
+    value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+    value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+    return value ^ (value >>> 33);
+  }
+}
@@ -0,0 +1,249 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.HashFunctions.checkHasher;
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static com.pineframework.core.helper.validator.ObjectValidator.requireNonNull;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * The {@link HyperLogLog} class estimates the number of distinct elements of
+ * a stream in a fixed memory.
+ * <p>
+ * The elements are hashed to {@code 2^precision} registers of one byte, and
+ * the standard error of the estimate is about {@code 1.04 / sqrt(2^precision)}.
+ * The precision is chosen from the relative error, between {@code 4} and
+ * {@code 18}, so a sketch takes at most {@code 256} KB, and a relative error
+ * which needs a higher precision is rejected.
+ * </p>
+ * <p>
+ * It is not thread safe, the sketches of different threads can be merged by
+ * {@link #merge(HyperLogLog)}. The elements are hashed to 64 bits, so the
+ * estimates do not need a correction for large cardinalities. The elements
+ * are hashed by {@link HashFunctions} unless a hasher is given.
+ * </p>
+ *
+ * @param <T> type of elements
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see CountMinSketch
+ * @see HashFunctions
+ * @since 2022-01-01
+ */
+public final class HyperLogLog<T> {
+
+  private static final int MIN_PRECISION = 4;
+
+  private static final int MAX_PRECISION = 18;
+
+  private final int precision;
+
+  private final byte[] registers;
+
+  private final ToLongFunction<? super T> hasher;
+
+  /**
+   * The constructor creates an empty sketch with the relative error.
+   *
+   * @param relativeError expected standard error, between {@code 0} and {@code 1}
+   * @throws IllegalArgumentException if {@code relativeError} is out of range or less than {@code 1.04 / 512}
+   */
+  public HyperLogLog(double relativeError) {
+    this(precisionOf(relativeError), HashFunctions::hash);
+  }
+
+  /**
+   * The constructor creates an empty sketch with the relative error whose
+   * elements are hashed by the hasher.
+   *
+   * @param relativeError expected standard error, between {@code 0} and {@code 1}
+   * @param hasher        {@link ToLongFunction} which returns the 64-bit hash of an element
+   * @throws IllegalArgumentException if {@code relativeError} is out of range or less than {@code 1.04 / 512},
+   *                                  or {@code hasher} is {@code null}
+   */
+  public HyperLogLog(double relativeError, ToLongFunction<? super T> hasher) {
+    this(precisionOf(relativeError), checkHasher(hasher));
+  }
+
+  private HyperLogLog(int precision, ToLongFunction<? super T> hasher) {
+    this.precision = precision;
+    this.registers = new byte[1 << precision];
+    this.hasher = hasher;
+  }
+
+  /**
+   * The {@code fromByteArray} method restores a sketch which is serialized
+   * by {@link #toByteArray()}.
+   *
+   * @param bytes serialized sketch
+   * @param <T>   type of elements
+   * @return {@link HyperLogLog}
+   * @throws IllegalArgumentException if {@code bytes} is {@code null} or it is not a serialized sketch
+   */
+  public static <T> HyperLogLog<T> fromByteArray(byte[] bytes) {
+    return fromByteArray(bytes, HashFunctions::hash);
+  }
+
+  /**
+   * The {@code fromByteArray} method restores a sketch which is serialized
+   * by {@link #toByteArray()}, the hasher should be the hasher of the
+   * serialized sketch.
+   *
+   * @param bytes  serialized sketch
+   * @param hasher {@link ToLongFunction} which returns the 64-bit hash of an element
+   * @param <T>    type of elements
+   * @return {@link HyperLogLog}
+   * @throws IllegalArgumentException if any parameter is {@code null} or {@code bytes} is not a serialized sketch
+   */
+  public static <T> HyperLogLog<T> fromByteArray(byte[] bytes, ToLongFunction<? super T> hasher) {
+    requireNonNull(bytes, i18n("error.validation.should.not.be.null", i18n("var.name.data")));
+    checkHasher(hasher);
+    if (bytes.length == 0 || bytes[0] < MIN_PRECISION || bytes[0] > MAX_PRECISION || bytes.length != 1 + (1 << bytes[0])) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.data")));
+    }
+
+    var sketch = new HyperLogLog<T>(bytes[0], hasher);
+    System.arraycopy(bytes, 1, sketch.registers, 0, sketch.registers.length);
+    return sketch;
+  }
+
+  /**
+   * The {@code add} method adds the element to the sketch.
+   *
+   * @param element the element
+   */
+  public void add(T element) {
+    var hash = hasher.applyAsLong(element);
+    var index = (int) (hash >>> (Long.SIZE - precision));
+    var rank = (byte) (Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1);
+    if (registers[index] < rank) {
+      registers[index] = rank;
+    }
+  }
+
+  /**
+   * The {@code cardinality} method returns the estimated number of distinct
+   * elements.
+   *
+   * @return estimated number of distinct elements
+   */
+  public long cardinality() {
+    var count = registers.length;
+    var sum = 0.0;
+    var zeros = 0;
+    for (var register : registers) {
+      sum += 1.0 / (1L << register);
+      if (register == 0) {
+        zeros++;
+      }
+    }
+
+    var estimate = alpha(count) * count * count / sum;
+    if (estimate <= 2.5 * count && zeros > 0) {
+      estimate = count * Math.log((double) count / zeros);
+    }
+
+    return Math.round(estimate);
+  }
+
+  /**
+   * The {@code precision} method returns the number of bits which select
+   * the register of an element.
+   *
+   * @return precision
+   */
+  public int precision() {
+    return precision;
+  }
+
+  /**
+   * The {@code relativeError} method returns the standard error of the
+   * estimates of the sketch.
+   *
+   * @return standard error
+   */
+  public double relativeError() {
+    return 1.04 / Math.sqrt(registers.length);
+  }
+
+  /**
+   * The {@code merge} method adds the elements of the other sketch to this
+   * sketch, the sketches should be created with the same relative error.
+   *
+   * @param other {@link HyperLogLog}
+   * @return this sketch
+   * @throws IllegalArgumentException if the precisions are not equal
+   */
+  public HyperLogLog<T> merge(HyperLogLog<? extends T> other) {
+    if (other.precision != precision) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+    }
+
+    for (int i = 0; i < registers.length; i++) {
+      if (registers[i] < other.registers[i]) {
+        registers[i] = other.registers[i];
+      }
+    }
+
+    return this;
+  }
+
+  /**
+   * The {@code toByteArray} method serializes the sketch.
+   *
+   * @return serialized sketch
+   * @see #fromByteArray(byte[])
+   */
+  public byte[] toByteArray() {
+    var bytes = new byte[1 + registers.length];
+    bytes[0] = (byte) precision;
+    System.arraycopy(registers, 0, bytes, 1, registers.length);
+
+    return bytes;
+  }
+
+  @Override
+  public String toString() {
+    return "HyperLogLog[precision=" + precision + ", cardinality=" + cardinality() + "]";
+  }
+
+  private static double alpha(int count) {
+    return switch (count) {
+      case 16 -> 0.673;
+      case 32 -> 0.697;
+      case 64 -> 0.709;
+      default -> 0.7213 / (1 + 1.079 / count);
+    };
+  }
+
+  private static int precisionOf(double relativeError) {
+    if (!(relativeError > 0 && relativeError < 1)) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.number")));
+    }
+
+    var registers = Math.pow(1.04 / relativeError, 2);
+    var precision = (int) Math.ceil(Math.log(registers) / Math.log(2));
+    if (precision > MAX_PRECISION) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.number")));
+    }
+
+    return Math.max(MIN_PRECISION, precision);
+  }
+}
@@ -0,0 +1,294 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * The {@link IntHashSet} class is a set of {@code int} values which does
+ * not box the values.
+ * <p>
+ * The values are kept in an open addressing hash table with linear probing,
+ * so every value takes about 4 to 8 bytes instead of the about 32 bytes of
+ * a {@link Integer} in a {@link java.util.HashSet}. The {@code 0} value is kept
+ * out of the table because it marks the free slots.
+ * </p>
+ * <p>
+ * It is not thread safe.
+ * </p>
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @since 2022-01-01
+ */
+public final class IntHashSet {
+
+  private static final int MIN_CAPACITY = 8;
+
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private int[] table;
+
+  private int mask;
+
+  private int size;
+
+  private boolean containsZero;
+
+  /**
+   * The constructor creates an empty set.
+   */
+  public IntHashSet() {
+    this(MIN_CAPACITY);
+  }
+
+  /**
+   * The constructor creates an empty set which can keep the expected number
+   * of values without growing.
+   *
+   * @param expectedSize expected number of values
+   * @throws IllegalArgumentException if {@code expectedSize} is negative or too large
+   */
+  public IntHashSet(int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+    }
+
+    allocate(capacity(expectedSize));
+  }
+
+  /**
+   * The {@code of} method creates a set of the values.
+   *
+   * @param values values
+   * @return {@link IntHashSet}
+   */
+  public static IntHashSet of(int... values) {
+    var set = new IntHashSet(values.length);
+    for (int value : values) {
+      set.add(value);
+    }
+
+    return set;
+  }
+
+  /**
+   * The {@code add} method adds the value to the set.
+   *
+   * @param value the value
+   * @return {@code true} if the set did not contain the value
+   */
+  public boolean add(int value) {
+    if (value == 0) {
+      var added = !containsZero;
+      containsZero = true;
+      size += added ? 1 : 0;
+      return added;
+    }
+
+    var index = index(value);
+    for (int current = table[index]; current != 0; current = table[index]) {
+      if (current == value) {
+        return false;
+      }
+      index = (index + 1) & mask;
+    }
+
+    table[index] = value;
+    if (++size > (table.length >> 1) + (table.length >> 2)) {
+      rehash(table.length << 1);
+    }
+
+    return true;
+  }
+
+  /**
+   * The {@code contains} method checks the set contains the value.
+   *
+   * @param value the value
+   * @return {@code true} if the set contains the value
+   */
+  public boolean contains(int value) {
+    if (value == 0) {
+      return containsZero;
+    }
+
+    var index = index(value);
+    for (int current = table[index]; current != 0; current = table[index]) {
+      if (current == value) {
+        return true;
+      }
+      index = (index + 1) & mask;
+    }
+
+    return false;
+  }
+
+  /**
+   * The {@code remove} method removes the value from the set.
+   *
+   * @param value the value
+   * @return {@code true} if the set contained the value
+   */
+  public boolean remove(int value) {
+    if (value == 0) {
+      var removed = containsZero;
+      containsZero = false;
+      size -= removed ? 1 : 0;
+      return removed;
+    }
+
+    var index = index(value);
+    for (int current = table[index]; current != 0; current = table[index]) {
+      if (current == value) {
+        shiftBack(index);
+        size--;
+        return true;
+      }
+      index = (index + 1) & mask;
+    }
+
+    return false;
+  }
+
+  /**
+   * The {@code size} method returns the number of values.
+   *
+   * @return number of values
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * The {@code isEmpty} method checks the set has no value.
+   *
+   * @return {@code true} if the set has no value
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * The {@code clear} method removes all the values.
+   */
+  public void clear() {
+    Arrays.fill(table, 0);
+    containsZero = false;
+    size = 0;
+  }
+
+  /**
+   * The {@code forEach} method performs the action for each value, the order
+   * of values is not specified.
+   *
+   * @param action {@link IntConsumer}
+   */
+  public void forEach(IntConsumer action) {
+    if (containsZero) {
+      action.accept(0);
+    }
+
+    for (int value : table) {
+      if (value != 0) {
+        action.accept(value);
+      }
+    }
+  }
+
+  /**
+   * The {@code toArray} method returns the values in an array, the order
+   * of values is not specified.
+   *
+   * @return array of values
+   */
+  public int[] toArray() {
+    var array = new int[size];
+    var index = containsZero ? 1 : 0;
+    for (int value : table) {
+      if (value != 0) {
+        array[index++] = value;
+      }
+    }
+
+    return array;
+  }
+
+  @Override
+  public String toString() {
+    var values = toArray();
+    Arrays.sort(values);
+    return Arrays.toString(values);
+  }
+
+  private int index(int value) {
+    var hash = value * 0x9E3779B9;
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+  private void shiftBack(int index) {
+    var free = index;
+    var next = (index + 1) & mask;
+
+    for (int current = table[next]; current != 0; current = table[next]) {
+      var home = index(current);
+      if (((next - home) & mask) >= ((next - free) & mask)) {
+        table[free] = current;
+        free = next;
+      }
+      next = (next + 1) & mask;
+    }
+
+    table[free] = 0;
+  }
+
+  private void rehash(int capacity) {
+    var old = table;
+    allocate(capacity);
+
+    for (int value : old) {
+      if (value != 0) {
+        var index = index(value);
+        while (table[index] != 0) {
+          index = (index + 1) & mask;
+        }
+        table[index] = value;
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    table = new int[capacity];
+    mask = capacity - 1;
+  }
+
+  private static int capacity(int expectedSize) {
+    var capacity = MIN_CAPACITY;
+    while (capacity - (capacity >> 2) <= expectedSize) {
+      if (capacity == MAX_CAPACITY) {
+        throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+      }
+      capacity <<= 1;
+    }
+
+    return capacity;
+  }
+}
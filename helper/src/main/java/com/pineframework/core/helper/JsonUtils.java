@@ -193,6 +193,10 @@ public final class JsonUtils {
 
   /**
    * The {@code readPrimitive} method returns the primitive field as a primitive wrapper.
+   * <p>
+   * The numbers, booleans and texts are converted from their java values
+   * instead of their JSON representation.
+   * </p>
    *
    * @param jsonString JSON as a string
    * @param fieldName  name of JSON field
@@ -207,7 +211,7 @@ public final class JsonUtils {
     requireNonNull(type, i18n("error.validation.should.not.be.null", i18n("var.name.type")));
 
     JsonNode jsonNode = Try.of(() -> OBJECT_MAPPER.readValue(jsonString, JsonNode.class)).get();
-    return ReflectionUtils.toJavaBasicType(jsonNode.get(fieldName), type);
+    return ReflectionUtils.toJavaBasicType(valueOf(jsonNode.get(fieldName)), type);
   }
 
   /**
@@ -283,4 +287,18 @@ public final class JsonUtils {
 
     return Try.of(() -> OBJECT_MAPPER.writerWithView(view).writeValueAsString(obj)).get();
   }
+
+  private static Object valueOf(JsonNode node) {
+    if (node == null) {
+      return null;
+    } else if (node.isNumber()) {
+      return node.numberValue();
+    } else if (node.isBoolean()) {
+      return node.booleanValue();
+    } else if (node.isTextual()) {
+      return node.textValue();
+    }
+
+    return node;
+  }
 }
@@ -0,0 +1,310 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * The {@link LongCounter} class counts the {@code long} values without
+ * boxing the values and the counts.
+ * <p>
+ * The values and their counts are kept in two parallel arrays of an open
+ * addressing hash table with linear probing, and the counts are incremented
+ * in place. A slot whose count is {@code 0} is free, so the counts are always
+ * positive, and the slots after a removed value are shifted back instead
+ * of leaving a tombstone.
+ * </p>
+ * <p>
+ * It is not thread safe.
+ * </p>
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see LongHashSet
+ * @since 2022-01-01
+ */
+public final class LongCounter {
+
+  private static final int MIN_CAPACITY = 8;
+
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private long[] keys;
+
+  private long[] counts;
+
+  private int mask;
+
+  private int size;
+
+  /**
+   * The constructor creates an empty counter.
+   */
+  public LongCounter() {
+    this(MIN_CAPACITY);
+  }
+
+  /**
+   * The constructor creates an empty counter which can keep the expected
+   * number of values without growing.
+   *
+   * @param expectedSize expected number of distinct values
+   * @throws IllegalArgumentException if {@code expectedSize} is negative or too large
+   */
+  public LongCounter(int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+    }
+
+    allocate(capacity(expectedSize));
+  }
+
+  /**
+   * The {@code increment} method adds one to the count of the value.
+   *
+   * @param key the value
+   * @return new count of the value
+   */
+  public long increment(long key) {
+    return add(key, 1);
+  }
+
+  /**
+   * The {@code add} method adds the delta to the count of the value.
+   *
+   * @param key   the value
+   * @param delta positive number
+   * @return new count of the value
+   * @throws IllegalArgumentException if {@code delta} is not positive
+   */
+  public long add(long key, long delta) {
+    if (delta <= 0) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.number")));
+    }
+
+    var index = index(key);
+    while (counts[index] != 0) {
+      if (keys[index] == key) {
+        return counts[index] += delta;
+      }
+      index = (index + 1) & mask;
+    }
+
+    keys[index] = key;
+    counts[index] = delta;
+    if (++size > (keys.length >> 1) + (keys.length >> 2)) {
+      rehash(keys.length << 1);
+    }
+
+    return delta;
+  }
+
+  /**
+   * The {@code get} method returns the count of the value.
+   *
+   * @param key the value
+   * @return count of the value, {@code 0} if it is not counted
+   */
+  public long get(long key) {
+    var index = index(key);
+    while (counts[index] != 0) {
+      if (keys[index] == key) {
+        return counts[index];
+      }
+      index = (index + 1) & mask;
+    }
+
+    return 0;
+  }
+
+  /**
+   * The {@code remove} method removes the value and its count.
+   *
+   * @param key the value
+   * @return removed count of the value, {@code 0} if it is not counted
+   */
+  public long remove(long key) {
+    var index = index(key);
+    while (counts[index] != 0) {
+      if (keys[index] == key) {
+        var count = counts[index];
+        shiftBack(index);
+        size--;
+        return count;
+      }
+      index = (index + 1) & mask;
+    }
+
+    return 0;
+  }
+
+  /**
+   * The {@code size} method returns the number of distinct values.
+   *
+   * @return number of distinct values
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * The {@code merge} method adds the counts of the other counter to this
+   * counter.
+   *
+   * @param other {@link LongCounter}
+   * @return this counter
+   */
+  public LongCounter merge(LongCounter other) {
+    other.forEach(this::add);
+
+    return this;
+  }
+
+  /**
+   * The {@code forEach} method performs the action for each value and its
+   * count, the order of values is not specified.
+   *
+   * @param action {@link KeyCountConsumer}
+   */
+  public void forEach(KeyCountConsumer action) {
+    for (int i = 0; i < keys.length; i++) {
+      if (counts[i] != 0) {
+        action.accept(keys[i], counts[i]);
+      }
+    }
+  }
+
+  /**
+   * The {@code keysByCount} method returns the values which are sorted by
+   * their counts in descending order.
+   *
+   * @return array of values
+   */
+  public long[] keysByCount() {
+    return slotsByCount().mapToLong(i -> keys[i]).toArray();
+  }
+
+  /**
+   * The {@code toMap} method returns the values and their counts in a
+   * {@link Map}, the values and the counts are boxed.
+   *
+   * @return {@link Map}
+   */
+  public Map<Long, Long> toMap() {
+    var map = new HashMap<Long, Long>(size * 4 / 3 + 1);
+    forEach(map::put);
+
+    return map;
+  }
+
+  @Override
+  public String toString() {
+    return toMap().toString();
+  }
+
+  private IntStream slotsByCount() {
+    return IntStream.range(0, counts.length)
+        .filter(i -> counts[i] != 0)
+        .boxed()
+        .sorted(Comparator.comparingLong(i -> -counts[i]))
+        .mapToInt(Integer::intValue);
+  }
+
+  private int index(long key) {
+    var hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+
+  private void shiftBack(int index) {
+    var free = index;
+    var next = (index + 1) & mask;
+
+    while (counts[next] != 0) {
+      var home = index(keys[next]);
+      if (((next - home) & mask) >= ((next - free) & mask)) {
+        keys[free] = keys[next];
+        counts[free] = counts[next];
+        free = next;
+      }
+      next = (next + 1) & mask;
+    }
+
+    keys[free] = 0;
+    counts[free] = 0;
+  }
+
+  private void rehash(int capacity) {
+    var oldKeys = keys;
+    var oldCounts = counts;
+    allocate(capacity);
+
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldCounts[i] != 0) {
+        var index = index(oldKeys[i]);
+        while (counts[index] != 0) {
+          index = (index + 1) & mask;
+        }
+        keys[index] = oldKeys[i];
+        counts[index] = oldCounts[i];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    counts = new long[capacity];
+    mask = capacity - 1;
+  }
+
+  private static int capacity(int expectedSize) {
+    var capacity = MIN_CAPACITY;
+    while (capacity - (capacity >> 2) <= expectedSize) {
+      if (capacity == MAX_CAPACITY) {
+        throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+      }
+      capacity <<= 1;
+    }
+
+    return capacity;
+  }
+
+  /**
+   * The {@link KeyCountConsumer} interface is the action which is performed
+   * for each value and its count.
+   *
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  @FunctionalInterface
+  public interface KeyCountConsumer {
+
+    /**
+     * The {@code accept} method performs the action.
+     *
+     * @param key   the value
+     * @param count count of the value
+     */
+    void accept(long key, long count);
+  }
+}
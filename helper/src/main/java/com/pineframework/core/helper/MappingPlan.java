@@ -0,0 +1,303 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static com.pineframework.core.helper.ReflectionHandles.constructor;
+import static com.pineframework.core.helper.ReflectionHandles.getter;
+import static com.pineframework.core.helper.ReflectionHandles.propagate;
+import static com.pineframework.core.helper.ReflectionHandles.setter;
+import static com.pineframework.core.helper.ReflectionHandles.wrap;
+import static com.pineframework.core.helper.validator.ObjectValidator.requireNonNull;
+import static java.lang.invoke.MethodType.methodType;
+
+import io.vavr.control.Try;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The {@link MappingPlan} class maps the objects of a source type to the
+ * objects of a target type.
+ * <p>
+ * A target field is filled by the source field with the same name, if the
+ * type of the source field is assignable to it, or the source field is a basic
+ * type whose value can be converted by a converter which is registered for
+ * the pair of types in the default
+ * {@link com.pineframework.core.helper.converter.TypeConverterRegistry}, the
+ * other fields are skipped. The default matching can be overridden by
+ * {@link MappingRules}.
+ * </p>
+ * <p>
+ * The plan is compiled once to a single {@link MethodHandle} chain, so
+ * mapping an object does not use reflection. A record target is created by
+ * its canonical constructor, the other targets need a no-arg constructor.
+ * </p>
+ *
+ * @param <S> source type
+ * @param <T> target type
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @since 2022-01-01
+ */
+public final class MappingPlan<S, T> {
+
+  private static final MethodType COPIER_TYPE = methodType(void.class, Object.class, Object.class);
+
+  private static final MethodHandle NON_NULL = Try.of(() -> MethodHandles.lookup().findStatic(Objects.class, "nonNull",
+      methodType(boolean.class, Object.class))).get();
+
+  private static final MethodHandle APPLY = Try.of(() -> MethodHandles.lookup().findVirtual(Function.class, "apply",
+      methodType(Object.class, Object.class))).get();
+
+  private final Class<S> sourceType;
+
+  private final Class<T> targetType;
+
+  private final MethodHandle copier;
+
+  private final MethodHandle factory;
+
+  private MappingPlan(Class<S> sourceType, Class<T> targetType, MethodHandle copier, MethodHandle factory) {
+    this.sourceType = sourceType;
+    this.targetType = targetType;
+    this.copier = copier;
+    this.factory = factory;
+  }
+
+  /**
+   * The {@code compile} method creates the mapping plan of the source type
+   * to the target type.
+   *
+   * @param sourceType class object of source
+   * @param targetType class object of target
+   * @param rules      {@link MappingRules}
+   * @param <S>        source type
+   * @param <T>        target type
+   * @return {@link MappingPlan}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  static <S, T> MappingPlan<S, T> compile(Class<S> sourceType, Class<T> targetType, MappingRules rules) {
+    requireNonNull(sourceType, i18n("error.validation.should.not.be.null", i18n("var.name.source")));
+    requireNonNull(targetType, i18n("error.validation.should.not.be.null", i18n("var.name.target")));
+    requireNonNull(rules, i18n("error.validation.should.not.be.null", i18n("var.name.rule")));
+
+    Map<String, Field> sourceFields = new HashMap<>();
+    ReflectionUtils.getDeepFields(sourceType).stream()
+        .filter(MappingPlan::isInstanceField)
+        .forEach(field -> sourceFields.putIfAbsent(field.getName(), field));
+
+    return targetType.isRecord()
+        ? new MappingPlan<>(sourceType, targetType, null, recordFactory(targetType, sourceFields, rules))
+        : beanPlan(sourceType, targetType, sourceFields, rules);
+  }
+
+  /**
+   * The {@code sourceType} method returns the class object of source.
+   *
+   * @return {@link Class}
+   */
+  public Class<S> sourceType() {
+    return sourceType;
+  }
+
+  /**
+   * The {@code targetType} method returns the class object of target.
+   *
+   * @return {@link Class}
+   */
+  public Class<T> targetType() {
+    return targetType;
+  }
+
+  /**
+   * The {@code map} method creates a new target and fills it by the source.
+   *
+   * @param source source object
+   * @return target object
+   * @throws IllegalArgumentException if {@code source} is {@code null} or the target type has not a no-arg constructor
+   */
+  @SuppressWarnings("unchecked")
+  public T map(S source) {
+    requireNonNull(source, i18n("error.validation.should.not.be.null", i18n("var.name.source")));
+
+    if (factory == null) {
+      throw new IllegalArgumentException(i18n("error.validation.can.not.find", i18n("var.name.constructor")));
+    }
+
+    try {
+      Object target = factory.invokeExact((Object) source);
+      return (T) target;
+    } catch (Throwable e) {
+      throw propagate(e);
+    }
+  }
+
+  /**
+   * The {@code map} method fills the existing target by the source.
+   *
+   * @param source source object
+   * @param target target object
+   * @return the target object
+   * @throws IllegalArgumentException      if any parameter is {@code null}
+   * @throws UnsupportedOperationException if the target is a record
+   */
+  public T map(S source, T target) {
+    requireNonNull(source, i18n("error.validation.should.not.be.null", i18n("var.name.source")));
+    requireNonNull(target, i18n("error.validation.should.not.be.null", i18n("var.name.target")));
+
+    if (copier == null) {
+      throw new UnsupportedOperationException(i18n("error.validation.is.wrong", i18n("var.name.target")));
+    }
+
+    try {
+      copier.invokeExact((Object) target, (Object) source);
+      return target;
+    } catch (Throwable e) {
+      throw propagate(e);
+    }
+  }
+
+  private static <S, T> MappingPlan<S, T> beanPlan(Class<S> sourceType, Class<T> targetType, Map<String, Field> sourceFields,
+                                                   MappingRules rules) {
+    List<MethodHandle> steps = new ArrayList<>();
+    Set<String> names = new HashSet<>();
+
+    for (Field field : ReflectionUtils.getDeepFields(targetType)) {
+      if (isInstanceField(field) && !Modifier.isFinal(field.getModifiers()) && names.add(field.getName())) {
+        value(sourceFields, field.getName(), field.getType(), rules)
+            .ifPresent(value -> steps.add(MethodHandles.filterArguments(setter(field), 1, value)));
+      }
+    }
+
+    var copier = MethodHandles.empty(COPIER_TYPE);
+    for (int i = steps.size() - 1; i >= 0; i--) {
+      copier = MethodHandles.foldArguments(copier, steps.get(i));
+    }
+
+    final var fill = MethodHandles.foldArguments(
+        MethodHandles.dropArguments(MethodHandles.identity(Object.class), 1, Object.class), copier);
+    var factory = Try.of(() -> targetType.getDeclaredConstructor())
+        .map(constructor -> MethodHandles.collectArguments(fill, 0, constructor(constructor)))
+        .getOrNull();
+
+    return new MappingPlan<>(sourceType, targetType, copier, factory);
+  }
+
+  private static MethodHandle recordFactory(Class<?> targetType, Map<String, Field> sourceFields, MappingRules rules) {
+    var layout = RecordLayout.of(targetType);
+    var values = new MethodHandle[layout.size()];
+
+    for (int i = 0; i < values.length; i++) {
+      var type = layout.type(i);
+      values[i] = value(sourceFields, layout.name(i), type, rules)
+          .orElseGet(() -> MethodHandles.empty(methodType(type, Object.class)));
+    }
+
+    return MethodHandles.permuteArguments(MethodHandles.filterArguments(layout.constructor(), 0, values),
+        methodType(Object.class, Object.class), new int[values.length]);
+  }
+
+  /**
+   * The {@code value} method creates the handle which reads the value of a
+   * target field from the source, it returns an empty {@link Optional} if
+   * the field is ignored, or there is no matched source field.
+   *
+   * @param sourceFields fields of source by name
+   * @param name         name of target field
+   * @param type         class object of target field
+   * @param rules        {@link MappingRules}
+   * @return {@link Optional} of handle with type {@code (Object)type}
+   */
+  private static Optional<MethodHandle> value(Map<String, Field> sourceFields, String name, Class<?> type, MappingRules rules) {
+    var field = rules.isIgnored(name) ? null : sourceFields.get(rules.sourceField(name));
+    if (field == null) {
+      return Optional.empty();
+    }
+
+    var getter = getter(field);
+    var raw = getter.asType(methodType(Object.class, Object.class));
+    var converter = rules.converter(name);
+
+    if (converter == null) {
+      var source = field.getType();
+
+      if (type.isAssignableFrom(source) || source.isPrimitive()) {
+        var direct = Try.of(() -> getter.asType(methodType(type, Object.class))).toJavaOptional();
+        if (direct.isPresent()) {
+          return direct;
+        }
+      } else if (type.isPrimitive() && wrap(type) == source) {
+        return Optional.of(nullSafe(raw, getter.asType(methodType(type, Object.class)), type));
+      }
+
+      converter = basicConverter(wrap(source), wrap(type)).orElse(null);
+      if (converter == null) {
+        return Optional.empty();
+      }
+    }
+
+    var converted = MethodHandles.filterReturnValue(raw, APPLY.bindTo(converter)).asType(methodType(type, Object.class));
+    return Optional.of(nullSafe(raw, converted, type));
+  }
+
+  /**
+   * The {@code basicConverter} method returns the converter of a basic source
+   * type to the target type, the fallback converter of {@link Object} is not
+   * used, so a field with the same name and an unrelated type is not matched.
+   *
+   * @param source wrapped class object of source field
+   * @param target wrapped class object of target field
+   * @return {@link Optional} of converter
+   */
+  private static Optional<Function<Object, Object>> basicConverter(Class<?> source, Class<?> target) {
+    if (!isBasic(source)) {
+      return Optional.empty();
+    }
+
+    var fallback = ReflectionUtils.findConverter(Object.class, target).orElse(null);
+    return ReflectionUtils.findConverter(source, target).filter(converter -> converter != fallback);
+  }
+
+  private static boolean isBasic(Class<?> type) {
+    return Number.class.isAssignableFrom(type) || type == Boolean.class || type == Character.class || type == String.class
+        || Temporal.class.isAssignableFrom(type) || Date.class.isAssignableFrom(type);
+  }
+
+  private static MethodHandle nullSafe(MethodHandle raw, MethodHandle value, Class<?> type) {
+    return MethodHandles.guardWithTest(MethodHandles.filterReturnValue(raw, NON_NULL), value,
+        MethodHandles.empty(methodType(type, Object.class)));
+  }
+
+  private static boolean isInstanceField(Field field) {
+    return !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic();
+  }
+}
@@ -0,0 +1,126 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static com.pineframework.core.helper.validator.ObjectValidator.requireNonNull;
+import static com.pineframework.core.helper.validator.StringValidator.requireNonEmptyOrNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The {@link MappingRules} class keeps the rules which override the default
+ * matching of a {@link MappingPlan}.
+ * <p>
+ * By default, a target field is filled by the source field with the same
+ * name, the rules can rename the source field, ignore the target field or
+ * convert the value by a custom converter.
+ * </p>
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @since 2022-01-01
+ */
+public final class MappingRules {
+
+  private final Map<String, String> renames = new HashMap<>();
+
+  private final Set<String> ignores = new HashSet<>();
+
+  private final Map<String, Function<Object, Object>> converters = new HashMap<>();
+
+  private MappingRules() {
+  }
+
+  /**
+   * The {@code create} method is static factory method to
+   * create a new instance of {@link MappingRules}.
+   *
+   * @return {@link MappingRules}
+   */
+  public static MappingRules create() {
+    return new MappingRules();
+  }
+
+  /**
+   * The {@code rename} method fills the target field by the source field
+   * with the other name.
+   *
+   * @param targetField name of the target field
+   * @param sourceField name of the source field
+   * @return {@link MappingRules}
+   * @throws IllegalArgumentException if any parameter is {@code null} or empty
+   */
+  public MappingRules rename(String targetField, String sourceField) {
+    requireNonEmptyOrNull(targetField, i18n("error.validation.should.not.be.emptyOrNull", i18n("var.name.field")));
+    requireNonEmptyOrNull(sourceField, i18n("error.validation.should.not.be.emptyOrNull", i18n("var.name.field")));
+
+    renames.put(targetField, sourceField);
+    return this;
+  }
+
+  /**
+   * The {@code ignore} method leaves the target field untouched.
+   *
+   * @param targetField name of the target field
+   * @return {@link MappingRules}
+   * @throws IllegalArgumentException if {@code targetField} is {@code null} or empty
+   */
+  public MappingRules ignore(String targetField) {
+    requireNonEmptyOrNull(targetField, i18n("error.validation.should.not.be.emptyOrNull", i18n("var.name.field")));
+
+    ignores.add(targetField);
+    return this;
+  }
+
+  /**
+   * The {@code convert} method converts the value of the source field by the
+   * converter before filling the target field.
+   * <p>
+   * The converter is not called for {@code null} values.
+   * </p>
+   *
+   * @param targetField name of the target field
+   * @param converter   {@link Function}
+   * @return {@link MappingRules}
+   * @throws IllegalArgumentException if {@code targetField} is {@code null} or empty, or {@code converter} is {@code null}
+   */
+  public MappingRules convert(String targetField, Function<Object, Object> converter) {
+    requireNonEmptyOrNull(targetField, i18n("error.validation.should.not.be.emptyOrNull", i18n("var.name.field")));
+    requireNonNull(converter, i18n("error.validation.should.not.be.null", i18n("var.name.convertor")));
+
+    converters.put(targetField, converter);
+    return this;
+  }
+
+  String sourceField(String targetField) {
+    return renames.getOrDefault(targetField, targetField);
+  }
+
+  boolean isIgnored(String targetField) {
+    return ignores.contains(targetField);
+  }
+
+  Function<Object, Object> converter(String targetField) {
+    return converters.get(targetField);
+  }
+}
@@ -0,0 +1,136 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static com.pineframework.core.helper.validator.ObjectValidator.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link MappingUtils} class provides utility functions to map objects
+ * of a type to objects of another type, like entities to DTOs.
+ * <ul>
+ *   <li>{@link #plan(Class, Class)}</li>
+ *   <li>{@link #plan(Class, Class, MappingRules)}</li>
+ *   <li>{@link #map(Object, Class)}</li>
+ *   <li>{@link #mapAll(Collection, Class)}</li>
+ * </ul>
+ * <p>
+ * The default {@link MappingPlan} of each pair of source and target type is
+ * compiled once and cached.
+ * </p>
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @since 2022-01-01
+ */
+public final class MappingUtils {
+
+  private static final ClassValue<Map<Class<?>, MappingPlan<?, ?>>> PLANS = new ClassValue<>() {
+    @Override
+    protected Map<Class<?>, MappingPlan<?, ?>> computeValue(Class<?> source) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private MappingUtils() {
+  }
+
+  /**
+   * The {@code plan} method returns the cached default mapping plan of the
+   * source type to the target type.
+   *
+   * @param sourceType class object of source
+   * @param targetType class object of target
+   * @param <S>        source type
+   * @param <T>        target type
+   * @return {@link MappingPlan}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  @SuppressWarnings("unchecked")
+  public static <S, T> MappingPlan<S, T> plan(Class<S> sourceType, Class<T> targetType) {
+    requireNonNull(sourceType, i18n("error.validation.should.not.be.null", i18n("var.name.source")));
+    requireNonNull(targetType, i18n("error.validation.should.not.be.null", i18n("var.name.target")));
+
+    return (MappingPlan<S, T>) PLANS.get(sourceType)
+        .computeIfAbsent(targetType, t -> MappingPlan.compile(sourceType, t, MappingRules.create()));
+  }
+
+  /**
+   * The {@code plan} method compiles a new mapping plan of the source type to
+   * the target type by the rules.
+   * <p>
+   * The plan is not cached, so it should be kept by the caller.
+   * </p>
+   *
+   * @param sourceType class object of source
+   * @param targetType class object of target
+   * @param rules      {@link MappingRules}
+   * @param <S>        source type
+   * @param <T>        target type
+   * @return {@link MappingPlan}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <S, T> MappingPlan<S, T> plan(Class<S> sourceType, Class<T> targetType, MappingRules rules) {
+    return MappingPlan.compile(sourceType, targetType, rules);
+  }
+
+  /**
+   * The {@code map} method creates a new target and fills it by the source,
+   * by the cached default mapping plan.
+   *
+   * @param source     source object
+   * @param targetType class object of target
+   * @param <T>        target type
+   * @return target object
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T map(Object source, Class<T> targetType) {
+    requireNonNull(source, i18n("error.validation.should.not.be.null", i18n("var.name.source")));
+
+    return ((MappingPlan<Object, T>) plan(source.getClass(), targetType)).map(source);
+  }
+
+  /**
+   * The {@code mapAll} method maps all elements of the collection, the
+   * {@code null} elements are mapped to {@code null}.
+   *
+   * @param sources    {@link Collection} of source objects
+   * @param targetType class object of target
+   * @param <T>        target type
+   * @return {@link List} of target objects
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T> List<T> mapAll(Collection<?> sources, Class<T> targetType) {
+    requireNonNull(sources, i18n("error.validation.should.not.be.null", i18n("var.name.collection")));
+    requireNonNull(targetType, i18n("error.validation.should.not.be.null", i18n("var.name.target")));
+
+    List<T> targets = new ArrayList<>(sources.size());
+    for (Object source : sources) {
+      targets.add(source == null ? null : map(source, targetType));
+    }
+
+    return targets;
+  }
+}
@@ -0,0 +1,404 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static com.pineframework.core.helper.ReflectionHandles.getter;
+import static com.pineframework.core.helper.ReflectionHandles.isOpen;
+import static com.pineframework.core.helper.ReflectionHandles.propagate;
+import static com.pineframework.core.helper.validator.ObjectValidator.requireNonNull;
+import static java.lang.invoke.MethodType.methodType;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import io.vavr.control.Try;
+import java.lang.invoke.MethodHandle;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+/**
+ * The {@link MemoryUtils} class provides utility functions to estimate the
+ * memory size of objects.
+ * <ul>
+ *   <li>{@link #shallowSizeOf(Class)}</li>
+ *   <li>{@link #shallowSizeOf(Object)}</li>
+ *   <li>{@link #deepSizeOf(Object)}</li>
+ * </ul>
+ * <p>
+ * The sizes are computed from the field layout of the classes, the object
+ * header, the reference size and the object alignment of the running JVM,
+ * like compressed oops. The shallow size and the reference fields of each
+ * class are computed once and cached.
+ * </p>
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @since 2022-01-01
+ */
+public final class MemoryUtils {
+
+  private static final SizePlan SHARED = (object, pending) -> 0;
+
+  private static final Set<Class<?>> COMPACT_TYPES = Set.of(Set.of(1).getClass(), Set.of(1, 2, 3).getClass(),
+      Map.of(1, 1).getClass(), Map.of(1, 1, 2, 2, 3, 3).getClass());
+
+  private static final ClassValue<Long> SHALLOW_SIZES = new ClassValue<>() {
+    @Override
+    protected Long computeValue(Class<?> type) {
+      var size = (long) Layout.OBJECT_HEADER;
+      for (var current = type; current != null; current = current.getSuperclass()) {
+        for (Field field : current.getDeclaredFields()) {
+          if (!Modifier.isStatic(field.getModifiers())) {
+            size += sizeOf(field.getType());
+          }
+        }
+      }
+
+      return align(size);
+    }
+  };
+
+  private static final ClassValue<SizePlan> PLANS = new ClassValue<>() {
+    @Override
+    protected SizePlan computeValue(Class<?> type) {
+      return compile(type);
+    }
+  };
+
+  private MemoryUtils() {
+  }
+
+  /**
+   * The {@code shallowSizeOf} method returns the size of an object of the
+   * class without the objects it refers to.
+   *
+   * @param type class object
+   * @return size in bytes
+   * @throws IllegalArgumentException if {@code type} is {@code null}, an array or a primitive type
+   */
+  public static long shallowSizeOf(Class<?> type) {
+    requireNonNull(type, i18n("error.validation.should.not.be.null", i18n("var.name.type")));
+    if (type.isArray() || type.isPrimitive()) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.type")));
+    }
+
+    return SHALLOW_SIZES.get(type);
+  }
+
+  /**
+   * The {@code shallowSizeOf} method returns the size of the object without
+   * the objects it refers to, the size of an array includes its elements if
+   * they are primitives, otherwise its references.
+   *
+   * @param object the object
+   * @return size in bytes
+   * @throws IllegalArgumentException if {@code object} is {@code null}
+   */
+  public static long shallowSizeOf(Object object) {
+    requireNonNull(object, i18n("error.validation.should.not.be.null", i18n("var.name.object")));
+
+    var type = object.getClass();
+    return type.isArray() ? arraySize(type.getComponentType(), Array.getLength(object)) : SHALLOW_SIZES.get(type);
+  }
+
+  /**
+   * The {@code deepSizeOf} method returns the estimated retained size of the
+   * object graph, each object is counted once even if it is referred more
+   * than once.
+   * <p>
+   * The enum constants and the {@link Class} objects are shared by the whole
+   * application, so they are not counted. The internal structure of the JDK
+   * collections and maps is estimated from their size, and the other JDK
+   * objects whose fields are not accessible are counted by their shallow size.
+   * </p>
+   *
+   * @param object the object
+   * @return size in bytes, {@code 0} if {@code object} is {@code null}
+   */
+  public static long deepSizeOf(Object object) {
+    if (object == null) {
+      return 0;
+    }
+
+    Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    Deque<Object> pending = new ArrayDeque<>();
+    pending.push(object);
+
+    var size = 0L;
+    while (!pending.isEmpty()) {
+      var current = pending.pop();
+      if (visited.add(current)) {
+        size += PLANS.get(current.getClass()).visit(current, pending);
+      }
+    }
+
+    return size;
+  }
+
+  private static SizePlan compile(Class<?> type) {
+    if (Enum.class.isAssignableFrom(type) || type == Class.class) {
+      return SHARED;
+    } else if (type.isArray()) {
+      return type.getComponentType().isPrimitive() ? MemoryUtils::primitiveArraySize : MemoryUtils::objectArraySize;
+    } else if (type == String.class) {
+      return MemoryUtils::stringSize;
+    } else if (isOpen(type)) {
+      return new FieldPlan(type);
+    } else if (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+      return new ContainerPlan(type);
+    }
+
+    final var size = SHALLOW_SIZES.get(type);
+    return (object, pending) -> size;
+  }
+
+  private static long primitiveArraySize(Object array, Deque<Object> pending) {
+    return arraySize(array.getClass().getComponentType(), Array.getLength(array));
+  }
+
+  private static long objectArraySize(Object array, Deque<Object> pending) {
+    var elements = (Object[]) array;
+    for (Object element : elements) {
+      push(pending, element);
+    }
+
+    return arraySize(Object.class, elements.length);
+  }
+
+  /**
+   * The {@code stringSize} method returns the size of a string and its
+   * content, a string which has only latin-1 characters keeps one byte
+   * per character.
+   *
+   * @param string  the string
+   * @param pending objects which are not visited yet
+   * @return size in bytes
+   */
+  private static long stringSize(Object string, Deque<Object> pending) {
+    var value = (String) string;
+    var bytesPerChar = 1;
+
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) > 0xFF) {
+        bytesPerChar = 2;
+        break;
+      }
+    }
+
+    return SHALLOW_SIZES.get(String.class) + arraySize(byte.class, (long) value.length() * bytesPerChar);
+  }
+
+  private static long arraySize(Class<?> componentType, long length) {
+    return align(Layout.ARRAY_HEADER + length * sizeOf(componentType));
+  }
+
+  private static int sizeOf(Class<?> type) {
+    if (type == long.class || type == double.class) {
+      return 8;
+    } else if (type == int.class || type == float.class) {
+      return 4;
+    } else if (type == short.class || type == char.class) {
+      return 2;
+    } else if (type == byte.class || type == boolean.class) {
+      return 1;
+    }
+
+    return Layout.REFERENCE_SIZE;
+  }
+
+  private static long align(long size) {
+    var alignment = Layout.ALIGNMENT;
+    return (size + alignment - 1) / alignment * alignment;
+  }
+
+  private static void push(Deque<Object> pending, Object value) {
+    if (value != null) {
+      pending.push(value);
+    }
+  }
+
+  /**
+   * The {@link Layout} class keeps the memory layout of the running JVM,
+   * the default values are the values of a 64-bit HotSpot JVM with
+   * compressed oops. The flags are read from the {@code jdk.management}
+   * module if it is present, otherwise the default values are used.
+   *
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class Layout {
+
+    private static final boolean COMPRESSED_OOPS = flag("UseCompressedOops", "true").equals("true");
+
+    private static final boolean COMPRESSED_CLASS_POINTERS = flag("UseCompressedClassPointers", "true").equals("true");
+
+    private static final int REFERENCE_SIZE = COMPRESSED_OOPS ? 4 : 8;
+
+    private static final int OBJECT_HEADER = COMPRESSED_CLASS_POINTERS ? 12 : 16;
+
+    private static final int ARRAY_HEADER = COMPRESSED_CLASS_POINTERS ? 16 : 20;
+
+    private static final int ALIGNMENT = Integer.parseInt(flag("ObjectAlignmentInBytes", "8"));
+
+    private static String flag(String name, String defaultValue) {
+      if (ModuleLayer.boot().findModule("jdk.management").isEmpty()) {
+        return defaultValue;
+      }
+
+      return Try.of(() -> ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class).getVMOption(name).getValue())
+          .getOrElse(defaultValue);
+    }
+  }
+
+  /**
+   * The {@link SizePlan} interface is the compiled size function of a class,
+   * it returns the size of an object and pushes the objects it refers to.
+   *
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  @FunctionalInterface
+  private interface SizePlan {
+
+    long visit(Object object, Deque<Object> pending);
+  }
+
+  /**
+   * The {@link FieldPlan} class returns the shallow size of an object and
+   * pushes the values of its reference fields.
+   *
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class FieldPlan implements SizePlan {
+
+    private final long size;
+
+    private final MethodHandle[] references;
+
+    FieldPlan(Class<?> type) {
+      size = SHALLOW_SIZES.get(type);
+      references = ReflectionUtils.getDeepFields(type).stream()
+          .filter(field -> !Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive())
+          .map(field -> getter(field).asType(methodType(Object.class, Object.class)))
+          .toArray(MethodHandle[]::new);
+    }
+
+    @Override
+    public long visit(Object object, Deque<Object> pending) {
+      try {
+        for (MethodHandle reference : references) {
+          push(pending, (Object) reference.invokeExact(object));
+        }
+      } catch (Throwable e) {
+        throw propagate(e);
+      }
+
+      return size;
+    }
+  }
+
+  /**
+   * The {@link ContainerPlan} class estimates the size of the JDK collections
+   * and maps from their size, their nodes or their backing array, and pushes
+   * their elements.
+   *
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class ContainerPlan implements SizePlan {
+
+    private final long size;
+
+    private final Structure structure;
+
+    private final long nodeSize;
+
+    ContainerPlan(Class<?> type) {
+      size = SHALLOW_SIZES.get(type);
+
+      var reference = Layout.REFERENCE_SIZE;
+      var linked = LinkedHashMap.class.isAssignableFrom(type) || LinkedHashSet.class.isAssignableFrom(type);
+      var compact = COMPACT_TYPES.contains(type);
+
+      if (SortedMap.class.isAssignableFrom(type) || SortedSet.class.isAssignableFrom(type)) {
+        structure = Structure.NODES;
+        nodeSize = align(Layout.OBJECT_HEADER + 5L * reference + 1);
+      } else if (!compact && (Map.class.isAssignableFrom(type) || Set.class.isAssignableFrom(type))) {
+        structure = Structure.HASHED;
+        nodeSize = align(Layout.OBJECT_HEADER + 4L + (linked ? 5L : 3L) * reference);
+      } else if (LinkedList.class.isAssignableFrom(type)) {
+        structure = Structure.NODES;
+        nodeSize = align(Layout.OBJECT_HEADER + 3L * reference);
+      } else {
+        structure = Structure.ARRAY;
+        nodeSize = 0;
+      }
+    }
+
+    @Override
+    public long visit(Object object, Deque<Object> pending) {
+      int count;
+      if (object instanceof Map<?, ?> map) {
+        count = map.size();
+        map.forEach((key, value) -> {
+          push(pending, key);
+          push(pending, value);
+        });
+      } else {
+        var collection = (Collection<?>) object;
+        count = collection.size();
+        collection.forEach(element -> push(pending, element));
+      }
+
+      return switch (structure) {
+        case ARRAY -> size + arraySize(Object.class, count);
+        case NODES -> size + count * nodeSize;
+        case HASHED -> size + count * nodeSize + arraySize(Object.class, tableSize(count));
+      };
+    }
+
+    private static int tableSize(int count) {
+      return Integer.highestOneBit(Math.max(16, (int) (count / 0.75f) + 1) - 1) << 1;
+    }
+
+    /**
+     * The {@link Structure} enum is the internal structure of a container.
+     */
+    private enum Structure {
+      ARRAY, NODES, HASHED
+    }
+  }
+}
@@ -0,0 +1,344 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * The {@link ObjectCounter} class counts the objects without boxing the
+ * counts, the {@code null} object is counted too.
+ * <p>
+ * The objects and their counts are kept in two parallel arrays of an open
+ * addressing hash table with linear probing, and the counts are incremented
+ * in place. A slot whose count is {@code 0} is free, so the counts are always
+ * positive, and the slots after a removed object are shifted back instead
+ * of leaving a tombstone.
+ * </p>
+ * <p>
+ * It is not thread safe.
+ * </p>
+ *
+ * @param <T> type of objects
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @since 2022-01-01
+ */
+public final class ObjectCounter<T> {
+
+  private static final Object NULL = new Object();
+
+  private static final int MIN_CAPACITY = 8;
+
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private Object[] keys;
+
+  private long[] counts;
+
+  private int mask;
+
+  private int size;
+
+  /**
+   * The constructor creates an empty counter.
+   */
+  public ObjectCounter() {
+    this(MIN_CAPACITY);
+  }
+
+  /**
+   * The constructor creates an empty counter which can keep the expected
+   * number of objects without growing.
+   *
+   * @param expectedSize expected number of distinct objects
+   * @throws IllegalArgumentException if {@code expectedSize} is negative or too large
+   */
+  public ObjectCounter(int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+    }
+
+    allocate(capacity(expectedSize));
+  }
+
+  /**
+   * The {@code increment} method adds one to the count of the object.
+   *
+   * @param key the object
+   * @return new count of the object
+   */
+  public long increment(T key) {
+    return add(key, 1);
+  }
+
+  /**
+   * The {@code add} method adds the delta to the count of the object.
+   *
+   * @param key   the object
+   * @param delta positive number
+   * @return new count of the object
+   * @throws IllegalArgumentException if {@code delta} is not positive
+   */
+  public long add(T key, long delta) {
+    if (delta <= 0) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.number")));
+    }
+
+    Object masked = key == null ? NULL : key;
+    var index = index(masked);
+    while (counts[index] != 0) {
+      if (keys[index].equals(masked)) {
+        return counts[index] += delta;
+      }
+      index = (index + 1) & mask;
+    }
+
+    keys[index] = masked;
+    counts[index] = delta;
+    if (++size > (keys.length >> 1) + (keys.length >> 2)) {
+      rehash(keys.length << 1);
+    }
+
+    return delta;
+  }
+
+  /**
+   * The {@code get} method returns the count of the object.
+   *
+   * @param key the object
+   * @return count of the object, {@code 0} if it is not counted
+   */
+  public long get(T key) {
+    Object masked = key == null ? NULL : key;
+    var index = index(masked);
+    while (counts[index] != 0) {
+      if (keys[index].equals(masked)) {
+        return counts[index];
+      }
+      index = (index + 1) & mask;
+    }
+
+    return 0;
+  }
+
+  /**
+   * The {@code remove} method removes the object and its count.
+   *
+   * @param key the object
+   * @return removed count of the object, {@code 0} if it is not counted
+   */
+  public long remove(T key) {
+    Object masked = key == null ? NULL : key;
+    var index = index(masked);
+    while (counts[index] != 0) {
+      if (keys[index].equals(masked)) {
+        var count = counts[index];
+        shiftBack(index);
+        size--;
+        return count;
+      }
+      index = (index + 1) & mask;
+    }
+
+    return 0;
+  }
+
+  /**
+   * The {@code size} method returns the number of distinct objects.
+   *
+   * @return number of distinct objects
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * The {@code merge} method adds the counts of the other counter to this
+   * counter.
+   *
+   * @param other {@link ObjectCounter}
+   * @return this counter
+   */
+  public ObjectCounter<T> merge(ObjectCounter<? extends T> other) {
+    other.forEach(this::add);
+
+    return this;
+  }
+
+  /**
+   * The {@code forEach} method performs the action for each object and its
+   * count, the order of objects is not specified.
+   *
+   * @param action {@link ObjLongConsumer} of object and count
+   */
+  public void forEach(ObjLongConsumer<? super T> action) {
+    for (int i = 0; i < keys.length; i++) {
+      if (counts[i] != 0) {
+        action.accept(key(i), counts[i]);
+      }
+    }
+  }
+
+  /**
+   * The {@code keysByCount} method returns the objects which are sorted by
+   * their counts in descending order.
+   *
+   * @return {@link List} of objects
+   */
+  public List<T> keysByCount() {
+    return slotsByCount().mapToObj(this::key).toList();
+  }
+
+  /**
+   * The {@code keysByCount} method returns the most frequent objects which
+   * are sorted by their counts in descending order.
+   * <p>
+   * Only the limit number of objects are kept in a heap while the counts are
+   * scanned, so it takes {@code O(n log limit)} time instead of sorting all
+   * the objects.
+   * </p>
+   *
+   * @param limit maximum number of objects
+   * @return {@link List} of objects
+   * @throws IllegalArgumentException if {@code limit} is negative
+   */
+  public List<T> keysByCount(int limit) {
+    if (limit < 0) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+    } else if (limit == 0) {
+      return List.of();
+    }
+
+    var heap = new PriorityQueue<Integer>(Math.min(limit, size) + 1, Comparator.comparingLong(i -> counts[i]));
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] != 0 && (heap.size() < limit || counts[i] > counts[heap.peek()])) {
+        heap.add(i);
+        if (heap.size() > limit) {
+          heap.poll();
+        }
+      }
+    }
+
+    var list = new ArrayList<T>(heap.size());
+    while (!heap.isEmpty()) {
+      list.add(key(heap.poll()));
+    }
+    Collections.reverse(list);
+
+    return list;
+  }
+
+  /**
+   * The {@code toMap} method returns the objects and their counts in a
+   * {@link Map}, the counts are boxed.
+   *
+   * @return {@link Map}
+   */
+  public Map<T, Long> toMap() {
+    var map = new HashMap<T, Long>(size * 4 / 3 + 1);
+    forEach(map::put);
+
+    return map;
+  }
+
+  @Override
+  public String toString() {
+    return toMap().toString();
+  }
+
+  private IntStream slotsByCount() {
+    return IntStream.range(0, counts.length)
+        .filter(i -> counts[i] != 0)
+        .boxed()
+        .sorted(Comparator.comparingLong(i -> -counts[i]))
+        .mapToInt(Integer::intValue);
+  }
+
+  @SuppressWarnings("unchecked")
+  private T key(int index) {
+    return keys[index] == NULL ? null : (T) keys[index];
+  }
+
+  private int index(Object key) {
+    var hash = key.hashCode() * 0x9E3779B9;
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+  private void shiftBack(int index) {
+    var free = index;
+    var next = (index + 1) & mask;
+
+    while (counts[next] != 0) {
+      var home = index(keys[next]);
+      if (((next - home) & mask) >= ((next - free) & mask)) {
+        keys[free] = keys[next];
+        counts[free] = counts[next];
+        free = next;
+      }
+      next = (next + 1) & mask;
+    }
+
+    keys[free] = null;
+    counts[free] = 0;
+  }
+
+  private void rehash(int capacity) {
+    var oldKeys = keys;
+    var oldCounts = counts;
+    allocate(capacity);
+
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldCounts[i] != 0) {
+        var index = index(oldKeys[i]);
+        while (counts[index] != 0) {
+          index = (index + 1) & mask;
+        }
+        keys[index] = oldKeys[i];
+        counts[index] = oldCounts[i];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new Object[capacity];
+    counts = new long[capacity];
+    mask = capacity - 1;
+  }
+
+  private static int capacity(int expectedSize) {
+    var capacity = MIN_CAPACITY;
+    while (capacity - (capacity >> 2) <= expectedSize) {
+      if (capacity == MAX_CAPACITY) {
+        throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+      }
+      capacity <<= 1;
+    }
+
+    return capacity;
+  }
+}
@@ -22,15 +22,13 @@ import static com.pineframework.core.helper.JdbcUtils.createSpliterator;
 import static com.pineframework.core.helper.validator.ObjectValidator.requireNonNull;
 import static com.pineframework.core.helper.validator.StringValidator.requireNonEmptyOrNull;
 
+import com.pineframework.core.helper.converter.TypeConverterRegistry;
 import io.vavr.control.Try;
 import java.sql.Connection;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Properties;
-import java.util.function.Function;
 import java.util.stream.StreamSupport;
 import oracle.jdbc.OracleConnection;
 import oracle.jdbc.OracleStatement;
@@ -149,19 +147,23 @@ public final class OracleJdbcUtils {
 
   /**
    * The {@code convertToJavaType} converts a data with Oracle database data type to a data with Java type.
+   * <p>
+   * The converters are derived from the default {@link TypeConverterRegistry},
+   * the {@link TIMESTAMP} values are converted to the java time types and the
+   * {@code 1} value is converted to {@code true}.
+   * </p>
    *
    * @param value database data
    * @param type  class object of {@code E}
    * @param <T>   Java type
    * @return data with Java type
-   * @throws IllegalArgumentException if any parameter is {@code null}
+   * @throws IllegalArgumentException if any parameter is {@code null}, or there is no converter
    */
-  @SuppressWarnings("unchecked")
   public static <T> T convertToJavaType(Object value, Class<T> type) {
     requireNonNull(value, i18n("error.validation.should.not.be.null", i18n("var.name.value")));
     requireNonNull(type, i18n("error.validation.should.not.be.null", i18n("var.name.type")));
 
-    return (T) DataBaseTypeConverter.CONVERTERS.get(type).apply(value);
+    return DataBaseTypeConverter.CONVERTERS.convert(value, type);
   }
 
   /**
@@ -173,18 +175,10 @@ public final class OracleJdbcUtils {
    */
   private static final class DataBaseTypeConverter {
 
-    private static final Map<Class<?>, Function<Object, Object>> CONVERTERS = new HashMap<>();
-
-    static {
-      CONVERTERS.put(Integer.class, o -> Integer.valueOf(String.valueOf(o)));
-      CONVERTERS.put(Long.class, o -> Long.valueOf(String.valueOf(o)));
-      CONVERTERS.put(Float.class, o -> Float.valueOf(String.valueOf(o)));
-      CONVERTERS.put(Double.class, o -> Double.valueOf(String.valueOf(o)));
-      CONVERTERS.put(String.class, String::valueOf);
-      CONVERTERS.put(LocalDateTime.class, o -> Try.of(() -> ((TIMESTAMP) o).timestampValue().toLocalDateTime()).get());
-      CONVERTERS.put(LocalDate.class, o -> Try.of(() -> ((TIMESTAMP) o).dateValue().toLocalDate()).get());
-      CONVERTERS.put(LocalTime.class, o -> Try.of(() -> ((TIMESTAMP) o).timeValue().toLocalTime()).get());
-      CONVERTERS.put(Boolean.class, o -> Integer.parseInt(String.valueOf(o)) == 1);
-    }
+    private static final TypeConverterRegistry CONVERTERS = TypeConverterRegistry.defaults().derive()
+        .register(TIMESTAMP.class, LocalDateTime.class, o -> Try.of(() -> o.timestampValue().toLocalDateTime()).get())
+        .register(TIMESTAMP.class, LocalDate.class, o -> Try.of(() -> o.dateValue().toLocalDate()).get())
+        .register(TIMESTAMP.class, LocalTime.class, o -> Try.of(() -> o.timeValue().toLocalTime()).get())
+        .register(Object.class, Boolean.class, o -> Integer.parseInt(String.valueOf(o)) == 1);
   }
 }
@@ -0,0 +1,114 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static com.pineframework.core.helper.validator.ObjectValidator.requireNonNull;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The {@link ParallelOptions} class keeps the options of the parallel
+ * operations of {@link CollectionUtils}.
+ * <p>
+ * The inputs which are smaller than the threshold are processed on the
+ * calling thread, the others are split into partitions which are processed
+ * by the {@link ForkJoinPool}, by default the common pool.
+ * </p>
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @since 2022-01-01
+ */
+public final class ParallelOptions {
+
+  /**
+   * The default threshold, the inputs with fewer elements are processed
+   * sequentially.
+   */
+  public static final int DEFAULT_THRESHOLD = 100_000;
+
+  private static final int MIN_PARTITION_SIZE = 4_096;
+
+  private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+  private int threshold = DEFAULT_THRESHOLD;
+
+  private ParallelOptions() {
+  }
+
+  /**
+   * The {@code create} method is static factory method to
+   * create a new instance of {@link ParallelOptions}.
+   *
+   * @return {@link ParallelOptions}
+   */
+  public static ParallelOptions create() {
+    return new ParallelOptions();
+  }
+
+  /**
+   * The {@code pool} method sets the pool which processes the partitions.
+   *
+   * @param pool {@link ForkJoinPool}
+   * @return {@link ParallelOptions}
+   * @throws IllegalArgumentException if {@code pool} is {@code null}
+   */
+  public ParallelOptions pool(ForkJoinPool pool) {
+    requireNonNull(pool, i18n("error.validation.should.not.be.null", i18n("var.name.pool")));
+
+    this.pool = pool;
+    return this;
+  }
+
+  ForkJoinPool pool() {
+    return pool;
+  }
+
+  /**
+   * The {@code threshold} method sets the minimum number of elements which
+   * are processed in parallel.
+   *
+   * @param threshold minimum number of elements
+   * @return {@link ParallelOptions}
+   * @throws IllegalArgumentException if {@code threshold} is negative
+   */
+  public ParallelOptions threshold(int threshold) {
+    if (threshold < 0) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.threshold")));
+    }
+
+    this.threshold = threshold;
+    return this;
+  }
+
+  int threshold() {
+    return threshold;
+  }
+
+  /**
+   * The {@code partitionSize} method returns the number of elements of each
+   * partition, there are about four partitions per worker of the pool.
+   *
+   * @param size number of elements
+   * @return number of elements of each partition
+   */
+  int partitionSize(int size) {
+    return Math.max(MIN_PARTITION_SIZE, size / (pool.getParallelism() * 4));
+  }
+}
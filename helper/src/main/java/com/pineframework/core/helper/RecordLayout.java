@@ -0,0 +1,198 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.ReflectionHandles.method;
+import static com.pineframework.core.helper.ReflectionHandles.propagate;
+import static java.lang.invoke.MethodType.methodType;
+
+import io.vavr.control.Try;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Array;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The {@link RecordLayout} class keeps the canonical constructor and the
+ * component accessors of a record class as {@link MethodHandle}, they are
+ * resolved once per record class and used by {@link RecordUtils},
+ * {@link MappingPlan} and {@link CopyUtils}.
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @since 2022-01-01
+ */
+final class RecordLayout {
+
+  private static final ClassValue<RecordLayout> LAYOUTS = new ClassValue<>() {
+    @Override
+    protected RecordLayout computeValue(Class<?> type) {
+      return new RecordLayout(type);
+    }
+  };
+
+  private final String[] names;
+
+  private final Class<?>[] types;
+
+  private final Object[] defaults;
+
+  private final MethodHandle[] accessors;
+
+  private final MethodHandle constructor;
+
+  private final MethodHandle spreader;
+
+  private final Map<String, Integer> columns;
+
+  private RecordLayout(Class<?> type) {
+    var components = type.getRecordComponents();
+    names = new String[components.length];
+    types = new Class<?>[components.length];
+    defaults = new Object[components.length];
+    accessors = new MethodHandle[components.length];
+    columns = new HashMap<>();
+
+    for (int i = 0; i < components.length; i++) {
+      names[i] = components[i].getName();
+      types[i] = components[i].getType();
+      defaults[i] = types[i].isPrimitive() ? Array.get(Array.newInstance(types[i], 1), 0) : null;
+      accessors[i] = method(components[i].getAccessor()).asType(methodType(Object.class, Object.class));
+      columns.put(column(names[i]), i);
+    }
+
+    constructor = ReflectionHandles.constructor(Try.of(() -> type.getDeclaredConstructor(types)).get());
+    spreader = constructor.asSpreader(Object[].class, components.length);
+  }
+
+  /**
+   * The {@code of} method returns the cached layout of the record class.
+   *
+   * @param type class object of record
+   * @return {@link RecordLayout}
+   */
+  static RecordLayout of(Class<?> type) {
+    return LAYOUTS.get(type);
+  }
+
+  /**
+   * The {@code size} method returns the number of the components.
+   *
+   * @return number of components
+   */
+  int size() {
+    return names.length;
+  }
+
+  /**
+   * The {@code name} method returns the name of a component.
+   *
+   * @param index index of component
+   * @return name of component
+   */
+  String name(int index) {
+    return names[index];
+  }
+
+  /**
+   * The {@code type} method returns the class object of a component.
+   *
+   * @param index index of component
+   * @return {@link Class}
+   */
+  Class<?> type(int index) {
+    return types[index];
+  }
+
+  /**
+   * The {@code defaultValue} method returns the value of a component which
+   * is used instead of {@code null}, it is the zero of the primitive types.
+   *
+   * @param index index of component
+   * @return default value
+   */
+  Object defaultValue(int index) {
+    return defaults[index];
+  }
+
+  /**
+   * The {@code indexOfColumn} method returns the index of the component which
+   * matches the column name, the case and the underscores are ignored, so
+   * {@code FIRST_NAME} matches {@code firstName}.
+   *
+   * @param name name of column
+   * @return index of component, {@code -1} if there is no matched component
+   */
+  int indexOfColumn(String name) {
+    return columns.getOrDefault(column(name), -1);
+  }
+
+  /**
+   * The {@code constructor} method returns the canonical constructor.
+   *
+   * @return handle with type {@code (componentTypes)Object}
+   */
+  MethodHandle constructor() {
+    return constructor;
+  }
+
+  /**
+   * The {@code accessor} method returns the accessor of a component.
+   *
+   * @param index index of component
+   * @return handle with type {@code (Object)Object}
+   */
+  MethodHandle accessor(int index) {
+    return accessors[index];
+  }
+
+  /**
+   * The {@code instantiate} method calls the canonical constructor, the
+   * values should have the exact types of the components.
+   *
+   * @param values values of components
+   * @return the record
+   */
+  Object instantiate(Object[] values) {
+    try {
+      return (Object) spreader.invokeExact(values);
+    } catch (Throwable e) {
+      throw propagate(e);
+    }
+  }
+
+  /**
+   * The {@code get} method returns the value of a component of the record.
+   *
+   * @param record the record
+   * @param index  index of component
+   * @return value of component
+   */
+  Object get(Object record, int index) {
+    try {
+      return (Object) accessors[index].invokeExact(record);
+    } catch (Throwable e) {
+      throw propagate(e);
+    }
+  }
+
+  private static String column(String name) {
+    return name.replace("_", "").toLowerCase(Locale.ROOT);
+  }
+}
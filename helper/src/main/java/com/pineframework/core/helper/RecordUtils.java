@@ -0,0 +1,228 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static com.pineframework.core.helper.ReflectionHandles.wrap;
+import static com.pineframework.core.helper.validator.ArrayValidator.checkSize;
+import static com.pineframework.core.helper.validator.ObjectValidator.requireNonNull;
+
+import io.vavr.control.Try;
+import java.sql.ResultSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The {@link RecordUtils} class provides utility functions to create and
+ * read records.
+ * <ul>
+ *   <li>{@link #newInstance(Class, Object...)}</li>
+ *   <li>{@link #fromMap(Class, Map)}</li>
+ *   <li>{@link #fromResultSet(Class, ResultSet)}</li>
+ *   <li>{@link #rowMapper(Class, ResultSet)}</li>
+ *   <li>{@link #toArray(Record)}</li>
+ *   <li>{@link #toMap(Record)}</li>
+ * </ul>
+ * <p>
+ * The canonical constructor and the component accessors of each record class
+ * are resolved once to {@link java.lang.invoke.MethodHandle} and cached, so
+ * creating and reading a record does not use reflection. The values which
+ * are not the type of their component are converted like
+ * {@link ReflectionUtils#toJavaBasicType(Object, Class)}, and {@code null}
+ * is the zero of the primitive components.
+ * </p>
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @since 2022-01-01
+ */
+public final class RecordUtils {
+
+  private RecordUtils() {
+  }
+
+  /**
+   * The {@code newInstance} method creates a record from the values of its
+   * components in the order of the canonical constructor.
+   *
+   * @param type   class object of record
+   * @param values values of components
+   * @param <R>    type of record
+   * @return the record
+   * @throws IllegalArgumentException if {@code type} is {@code null}, or the number of values is not
+   *                                  the number of components, or a value can not be converted
+   */
+  public static <R extends Record> R newInstance(Class<R> type, Object... values) {
+    var layout = layout(type);
+    requireNonNull(values, i18n("error.validation.should.not.be.null", i18n("var.name.value")));
+    checkSize(values, layout.size());
+
+    var arguments = new Object[values.length];
+    for (int i = 0; i < arguments.length; i++) {
+      arguments[i] = coerce(layout, i, values[i]);
+    }
+
+    return type.cast(layout.instantiate(arguments));
+  }
+
+  /**
+   * The {@code fromMap} method creates a record from the values of its
+   * components by name, the missing components are {@code null} and the
+   * other keys are ignored.
+   *
+   * @param type   class object of record
+   * @param values values of components by name
+   * @param <R>    type of record
+   * @return the record
+   * @throws IllegalArgumentException if any parameter is {@code null}, or a value can not be converted
+   */
+  public static <R extends Record> R fromMap(Class<R> type, Map<String, ?> values) {
+    var layout = layout(type);
+    requireNonNull(values, i18n("error.validation.should.not.be.null", i18n("var.name.value")));
+
+    var arguments = new Object[layout.size()];
+    for (int i = 0; i < arguments.length; i++) {
+      arguments[i] = coerce(layout, i, values.get(layout.name(i)));
+    }
+
+    return type.cast(layout.instantiate(arguments));
+  }
+
+  /**
+   * The {@code fromResultSet} method creates a record from the current row of
+   * the result set, the columns are matched with the components by name, the
+   * case and the underscores are ignored, so {@code FIRST_NAME} matches
+   * {@code firstName}.
+   * <p>
+   * Use {@link #rowMapper(Class, ResultSet)} to create the records of all
+   * the rows, it matches the columns only once.
+   * </p>
+   *
+   * @param type      class object of record
+   * @param resultSet {@link ResultSet}
+   * @param <R>       type of record
+   * @return the record
+   * @throws IllegalArgumentException if any parameter is {@code null}, or a value can not be converted
+   */
+  public static <R extends Record> R fromResultSet(Class<R> type, ResultSet resultSet) {
+    return rowMapper(type, resultSet).apply(resultSet);
+  }
+
+  /**
+   * The {@code rowMapper} method returns the function which creates a record
+   * from the current row of the result set, the columns are matched with the
+   * components by name once, the case and the underscores are ignored.
+   * <p>
+   * It can be used with {@link JdbcUtils#createSpliterator(ResultSet)} to
+   * stream the records.
+   * </p>
+   *
+   * @param type      class object of record
+   * @param resultSet {@link ResultSet}
+   * @param <R>       type of record
+   * @return {@link Function} from the current row to the record
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <R extends Record> Function<ResultSet, R> rowMapper(Class<R> type, ResultSet resultSet) {
+    var layout = layout(type);
+    requireNonNull(resultSet, i18n("error.validation.should.not.be.null", i18n("var.name.resultSet")));
+
+    final var columns = new int[layout.size()];
+    Try.run(() -> {
+      var metadata = resultSet.getMetaData();
+      for (int column = metadata.getColumnCount(); column > 0; column--) {
+        var index = layout.indexOfColumn(metadata.getColumnLabel(column));
+        if (index >= 0) {
+          columns[index] = column;
+        }
+      }
+    }).get();
+
+    return row -> Try.of(() -> {
+      var arguments = new Object[columns.length];
+      for (int i = 0; i < arguments.length; i++) {
+        arguments[i] = coerce(layout, i, columns[i] == 0 ? null : row.getObject(columns[i]));
+      }
+
+      return type.cast(layout.instantiate(arguments));
+    }).get();
+  }
+
+  /**
+   * The {@code toArray} method returns the values of the components of the
+   * record in the order of the canonical constructor.
+   *
+   * @param record the record
+   * @return values of components
+   * @throws IllegalArgumentException if {@code record} is {@code null}
+   */
+  public static Object[] toArray(Record record) {
+    requireNonNull(record, i18n("error.validation.should.not.be.null", i18n("var.name.record")));
+    var layout = RecordLayout.of(record.getClass());
+
+    var values = new Object[layout.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = layout.get(record, i);
+    }
+
+    return values;
+  }
+
+  /**
+   * The {@code toMap} method returns the values of the components of the
+   * record by name, in the order of the canonical constructor.
+   *
+   * @param record the record
+   * @return values of components by name
+   * @throws IllegalArgumentException if {@code record} is {@code null}
+   */
+  public static Map<String, Object> toMap(Record record) {
+    requireNonNull(record, i18n("error.validation.should.not.be.null", i18n("var.name.record")));
+    var layout = RecordLayout.of(record.getClass());
+
+    var values = new LinkedHashMap<String, Object>();
+    for (int i = 0; i < layout.size(); i++) {
+      values.put(layout.name(i), layout.get(record, i));
+    }
+
+    return values;
+  }
+
+  private static RecordLayout layout(Class<?> type) {
+    requireNonNull(type, i18n("error.validation.should.not.be.null", i18n("var.name.type")));
+    if (!type.isRecord()) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.type")));
+    }
+
+    return RecordLayout.of(type);
+  }
+
+  private static Object coerce(RecordLayout layout, int index, Object value) {
+    var type = layout.type(index);
+    if (value == null) {
+      return layout.defaultValue(index);
+    } else if (wrap(type).isInstance(value)) {
+      return value;
+    }
+
+    return ReflectionUtils.findConverter(value.getClass(), wrap(type))
+        .flatMap(converter -> Try.of(() -> converter.apply(value)).toJavaOptional())
+        .orElseThrow(() -> new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.value"))));
+  }
+}
@@ -0,0 +1,143 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import io.vavr.control.Try;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * The {@link ReflectionHandles} class creates the erased {@link MethodHandle}
+ * of fields, constructors and methods, which are used by the compiled plans
+ * like {@link MappingPlan}.
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @since 2022-01-01
+ */
+final class ReflectionHandles {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private ReflectionHandles() {
+  }
+
+  /**
+   * The {@code getter} method returns the handle which reads the field.
+   *
+   * @param field {@link Field}
+   * @return handle with type {@code (Object)fieldType}
+   */
+  static MethodHandle getter(Field field) {
+    return Try.of(() -> {
+      field.setAccessible(true);
+      return LOOKUP.unreflectGetter(field);
+    }).get().asType(methodType(field.getType(), Object.class));
+  }
+
+  /**
+   * The {@code setter} method returns the handle which writes the field.
+   *
+   * @param field {@link Field}
+   * @return handle with type {@code (Object, fieldType)void}
+   */
+  static MethodHandle setter(Field field) {
+    return Try.of(() -> {
+      field.setAccessible(true);
+      return LOOKUP.unreflectSetter(field);
+    }).get().asType(methodType(void.class, Object.class, field.getType()));
+  }
+
+  /**
+   * The {@code constructor} method returns the handle which calls the constructor.
+   *
+   * @param constructor {@link Constructor}
+   * @return handle with type {@code (parameterTypes)Object}
+   */
+  static MethodHandle constructor(Constructor<?> constructor) {
+    return Try.of(() -> {
+      constructor.setAccessible(true);
+      return LOOKUP.unreflectConstructor(constructor);
+    }).get().asType(methodType(Object.class, constructor.getParameterTypes()));
+  }
+
+  /**
+   * The {@code method} method returns the handle which calls the instance method.
+   *
+   * @param method {@link Method}
+   * @return handle with type {@code (Object, parameterTypes)returnType}
+   */
+  static MethodHandle method(Method method) {
+    var handle = Try.of(() -> {
+      method.setAccessible(true);
+      return LOOKUP.unreflect(method);
+    }).get();
+
+    return handle.asType(handle.type().changeParameterType(0, Object.class));
+  }
+
+  /**
+   * The {@code isOpen} method returns {@code true} if the fields of the class
+   * and its super classes can be accessed.
+   *
+   * @param type class object
+   * @return {@code boolean}
+   */
+  static boolean isOpen(Class<?> type) {
+    for (var current = type; current != Object.class && current != Record.class; current = current.getSuperclass()) {
+      if (!current.getModule().isOpen(current.getPackageName(), ReflectionHandles.class.getModule())) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * The {@code wrap} method returns the wrapper class of a primitive type,
+   * other types are returned as is.
+   *
+   * @param type class object
+   * @return {@link Class}
+   */
+  static Class<?> wrap(Class<?> type) {
+    return methodType(type).wrap().returnType();
+  }
+
+  /**
+   * The {@code propagate} method returns the unchecked exception which
+   * should be thrown instead of the exception of a handle invocation.
+   *
+   * @param e {@link Throwable}
+   * @return {@link RuntimeException}
+   */
+  static RuntimeException propagate(Throwable e) {
+    if (e instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    } else if (e instanceof Error error) {
+      throw error;
+    }
+
+    return new IllegalStateException(e);
+  }
+}
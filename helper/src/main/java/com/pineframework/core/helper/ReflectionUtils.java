@@ -19,43 +19,52 @@ package com.pineframework.core.helper;
 
 import static com.pineframework.core.helper.I18nUtils.i18n;
 import static com.pineframework.core.helper.validator.ArrayValidator.requireElement;
-import static com.pineframework.core.helper.validator.DateTimeValidator.isDate;
-import static com.pineframework.core.helper.validator.DateTimeValidator.isDateTime;
-import static com.pineframework.core.helper.validator.DateTimeValidator.isTime;
 import static com.pineframework.core.helper.validator.ObjectValidator.requireNonNull;
 import static com.pineframework.core.helper.validator.StringValidator.requireNonEmptyOrNull;
-import static java.time.format.DateTimeFormatter.ofPattern;
 import static java.util.Arrays.stream;
 import static java.util.Objects.nonNull;
 import static java.util.stream.Collectors.toSet;
 import static net.jodah.typetools.TypeResolver.resolveRawClass;
-import static org.reflections.scanners.Scanners.SubTypes;
+import static org.reflections.util.ClasspathHelper.forPackage;
 
+import com.pineframework.core.helper.converter.TypeConverterRegistry;
 import io.vavr.control.Try;
+import java.io.InputStream;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
 import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.net.URL;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Stream;
-import org.reflections.Reflections;
+import org.reflections.vfs.Vfs;
 
 /**
  * The {@link ReflectionUtils} class provides utility functions to work with reflection mechanism.
  * <ul>
  *   <li>{@link #getClassLoader()}</li>
  *   <li>{@link #scanPackage(String...)}</li>
- *   <li>{@link #scanPackageByAnnotation(Class, String)}</li>
+ *   <li>{@link #scanPackageByAnnotation(Class, String...)}</li>
+ *   <li>{@link #scanPackageDescriptors(String...)}</li>
  *   <li>{@link #getField(Class, String)}</li>
  *   <li>{@link #getFields(Class[])}</li>
  *   <li>{@link #getDeepFields(Class[])}</li>
@@ -63,6 +72,8 @@ import org.reflections.Reflections;
  *   <li>{@link #getAnnotatedFields(Class, Class)}</li>
  *   <li>{@link #contain(Class, String)}</li>
  *   <li>{@link #extract(Class, int)}</li>
+ *   <li>{@link #structuralEquivalence(Class)}</li>
+ *   <li>{@link #structuralEquivalence(Class, Class)}</li>
  *   <li>{@link #toJavaBasicType(Object, Class)}</li>
  * </ul>
  *
@@ -86,81 +97,166 @@ public final class ReflectionUtils {
 
   /**
    * The {@code scanPackage} method returns all classes under the
-   * package as a {@link Set}.
+   * packages as a {@link Set}.
+   * <p>
+   * The result includes the scanned classes and their direct super types,
+   * all packages are scanned together in one pass. The classes are loaded
+   * and initialized like {@link Class#forName(String)}, use
+   * {@link #scanPackageDescriptors(String...)} to avoid initializing them.
+   * </p>
    *
-   * @param packageName package should be scanned
+   * @param packageNames packages should be scanned
    * @return {@link Set}
-   * @throws IllegalArgumentException if {@code packageName} is {@code null} or empty
+   * @throws IllegalArgumentException if {@code packageNames} is {@code null} or empty
    */
-  private static Set<Class<?>> scanPackage(String packageName) {
-    requireNonEmptyOrNull(packageName, i18n("error.validation.should.not.be.emptyOrNull", i18n("var.name.packageName")));
-
-    var reflections = new Reflections(packageName, SubTypes.filterResultsBy(s -> true));
-
-    return Try.of(() -> reflections.getAll(SubTypes))
-        .getOrElse(HashSet::new)
-        .stream()
-        .map(file -> Try.of(() -> Class.forName(file)).get())
+  public static Set<Class<?>> scanPackage(String... packageNames) {
+    var descriptors = scanPackageDescriptors(packageNames);
+
+    return descriptors.stream()
+        .flatMap(descriptor -> Stream.concat(
+            Stream.of(descriptor.name(), descriptor.superName()),
+            descriptor.interfaceNames().stream()))
+        .filter(Objects::nonNull)
+        .distinct()
+        .<Class<?>>map(name -> Try.of(() -> Class.forName(name)).get())
         .collect(toSet());
   }
 
   /**
-   * The {@code scanPackage} method returns all classes under the
-   * packages as a {@link Set}.
+   * The {@code scanPackageByAnnotation} method returns all decorated
+   * classes with a specific {@link Annotation} that put under a
+   * packages.
+   * <p>
+   * The result includes the decorated classes, the classes decorated by an
+   * annotation which is itself decorated with {@code annotation}, and all
+   * their scanned sub classes. All packages are scanned together in one pass
+   * and the classes are loaded and initialized like {@link Class#forName(String)}.
+   * </p>
    *
+   * @param annotation   {@link Annotation}, to filter the classes
    * @param packageNames packages should be scanned
    * @return {@link Set}
-   * @throws IllegalArgumentException if {@code packageNames} is {@code null} or empty
+   * @throws IllegalArgumentException if any parameter is {@code null} or empty
    */
-  public static Set<Class<?>> scanPackage(String... packageNames) {
-    requireElement(packageNames);
+  public static Set<Class<?>> scanPackageByAnnotation(Class<? extends Annotation> annotation, String... packageNames) {
+    requireNonNull(annotation, i18n("error.validation.should.not.be.null", i18n("var.name.annotation")));
 
-    return stream(packageNames)
-        .map(ReflectionUtils::scanPackage)
-        .reduce((root, rest) -> {
-          root.addAll(rest);
-          return root;
-        })
-        .orElseGet(HashSet::new);
+    var descriptors = scanPackageDescriptors(packageNames);
+
+    Map<String, List<ClassDescriptor>> annotatedBy = new HashMap<>();
+    Map<String, List<ClassDescriptor>> subTypes = new HashMap<>();
+    descriptors.forEach(descriptor -> {
+      descriptor.annotationNames().forEach(name -> annotatedBy.computeIfAbsent(name, k -> new ArrayList<>()).add(descriptor));
+      Stream.concat(Stream.of(descriptor.superName()), descriptor.interfaceNames().stream())
+          .filter(Objects::nonNull)
+          .forEach(name -> subTypes.computeIfAbsent(name, k -> new ArrayList<>()).add(descriptor));
+    });
+
+    var annotated = closure(Set.of(annotation.getName()), annotatedBy);
+    annotated.addAll(closure(annotated, subTypes));
+
+    return annotated.stream()
+        .<Class<?>>map(name -> Try.of(() -> Class.forName(name)).get())
+        .collect(toSet());
   }
 
   /**
-   * The {@code scanPackageByAnnotation} method returns all decorated
-   * classes with a specific {@link Annotation} that put under a
-   * package.
+   * The {@code closure} method walks an index transitively from the roots
+   * and returns the names of all reached classes.
    *
-   * @param annotation  {@link Annotation}, to filter the classes
-   * @param packageName packages should be scanned
+   * @param roots names of the first classes
+   * @param index relations between a name and the classes belong to it
    * @return {@link Set}
-   * @throws IllegalArgumentException if any parameter is {@code null} or empty
    */
-  private static Set<Class<?>> scanPackageByAnnotation(Class<? extends Annotation> annotation, String packageName) {
-    requireNonEmptyOrNull(packageName, i18n("error.validation.should.not.be.emptyOrNull", i18n("var.name.packageName")));
-    Reflections reflections = new Reflections(packageName);
-    return reflections.getTypesAnnotatedWith(annotation);
+  private static Set<String> closure(Set<String> roots, Map<String, List<ClassDescriptor>> index) {
+    Set<String> reached = new HashSet<>();
+    Deque<String> queue = new ArrayDeque<>(roots);
+
+    while (!queue.isEmpty()) {
+      var name = queue.poll();
+      for (ClassDescriptor descriptor : index.getOrDefault(name, List.of())) {
+        if (reached.add(descriptor.name())) {
+          queue.add(descriptor.name());
+        }
+      }
+    }
+
+    return reached;
   }
 
   /**
-   * The {@code scanPackageByAnnotation} method returns all decorated
-   * classes with a specific {@link Annotation} that put under a
-   * packages.
+   * The {@code scanPackageDescriptors} method returns the descriptors of all
+   * classes under the packages as a {@link Set}.
+   * <p>
+   * The class files are read directly, so none of the classes is loaded or
+   * initialized until {@link ClassDescriptor#resolve()} is called. All packages
+   * are scanned together in one pass over the class path, and the class files
+   * are read in parallel.
+   * </p>
    *
-   * @param annotation   {@link Annotation}, to filter the classes
    * @param packageNames packages should be scanned
    * @return {@link Set}
-   * @throws IllegalArgumentException if any parameter is {@code null} or empty
+   * @throws IllegalArgumentException if {@code packageNames} is {@code null} or empty
    */
-  public static Set<Class<?>> scanPackageByAnnotation(Class<? extends Annotation> annotation, String... packageNames) {
-    requireNonNull(annotation, i18n("error.validation.should.not.be.null", i18n("var.name.annotation")));
+  public static Set<ClassDescriptor> scanPackageDescriptors(String... packageNames) {
     requireElement(packageNames);
+    stream(packageNames).forEach(packageName ->
+        requireNonEmptyOrNull(packageName, i18n("error.validation.should.not.be.emptyOrNull", i18n("var.name.packageName"))));
 
-    return stream(packageNames)
-        .map(packageName -> scanPackageByAnnotation(annotation, packageName))
-        .reduce((root, rest) -> {
-          root.addAll(rest);
-          return root;
-        })
-        .orElse(new HashSet<>());
+    var packagePaths = stream(packageNames)
+        .map(packageName -> packageName.replace('.', '/') + "/")
+        .distinct()
+        .toList();
+
+    Set<URL> urls = new LinkedHashSet<>();
+    stream(packageNames).distinct().forEach(packageName -> urls.addAll(forPackage(packageName)));
+
+    List<Vfs.Dir> dirs = new ArrayList<>();
+    try {
+      List<Vfs.File> files = new ArrayList<>();
+      urls.forEach(url -> Try.of(() -> Vfs.fromURL(url))
+          .peek(dirs::add)
+          .forEach(dir -> dir.getFiles().forEach(file -> {
+            if (isClassFile(file.getRelativePath(), packagePaths)) {
+              files.add(file);
+            }
+          })));
+
+      return ScannerPool.POOL
+          .submit(() -> files.parallelStream().map(ReflectionUtils::readClassFile).collect(toSet()))
+          .join();
+    } finally {
+      dirs.forEach(Vfs.Dir::close);
+    }
+  }
+
+  /**
+   * The {@code isClassFile} method returns {@code true} if the path belongs
+   * to a class file under one of the packages, the module and package
+   * descriptors are ignored.
+   *
+   * @param path         relative path of the file
+   * @param packagePaths packages as a path, ended with {@code /}
+   * @return {@code boolean}
+   */
+  private static boolean isClassFile(String path, List<String> packagePaths) {
+    return path.endsWith(".class")
+        && !path.endsWith("module-info.class")
+        && !path.endsWith("package-info.class")
+        && packagePaths.stream().anyMatch(path::startsWith);
+  }
+
+  /**
+   * The {@code readClassFile} method reads a class file as a {@link ClassDescriptor}.
+   *
+   * @param file {@link Vfs.File}
+   * @return {@link ClassDescriptor}
+   */
+  private static ClassDescriptor readClassFile(Vfs.File file) {
+    return Try.withResources(file::openInputStream)
+        .of(InputStream::readAllBytes)
+        .map(ClassFileReader::read)
+        .get();
   }
 
   /**
@@ -262,6 +358,10 @@ public final class ReflectionUtils {
 
   /**
    * The {@code getFieldType} method returns the type of field as a class object.
+   * <p>
+   * The generic type of an {@link Object} field is resolved by the type variable
+   * bindings of the owner hierarchy, and the result is cached per owner and field.
+   * </p>
    *
    * @param owner class object of field owner
    * @param field {@link Field}
@@ -272,7 +372,9 @@ public final class ReflectionUtils {
     requireNonNull(owner, i18n("error.validation.should.not.be.null", i18n("var.name.owner")));
     requireNonNull(field, i18n("error.validation.should.not.be.null", i18n("var.name.field")));
 
-    return field.getType() == Object.class ? resolveRawClass(field.getGenericType(), owner) : field.getType();
+    return field.getType() == Object.class
+        ? GenericTypeCache.FIELD_TYPES.get(owner).computeIfAbsent(field, f -> GenericTypeCache.resolve(owner, f.getGenericType()))
+        : field.getType();
   }
 
   /**
@@ -311,6 +413,9 @@ public final class ReflectionUtils {
 
   /**
    * The {@code extract} method returns type of generic class parameter in runtime.
+   * <p>
+   * The type arguments of the generic super class are cached per owner.
+   * </p>
    *
    * @param owner class object of field owner
    * @param index index number of class parameter
@@ -324,7 +429,7 @@ public final class ReflectionUtils {
       throw new IllegalArgumentException(i18n("error.validation.should.be.greaterThan", i18n("var.name.index"), 0));
     }
 
-    Type[] types = ((ParameterizedType) owner.getGenericSuperclass()).getActualTypeArguments();
+    Type[] types = GenericTypeCache.SUPER_CLASS_ARGUMENTS.get(owner);
 
     if (index >= types.length) {
       throw new IllegalArgumentException(i18n("error.validation.should.be.lessThan", i18n("var.name.index"), types.length));
@@ -333,6 +438,40 @@ public final class ReflectionUtils {
     return types[index];
   }
 
+  /**
+   * The {@code structuralEquivalence} method returns the cached equality,
+   * hashing and ordering functions of a class which compare the objects by
+   * all of their fields.
+   *
+   * @param type class object
+   * @param <T>  type of objects
+   * @return {@link StructuralEquivalence}
+   * @throws IllegalArgumentException if {@code type} is {@code null}
+   */
+  public static <T> StructuralEquivalence<T> structuralEquivalence(Class<T> type) {
+    requireNonNull(type, i18n("error.validation.should.not.be.null", i18n("var.name.type")));
+
+    return StructuralEquivalence.of(type, null);
+  }
+
+  /**
+   * The {@code structuralEquivalence} method returns the cached equality,
+   * hashing and ordering functions of a class which compare the objects by
+   * the fields decorated with the annotation.
+   *
+   * @param type       class object
+   * @param annotation class object of annotation
+   * @param <T>        type of objects
+   * @return {@link StructuralEquivalence}
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public static <T> StructuralEquivalence<T> structuralEquivalence(Class<T> type, Class<? extends Annotation> annotation) {
+    requireNonNull(type, i18n("error.validation.should.not.be.null", i18n("var.name.type")));
+    requireNonNull(annotation, i18n("error.validation.should.not.be.null", i18n("var.name.annotation")));
+
+    return StructuralEquivalence.of(type, annotation);
+  }
+
   /**
    * The {@code toJavaBasicType} method converts a value with unknown
    * primitive type to a value with known primitive type.
@@ -341,35 +480,162 @@ public final class ReflectionUtils {
    * @param type  class object of expectation type
    * @param <T>   expectation type
    * @return wrapper of primitive value
-   * @throws IllegalArgumentException if any parameter is {@code null}
+   * @throws IllegalArgumentException if any parameter is {@code null}, or {@code value} is an empty string
    */
   @SuppressWarnings("unchecked")
   public static <T> T toJavaBasicType(Object value, Class<T> type) {
     requireNonNull(value, i18n("error.validation.should.not.be.null", i18n("var.name.value")));
     requireNonNull(type, i18n("error.validation.should.not.be.null", i18n("var.name.type")));
 
-    if (value.getClass().equals(String.class)) {
-      var valueAsString = String.valueOf(value);
-
-      if (isDate(valueAsString).value()) {
-        type = (Class<T>) LocalDate.class;
-      } else if (isDateTime(valueAsString).value()) {
-        type = (Class<T>) LocalDateTime.class;
-      } else if (isTime(valueAsString).value()) {
-        type = (Class<T>) LocalTime.class;
-      } else if (valueAsString.equalsIgnoreCase("true") || valueAsString.equalsIgnoreCase("false")) {
-        type = (Class<T>) Boolean.class;
+    var source = value.getClass();
+    if (source == String.class) {
+      requireNonEmptyOrNull((String) value, i18n("error.validation.should.not.be.emptyOrNull", i18n("var.name.date")));
+      var sniffed = JavaBasicTypeConverter.sniff((String) value);
+      type = sniffed == null ? type : (Class<T>) sniffed;
+    }
+
+    return (T) JavaBasicTypeConverter.pipeline(source, type).apply(value);
+  }
+
+  /**
+   * The {@code findConverter} method returns the cached converter of the
+   * java basic types from the source type to the target type.
+   *
+   * @param source class object of value
+   * @param target class object of expectation type
+   * @return {@link Optional} of converter, empty if the target type is not supported
+   */
+  static Optional<Function<Object, Object>> findConverter(Class<?> source, Class<?> target) {
+    var converter = JavaBasicTypeConverter.pipeline(source, target);
+    return converter == JavaBasicTypeConverter.NO_CONVERTER ? Optional.empty() : Optional.of(converter);
+  }
+
+  /**
+   * The {@link GenericTypeCache} class keeps the resolved generic type
+   * information of the classes.
+   * <p>
+   * The type variable bindings of the whole hierarchy of a class, including
+   * the super classes and interfaces, are resolved once per class.
+   * </p>
+   *
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class GenericTypeCache {
+
+    private static final ClassValue<Map<TypeVariable<?>, Type>> BINDINGS = new ClassValue<>() {
+      @Override
+      protected Map<TypeVariable<?>, Type> computeValue(Class<?> type) {
+        return bindings(type);
       }
+    };
+
+    private static final ClassValue<Map<Field, Class<?>>> FIELD_TYPES = new ClassValue<>() {
+      @Override
+      protected Map<Field, Class<?>> computeValue(Class<?> type) {
+        return new ConcurrentHashMap<>();
+      }
+    };
+
+    private static final ClassValue<Type[]> SUPER_CLASS_ARGUMENTS = new ClassValue<>() {
+      @Override
+      protected Type[] computeValue(Class<?> type) {
+        return ((ParameterizedType) type.getGenericSuperclass()).getActualTypeArguments();
+      }
+    };
+
+    /**
+     * The {@code resolve} method returns the raw class of a generic type in
+     * the context of the owner.
+     *
+     * @param owner class object of the context
+     * @param type  generic type
+     * @return {@link Class}
+     */
+    static Class<?> resolve(Class<?> owner, Type type) {
+      if (type instanceof Class<?> rawClass) {
+        return rawClass;
+      } else if (type instanceof ParameterizedType parameterizedType) {
+        return (Class<?>) parameterizedType.getRawType();
+      } else if (type instanceof GenericArrayType arrayType) {
+        return Array.newInstance(resolve(owner, arrayType.getGenericComponentType()), 0).getClass();
+      } else if (type instanceof TypeVariable<?> variable && BINDINGS.get(owner).containsKey(variable)) {
+        return resolve(owner, BINDINGS.get(owner).get(variable));
+      }
+
+      return resolveRawClass(type, owner);
     }
 
-    return JavaBasicTypeConverter.CONVERTERS.containsKey(type)
-        ? (T) JavaBasicTypeConverter.CONVERTERS.get(type).apply(value)
-        : null;
+    /**
+     * The {@code bindings} method walks the super classes and interfaces of
+     * a class and returns the actual type of each bound type variable.
+     *
+     * @param type class object
+     * @return {@link Map}
+     */
+    private static Map<TypeVariable<?>, Type> bindings(Class<?> type) {
+      Map<TypeVariable<?>, Type> bindings = new HashMap<>();
+      Deque<Type> queue = new ArrayDeque<>();
+      queue.add(type);
+
+      while (!queue.isEmpty()) {
+        var current = queue.poll();
+        var rawClass = current instanceof ParameterizedType parameterizedType
+            ? (Class<?>) parameterizedType.getRawType()
+            : (Class<?>) current;
+
+        if (current instanceof ParameterizedType parameterizedType) {
+          var variables = rawClass.getTypeParameters();
+          var arguments = parameterizedType.getActualTypeArguments();
+          for (int i = 0; i < variables.length; i++) {
+            bindings.putIfAbsent(variables[i], arguments[i]);
+          }
+        }
+
+        if (nonNull(rawClass.getGenericSuperclass())) {
+          queue.add(rawClass.getGenericSuperclass());
+        }
+        queue.addAll(List.of(rawClass.getGenericInterfaces()));
+      }
+
+      Map<TypeVariable<?>, Type> resolved = new HashMap<>();
+      bindings.forEach((variable, actual) -> {
+        var current = actual;
+        var depth = 0;
+        while (current instanceof TypeVariable<?> next && bindings.containsKey(next) && depth++ < bindings.size()) {
+          current = bindings.get(next);
+        }
+        resolved.put(variable, current);
+      });
+
+      return Map.copyOf(resolved);
+    }
+  }
+
+  /**
+   * The {@link ScannerPool} class holds the bounded pool which reads the
+   * class files in parallel, it is created on the first scan.
+   *
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class ScannerPool {
+
+    private static final int MAX_PARALLELISM = 8;
 
+    private static final ForkJoinPool POOL = new ForkJoinPool(
+        Math.min(Runtime.getRuntime().availableProcessors(), MAX_PARALLELISM));
   }
 
   /**
    * The {@link JavaBasicTypeConverter} class is included data type converters.
+   * <p>
+   * The converters are the cached converters of the default
+   * {@link TypeConverterRegistry}, which convert the numbers directly, and
+   * the other values through their string representation.
+   * </p>
    *
    * @author Saman Alishirishahrbabak
    * @version 1.0.0
@@ -377,18 +643,61 @@ public final class ReflectionUtils {
    */
   private static final class JavaBasicTypeConverter {
 
-    private static final Map<Class<?>, Function<Object, Object>> CONVERTERS = new HashMap<>();
-
-    static {
-      CONVERTERS.put(Integer.class, o -> Integer.valueOf(String.valueOf(o)));
-      CONVERTERS.put(Long.class, o -> Long.valueOf(String.valueOf(o)));
-      CONVERTERS.put(Float.class, o -> Float.valueOf(String.valueOf(o)));
-      CONVERTERS.put(Double.class, o -> Double.valueOf(String.valueOf(o)));
-      CONVERTERS.put(String.class, String::valueOf);
-      CONVERTERS.put(Boolean.class, o -> Boolean.valueOf(String.valueOf(o)));
-      CONVERTERS.put(LocalDateTime.class, o -> LocalDateTime.parse(String.valueOf(o), ofPattern("yyyy-MM-dd'T'HH:mm:ss")));
-      CONVERTERS.put(LocalDate.class, o -> LocalDate.parse(String.valueOf(o), ofPattern("yyyy-MM-dd")));
-      CONVERTERS.put(LocalTime.class, o -> LocalTime.parse(String.valueOf(o), ofPattern("HH:mm:ss")));
+    private static final Function<Object, Object> NO_CONVERTER = o -> null;
+
+    /**
+     * The {@code pipeline} method returns the cached converter from the
+     * source type to the target type.
+     *
+     * @param source class object of value
+     * @param target class object of expectation type
+     * @return {@link Function}
+     */
+    static Function<Object, Object> pipeline(Class<?> source, Class<?> target) {
+      return TypeConverterRegistry.defaults().find(source, target).orElse(NO_CONVERTER);
+    }
+
+    /**
+     * The {@code sniff} method checks the string value in one pass and returns
+     * the type of the value if it is a date ({@literal yyyy-MM-dd}), datetime
+     * ({@literal yyyy-MM-dd'T'HH:mm:ss}), time ({@literal HH:mm:ss}) or boolean,
+     * otherwise it returns {@code null}.
+     *
+     * @param value string value
+     * @return class object of the value or {@code null}
+     */
+    static Class<?> sniff(String value) {
+      return switch (value.length()) {
+        case 10 -> matches(value, 0, "dddd-dd-dd") ? LocalDate.class : null;
+        case 19 -> matches(value, 0, "dddd-dd-ddTdd:dd:dd") ? LocalDateTime.class : null;
+        case 4, 5 -> isBoolean(value) ? Boolean.class : isTime(value) ? LocalTime.class : null;
+        case 6, 8, 9 -> isTime(value) ? LocalTime.class : null;
+        default -> null;
+      };
+    }
+
+    private static boolean isBoolean(String value) {
+      return value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false");
+    }
+
+    private static boolean isTime(String value) {
+      var offset = value.charAt(0) == '+' || value.charAt(0) == '-' ? 1 : 0;
+      var length = value.length() - offset;
+
+      return (length == 5 && matches(value, offset, "dd:dd")) || (length == 8 && matches(value, offset, "dd:dd:dd"));
+    }
+
+    private static boolean matches(String value, int offset, String template) {
+      for (int i = 0; i < template.length(); i++) {
+        var c = value.charAt(offset + i);
+        var expected = template.charAt(i);
+
+        if (expected == 'd' ? c < '0' || c > '9' : c != expected) {
+          return false;
+        }
+      }
+
+      return true;
     }
   }
 }
@@ -0,0 +1,313 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link SpaceSaving} class finds the most frequent elements of a stream
+ * in a bounded memory, by the Space-Saving algorithm.
+ * <p>
+ * At most the capacity number of elements are tracked. When a new element
+ * arrives and the summary is full, it replaces the tracked element with the
+ * minimum count and inherits that count as its error. So the count of each
+ * tracked element is an upper bound of its real count, and the count minus
+ * the error is a lower bound. Every element whose real count is more than
+ * {@code total / capacity} is tracked.
+ * </p>
+ * <p>
+ * It is not thread safe, the summaries of different threads or partitions
+ * can be merged by {@link #merge(SpaceSaving)}.
+ * </p>
+ *
+ * @param <T> type of elements
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see ObjectCounter#keysByCount(int)
+ * @since 2022-01-01
+ */
+public final class SpaceSaving<T> {
+
+  private static final Object NULL = new Object();
+
+  private final int capacity;
+
+  private final Map<Object, Slot> slots;
+
+  private final Slot[] heap;
+
+  private int size;
+
+  private long total;
+
+  /**
+   * The constructor creates an empty summary.
+   *
+   * @param capacity maximum number of tracked elements
+   * @throws IllegalArgumentException if {@code capacity} is not positive
+   */
+  public SpaceSaving(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+    }
+
+    this.capacity = capacity;
+    this.slots = new HashMap<>(Math.min(capacity, 1 << 16) * 4 / 3 + 1);
+    this.heap = new Slot[capacity];
+  }
+
+  /**
+   * The {@code add} method adds one to the count of the element.
+   *
+   * @param element the element
+   */
+  public void add(T element) {
+    add(element, 1);
+  }
+
+  /**
+   * The {@code add} method adds the delta to the count of the element.
+   *
+   * @param element the element
+   * @param delta   positive number
+   * @throws IllegalArgumentException if {@code delta} is not positive
+   */
+  public void add(T element, long delta) {
+    if (delta <= 0) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.number")));
+    }
+
+    total += delta;
+    var key = element == null ? NULL : element;
+    var slot = slots.get(key);
+    if (slot != null) {
+      slot.count += delta;
+      siftDown(slot.index);
+    } else if (size < capacity) {
+      slot = new Slot(key, delta, 0);
+      slots.put(key, slot);
+      heap[size] = slot;
+      slot.index = size;
+      siftUp(size++);
+    } else {
+      slot = heap[0];
+      slots.remove(slot.key);
+      slot.key = key;
+      slot.error = slot.count;
+      slot.count += delta;
+      slots.put(key, slot);
+      siftDown(0);
+    }
+  }
+
+  /**
+   * The {@code estimate} method returns the estimated count of the element,
+   * the elements which are not tracked are estimated by the minimum count.
+   *
+   * @param element the element
+   * @return upper bound of the count
+   */
+  public long estimate(T element) {
+    var slot = slots.get(element == null ? NULL : element);
+    if (slot != null) {
+      return slot.count;
+    }
+
+    return size < capacity ? 0 : heap[0].count;
+  }
+
+  /**
+   * The {@code topK} method returns the tracked elements with the highest
+   * counts, sorted by their counts in descending order.
+   *
+   * @param k maximum number of elements
+   * @return {@link List} of {@link Entry}
+   * @throws IllegalArgumentException if {@code k} is negative
+   */
+  public List<Entry<T>> topK(int k) {
+    if (k < 0) {
+      throw new IllegalArgumentException(i18n("error.validation.is.wrong", i18n("var.name.size")));
+    }
+
+    return slots.values().stream()
+        .sorted(Comparator.comparingLong((Slot slot) -> -slot.count).thenComparingLong(slot -> slot.error))
+        .limit(k)
+        .map(slot -> slot.<T>toEntry())
+        .toList();
+  }
+
+  /**
+   * The {@code size} method returns the number of tracked elements.
+   *
+   * @return number of tracked elements
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * The {@code total} method returns the total count of the added elements.
+   *
+   * @return total count
+   */
+  public long total() {
+    return total;
+  }
+
+  /**
+   * The {@code merge} method adds the counts of the other summary to this
+   * summary.
+   * <p>
+   * An element which is not tracked by a full summary is counted by the
+   * minimum count of that summary, which is added to its error too. Then
+   * the capacity number of elements with the highest counts are kept.
+   * </p>
+   *
+   * @param other {@link SpaceSaving}
+   * @return this summary
+   */
+  public SpaceSaving<T> merge(SpaceSaving<? extends T> other) {
+    var thisMinimum = size < capacity ? 0 : heap[0].count;
+    var otherMinimum = other.size < other.capacity ? 0 : other.heap[0].count;
+
+    var merged = new ArrayList<Slot>(size + other.size);
+    for (var slot : slots.values()) {
+      var otherSlot = other.slots.get(slot.key);
+      merged.add(otherSlot == null
+          ? new Slot(slot.key, slot.count + otherMinimum, slot.error + otherMinimum)
+          : new Slot(slot.key, slot.count + otherSlot.count, slot.error + otherSlot.error));
+    }
+    for (var otherSlot : other.slots.values()) {
+      if (!slots.containsKey(otherSlot.key)) {
+        merged.add(new Slot(otherSlot.key, otherSlot.count + thisMinimum, otherSlot.error + thisMinimum));
+      }
+    }
+    merged.sort(Comparator.comparingLong(slot -> -slot.count));
+
+    slots.clear();
+    size = 0;
+    total += other.total;
+    for (var slot : merged.subList(0, Math.min(capacity, merged.size()))) {
+      slots.put(slot.key, slot);
+      heap[size] = slot;
+      slot.index = size;
+      siftUp(size++);
+    }
+
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return topK(size).toString();
+  }
+
+  private void siftUp(int index) {
+    var slot = heap[index];
+    while (index > 0) {
+      var parent = (index - 1) >>> 1;
+      if (heap[parent].count <= slot.count) {
+        break;
+      }
+      place(heap[parent], index);
+      index = parent;
+    }
+    place(slot, index);
+  }
+
+  private void siftDown(int index) {
+    var slot = heap[index];
+    var half = size >>> 1;
+    while (index < half) {
+      var child = 2 * index + 1;
+      if (child + 1 < size && heap[child + 1].count < heap[child].count) {
+        child++;
+      }
+      if (slot.count <= heap[child].count) {
+        break;
+      }
+      place(heap[child], index);
+      index = child;
+    }
+    place(slot, index);
+  }
+
+  private void place(Slot slot, int index) {
+    heap[index] = slot;
+    slot.index = index;
+  }
+
+  /**
+   * The {@link Entry} record is a tracked element with its estimated count.
+   *
+   * @param element the element
+   * @param count   upper bound of the count
+   * @param error   maximum overestimation of the count
+   * @param <T>     type of element
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  public record Entry<T>(T element, long count, long error) {
+
+    /**
+     * The {@code guaranteedCount} method returns the lower bound of the count.
+     *
+     * @return lower bound of the count
+     */
+    public long guaranteedCount() {
+      return count - error;
+    }
+  }
+
+  /**
+   * The {@link Slot} class keeps a tracked element and its position in the
+   * heap of the minimum counts.
+   *
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class Slot {
+
+    private Object key;
+
+    private long count;
+
+    private long error;
+
+    private int index;
+
+    Slot(Object key, long count, long error) {
+      this.key = key;
+      this.count = count;
+      this.error = error;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Entry<T> toEntry() {
+      return new Entry<>(key == NULL ? null : (T) key, count, error);
+    }
+  }
+}
@@ -0,0 +1,376 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.ReflectionHandles.getter;
+import static com.pineframework.core.helper.ReflectionHandles.propagate;
+import static com.pineframework.core.helper.ReflectionHandles.wrap;
+import static java.lang.invoke.MethodType.methodType;
+
+import io.vavr.control.Try;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+
+/**
+ * The {@link StructuralEquivalence} class compares the objects of a class
+ * field by field.
+ * <p>
+ * The equality, hashing and ordering of the fields are compiled once to
+ * {@link MethodHandle} chains, and the primitive fields are compared before
+ * the other fields. The arrays are compared by their content, and the fields
+ * which are not primitive or {@link Comparable} are not used for ordering.
+ * </p>
+ * <p>
+ * It is a {@link BiPredicate}, so it can be passed to the set operations of
+ * {@link CollectionUtils}, which then use its hashing instead of comparing
+ * every pair of elements. The {@link #key(Object)} method wraps an object in
+ * a {@link Key} which can be used in the hash based collections.
+ * </p>
+ *
+ * @param <T> type of objects
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @since 2022-01-01
+ */
+public final class StructuralEquivalence<T> implements BiPredicate<T, T>, Comparator<T> {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private static final ClassValue<Map<Class<?>, StructuralEquivalence<?>>> EQUIVALENCES = new ClassValue<>() {
+    @Override
+    protected Map<Class<?>, StructuralEquivalence<?>> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private final Class<T> type;
+
+  private final MethodHandle equality;
+
+  private final MethodHandle hashing;
+
+  private final MethodHandle ordering;
+
+  private StructuralEquivalence(Class<T> type, List<Field> fields) {
+    this.type = type;
+
+    var equalityChain = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, true), 0, Object.class, Object.class);
+    var hashingChain = MethodHandles.dropArguments(MethodHandles.constant(int.class, 1), 0, Object.class);
+    var orderingChain = MethodHandles.dropArguments(MethodHandles.constant(int.class, 0), 0, Object.class, Object.class);
+    final var notEqual = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false), 0, Object.class, Object.class);
+
+    for (int i = fields.size() - 1; i >= 0; i--) {
+      var field = fields.get(i);
+      var kind = kind(field.getType());
+      var value = getter(field).asType(methodType(kind, Object.class));
+      var suffix = field.getType().isArray() || field.getType().isAssignableFrom(Object[].class) ? "Deep" : "";
+
+      equalityChain = MethodHandles.guardWithTest(
+          MethodHandles.filterArguments(find("fieldEqual" + suffix, boolean.class, kind, kind), 0, value, value), equalityChain, notEqual);
+      hashingChain = MethodHandles.permuteArguments(MethodHandles.filterArguments(find("mix", int.class, int.class, int.class), 0,
+          hashingChain, MethodHandles.filterArguments(find("fieldHash" + suffix, int.class, kind), 0, value)),
+          methodType(int.class, Object.class), 0, 0);
+
+      if (kind.isPrimitive() || Comparable.class.isAssignableFrom(wrap(field.getType()))) {
+        var next = MethodHandles.guardWithTest(
+            MethodHandles.dropArguments(find("isZero", boolean.class, int.class), 1, Object.class, Object.class),
+            MethodHandles.dropArguments(orderingChain, 0, int.class),
+            MethodHandles.dropArguments(MethodHandles.identity(int.class), 1, Object.class, Object.class));
+        orderingChain = MethodHandles.foldArguments(next,
+            MethodHandles.filterArguments(find("fieldOrder", int.class, kind, kind), 0, value, value));
+      }
+    }
+
+    this.equality = equalityChain;
+    this.hashing = hashingChain;
+    this.ordering = orderingChain;
+  }
+
+  /**
+   * The {@code of} method returns the cached equivalence of the class.
+   *
+   * @param type       class object
+   * @param annotation annotation of the compared fields, {@code null} for all the fields
+   * @param <T>        type of objects
+   * @return {@link StructuralEquivalence}
+   */
+  @SuppressWarnings("unchecked")
+  static <T> StructuralEquivalence<T> of(Class<T> type, Class<? extends Annotation> annotation) {
+    return (StructuralEquivalence<T>) EQUIVALENCES.get(type).computeIfAbsent(annotation == null ? Annotation.class : annotation,
+        key -> new StructuralEquivalence<>(type, ReflectionUtils.getDeepFields(type).stream()
+            .filter(field -> !Modifier.isStatic(field.getModifiers()))
+            .filter(field -> annotation == null || field.isAnnotationPresent(annotation))
+            .sorted(Comparator.comparing(field -> !field.getType().isPrimitive()))
+            .toList()));
+  }
+
+  /**
+   * The {@code type} method returns the class object of the compared objects.
+   *
+   * @return {@link Class}
+   */
+  public Class<T> type() {
+    return type;
+  }
+
+  /**
+   * The {@code test} method returns {@code true} if the fields of the objects
+   * are equal, two {@code null} objects are equal.
+   *
+   * @param first  first object
+   * @param second second object
+   * @return {@code boolean}
+   */
+  @Override
+  public boolean test(T first, T second) {
+    if (first == second) {
+      return true;
+    } else if (first == null || second == null) {
+      return false;
+    }
+
+    try {
+      return (boolean) equality.invokeExact((Object) first, (Object) second);
+    } catch (Throwable e) {
+      throw propagate(e);
+    }
+  }
+
+  /**
+   * The {@code hash} method returns the hash code of the fields of the object,
+   * it is {@code 0} for {@code null}.
+   *
+   * @param value the object
+   * @return hash code
+   */
+  public int hash(T value) {
+    if (value == null) {
+      return 0;
+    }
+
+    try {
+      return (int) hashing.invokeExact((Object) value);
+    } catch (Throwable e) {
+      throw propagate(e);
+    }
+  }
+
+  /**
+   * The {@code compare} method compares the objects field by field, the
+   * {@code null} object is less than the others.
+   *
+   * @param first  first object
+   * @param second second object
+   * @return a negative integer, zero, or a positive integer as the first object
+   *     is less than, equal to, or greater than the second object
+   */
+  @Override
+  public int compare(T first, T second) {
+    if (first == second) {
+      return 0;
+    } else if (first == null || second == null) {
+      return first == null ? -1 : 1;
+    }
+
+    try {
+      return (int) ordering.invokeExact((Object) first, (Object) second);
+    } catch (Throwable e) {
+      throw propagate(e);
+    }
+  }
+
+  /**
+   * The {@code key} method wraps the object in a {@link Key} whose
+   * {@code equals} and {@code hashCode} methods are structural.
+   *
+   * @param value the object
+   * @return {@link Key}
+   */
+  public Key<T> key(T value) {
+    return new Key<>(this, value);
+  }
+
+  private static Class<?> kind(Class<?> type) {
+    if (type == byte.class || type == short.class || type == char.class) {
+      return int.class;
+    } else if (type.isPrimitive()) {
+      return type;
+    }
+
+    return Object.class;
+  }
+
+  private static MethodHandle find(String name, Class<?> returnType, Class<?>... parameterTypes) {
+    return Try.of(() -> LOOKUP.findStatic(StructuralEquivalence.class, name, methodType(returnType, parameterTypes))).get();
+  }
+
+  private static boolean fieldEqual(int first, int second) {
+    return first == second;
+  }
+
+  private static boolean fieldEqual(long first, long second) {
+    return first == second;
+  }
+
+  private static boolean fieldEqual(float first, float second) {
+    return Float.compare(first, second) == 0;
+  }
+
+  private static boolean fieldEqual(double first, double second) {
+    return Double.compare(first, second) == 0;
+  }
+
+  private static boolean fieldEqual(boolean first, boolean second) {
+    return first == second;
+  }
+
+  private static boolean fieldEqual(Object first, Object second) {
+    return Objects.equals(first, second);
+  }
+
+  private static boolean fieldEqualDeep(Object first, Object second) {
+    return Objects.deepEquals(first, second);
+  }
+
+  private static int fieldHash(int value) {
+    return Integer.hashCode(value);
+  }
+
+  private static int fieldHash(long value) {
+    return Long.hashCode(value);
+  }
+
+  private static int fieldHash(float value) {
+    return Float.hashCode(value);
+  }
+
+  private static int fieldHash(double value) {
+    return Double.hashCode(value);
+  }
+
+  private static int fieldHash(boolean value) {
+    return Boolean.hashCode(value);
+  }
+
+  private static int fieldHash(Object value) {
+    return Objects.hashCode(value);
+  }
+
+  private static int fieldHashDeep(Object value) {
+    return value != null && value.getClass().isArray() ? Arrays.deepHashCode(new Object[] {value}) : Objects.hashCode(value);
+  }
+
+  private static int mix(int hash, int value) {
+    return 31 * hash + value;
+  }
+
+  private static boolean isZero(int value) {
+    return value == 0;
+  }
+
+  private static int fieldOrder(int first, int second) {
+    return Integer.compare(first, second);
+  }
+
+  private static int fieldOrder(long first, long second) {
+    return Long.compare(first, second);
+  }
+
+  private static int fieldOrder(float first, float second) {
+    return Float.compare(first, second);
+  }
+
+  private static int fieldOrder(double first, double second) {
+    return Double.compare(first, second);
+  }
+
+  private static int fieldOrder(boolean first, boolean second) {
+    return Boolean.compare(first, second);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static int fieldOrder(Object first, Object second) {
+    if (first == second) {
+      return 0;
+    } else if (first == null || second == null) {
+      return first == null ? -1 : 1;
+    }
+
+    return ((Comparable) first).compareTo(second);
+  }
+
+  /**
+   * The {@link Key} class wraps an object to use the structural equality
+   * and hash code of it in the hash based collections.
+   *
+   * @param <T> type of object
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  public static final class Key<T> {
+
+    private final StructuralEquivalence<T> equivalence;
+
+    private final T value;
+
+    private final int hash;
+
+    private Key(StructuralEquivalence<T> equivalence, T value) {
+      this.equivalence = equivalence;
+      this.value = value;
+      this.hash = equivalence.hash(value);
+    }
+
+    /**
+     * The {@code value} method returns the wrapped object.
+     *
+     * @return the object
+     */
+    public T value() {
+      return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean equals(Object o) {
+      return this == o || (o instanceof Key<?> key && key.equivalence == equivalence && key.hash == hash
+          && equivalence.test(value, (T) key.value));
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public String toString() {
+      return "Key[" + value + "]";
+    }
+  }
+}
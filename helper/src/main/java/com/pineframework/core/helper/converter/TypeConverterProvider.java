@@ -0,0 +1,42 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper.converter;
+
+/**
+ * The {@link TypeConverterProvider} interface is the service provider which
+ * registers the converters of an application or a library to the default
+ * {@link TypeConverterRegistry}.
+ * <p>
+ * The providers are loaded once by {@link java.util.ServiceLoader}, they
+ * should be declared by {@code provides} in {@code module-info.java}, or in
+ * {@code META-INF/services} on the class path.
+ * </p>
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @since 2022-01-01
+ */
+public interface TypeConverterProvider {
+
+  /**
+   * The {@code register} method registers the converters to the registry.
+   *
+   * @param registry {@link TypeConverterRegistry}
+   */
+  void register(TypeConverterRegistry registry);
+}
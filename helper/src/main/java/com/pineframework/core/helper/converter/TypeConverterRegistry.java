@@ -0,0 +1,311 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper.converter;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static com.pineframework.core.helper.validator.ObjectValidator.requireNonNull;
+import static java.lang.invoke.MethodType.methodType;
+import static java.time.format.DateTimeFormatter.ofPattern;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * The {@link TypeConverterRegistry} class keeps the converters of values from
+ * a source type to a target type.
+ * <ul>
+ *   <li>{@link #defaults()}</li>
+ *   <li>{@link #derive()}</li>
+ *   <li>{@link #register(Class, Class, Function)}</li>
+ *   <li>{@link #find(Class, Class)}</li>
+ *   <li>{@link #convert(Object, Class)}</li>
+ * </ul>
+ * <p>
+ * The converter of a pair of source and target type is the converter which is
+ * registered for the nearest super type of the source, so a converter from
+ * {@link Object} is the fallback of all the sources. The resolved converters
+ * are cached per source type in a {@link ClassValue}, and the cache is
+ * dropped when a converter is registered.
+ * </p>
+ * <p>
+ * The {@link #defaults()} registry converts the numbers directly, the other
+ * values are converted through their string representation. A derived
+ * registry, like the one of {@link com.pineframework.core.helper.OracleJdbcUtils},
+ * overrides the converters of its parent for the same target type.
+ * </p>
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @since 2022-01-01
+ */
+public final class TypeConverterRegistry {
+
+  private static final DateTimeFormatter DATE_TIME_FORMATTER = ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+  private static final DateTimeFormatter DATE_FORMATTER = ofPattern("yyyy-MM-dd");
+
+  private static final DateTimeFormatter TIME_FORMATTER = ofPattern("HH:mm:ss");
+
+  private static final TypeConverterRegistry DEFAULTS = createDefaults();
+
+  private final TypeConverterRegistry parent;
+
+  private final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> converters = new ConcurrentHashMap<>();
+
+  private volatile long version;
+
+  private volatile Cache cache;
+
+  private TypeConverterRegistry(TypeConverterRegistry parent) {
+    this.parent = parent;
+    this.cache = new Cache(-1);
+  }
+
+  /**
+   * The {@code defaults} method returns the shared registry which includes
+   * the converters of the java basic types and the converters of the
+   * {@link TypeConverterProvider} services.
+   *
+   * @return {@link TypeConverterRegistry}
+   */
+  public static TypeConverterRegistry defaults() {
+    return DEFAULTS;
+  }
+
+  /**
+   * The {@code derive} method creates an empty registry whose converters
+   * override the converters of this registry.
+   *
+   * @return {@link TypeConverterRegistry}
+   */
+  public TypeConverterRegistry derive() {
+    return new TypeConverterRegistry(this);
+  }
+
+  /**
+   * The {@code register} method registers the converter from the source type
+   * to the target type, the primitive types are registered as their wrappers.
+   *
+   * @param source    class object of value
+   * @param target    class object of expectation type
+   * @param converter {@link Function}
+   * @param <S>       source type
+   * @param <T>       target type
+   * @return this registry
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized <S, T> TypeConverterRegistry register(Class<S> source, Class<T> target, Function<? super S, ? extends T> converter) {
+    requireNonNull(source, i18n("error.validation.should.not.be.null", i18n("var.name.source")));
+    requireNonNull(target, i18n("error.validation.should.not.be.null", i18n("var.name.target")));
+    requireNonNull(converter, i18n("error.validation.should.not.be.null", i18n("var.name.convertor")));
+
+    converters.computeIfAbsent(wrap(target), key -> new ConcurrentHashMap<>())
+        .put(wrap(source), (Function<Object, Object>) converter);
+    version++;
+
+    return this;
+  }
+
+  /**
+   * The {@code find} method returns the cached converter from the source type
+   * to the target type, it is the identity if the types are the same.
+   *
+   * @param source class object of value
+   * @param target class object of expectation type
+   * @return {@link Optional} of converter, empty if there is no converter
+   * @throws IllegalArgumentException if any parameter is {@code null}
+   */
+  public Optional<Function<Object, Object>> find(Class<?> source, Class<?> target) {
+    requireNonNull(source, i18n("error.validation.should.not.be.null", i18n("var.name.source")));
+    requireNonNull(target, i18n("error.validation.should.not.be.null", i18n("var.name.target")));
+
+    var current = cache;
+    var stamp = stamp();
+    if (current.stamp != stamp) {
+      current = new Cache(stamp);
+      cache = current;
+    }
+
+    var wrappedSource = wrap(source);
+    var wrappedTarget = wrap(target);
+    var pipelines = current.pipelines.get(wrappedSource);
+    var pipeline = pipelines.get(wrappedTarget);
+
+    return pipeline != null ? pipeline : pipelines.computeIfAbsent(wrappedTarget, key -> resolve(wrappedSource, key));
+  }
+
+  /**
+   * The {@code convert} method converts the value to the target type.
+   *
+   * @param value  the value
+   * @param target class object of expectation type
+   * @param <T>    target type
+   * @return converted value
+   * @throws IllegalArgumentException if any parameter is {@code null}, or there is no converter
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T convert(Object value, Class<T> target) {
+    requireNonNull(value, i18n("error.validation.should.not.be.null", i18n("var.name.value")));
+
+    return (T) find(value.getClass(), target)
+        .orElseThrow(() -> new IllegalArgumentException(i18n("error.validation.can.not.find", i18n("var.name.convertor"))))
+        .apply(value);
+  }
+
+  private long stamp() {
+    return parent == null ? version : version + parent.stamp();
+  }
+
+  private Optional<Function<Object, Object>> resolve(Class<?> source, Class<?> target) {
+    if (target == source) {
+      return Optional.of(Function.identity());
+    }
+
+    var hierarchy = hierarchy(source);
+    for (var registry = this; registry != null; registry = registry.parent) {
+      var candidates = registry.converters.get(target);
+      if (candidates == null) {
+        continue;
+      }
+
+      for (var type : hierarchy) {
+        var converter = candidates.get(type);
+        if (converter != null) {
+          return Optional.of(converter);
+        }
+      }
+    }
+
+    return Optional.empty();
+  }
+
+  private static Set<Class<?>> hierarchy(Class<?> source) {
+    var hierarchy = new LinkedHashSet<Class<?>>();
+    var interfaces = new ArrayDeque<Class<?>>();
+
+    for (var type = source; type != null && type != Object.class; type = type.getSuperclass()) {
+      hierarchy.add(type);
+      interfaces.addAll(List.of(type.getInterfaces()));
+    }
+
+    while (!interfaces.isEmpty()) {
+      var type = interfaces.poll();
+      if (hierarchy.add(type)) {
+        interfaces.addAll(List.of(type.getInterfaces()));
+      }
+    }
+
+    hierarchy.add(Object.class);
+    return hierarchy;
+  }
+
+  private static Class<?> wrap(Class<?> type) {
+    return type.isPrimitive() ? methodType(type).wrap().returnType() : type;
+  }
+
+  private static TypeConverterRegistry createDefaults() {
+    var registry = new TypeConverterRegistry(null);
+
+    registry.register(Object.class, Integer.class, o -> Integer.valueOf(String.valueOf(o)));
+    registry.register(Object.class, Long.class, o -> Long.valueOf(String.valueOf(o)));
+    registry.register(Object.class, Float.class, o -> Float.valueOf(String.valueOf(o)));
+    registry.register(Object.class, Double.class, o -> Double.valueOf(String.valueOf(o)));
+    registry.register(Object.class, BigInteger.class, o -> new BigInteger(String.valueOf(o)));
+    registry.register(Object.class, BigDecimal.class, o -> new BigDecimal(String.valueOf(o)));
+    registry.register(Object.class, String.class, String::valueOf);
+    registry.register(Object.class, Boolean.class, o -> Boolean.valueOf(String.valueOf(o)));
+    registry.register(Object.class, LocalDateTime.class, o -> LocalDateTime.parse(String.valueOf(o), DATE_TIME_FORMATTER));
+    registry.register(Object.class, LocalDate.class, o -> LocalDate.parse(String.valueOf(o), DATE_FORMATTER));
+    registry.register(Object.class, LocalTime.class, o -> LocalTime.parse(String.valueOf(o), TIME_FORMATTER));
+
+    for (var integral : List.of(Byte.class, Short.class, Integer.class, Long.class)) {
+      registry.register(integral, Integer.class, o -> {
+        var number = o.longValue();
+        return (int) number == number ? Integer.valueOf((int) number) : Integer.valueOf(String.valueOf(o));
+      });
+      registry.register(integral, Long.class, Number::longValue);
+      registry.register(integral, BigInteger.class, o -> BigInteger.valueOf(o.longValue()));
+      registry.register(integral, BigDecimal.class, o -> BigDecimal.valueOf(o.longValue()));
+    }
+
+    registry.register(Number.class, String.class, String::valueOf);
+    registry.register(Number.class, Double.class, Number::doubleValue);
+    registry.register(Float.class, Double.class, o -> Double.parseDouble(Float.toString(o)));
+    registry.register(Number.class, Float.class, Number::floatValue);
+    registry.register(Double.class, BigDecimal.class, BigDecimal::valueOf);
+    registry.register(Float.class, BigDecimal.class, o -> new BigDecimal(String.valueOf(o)));
+    registry.register(BigDecimal.class, BigInteger.class, BigDecimal::toBigIntegerExact);
+    registry.register(BigInteger.class, Long.class, BigInteger::longValueExact);
+    registry.register(BigDecimal.class, Long.class, BigDecimal::longValueExact);
+    registry.register(BigInteger.class, Integer.class, BigInteger::intValueExact);
+    registry.register(BigDecimal.class, Integer.class, BigDecimal::intValueExact);
+
+    registry.register(Timestamp.class, LocalDateTime.class, Timestamp::toLocalDateTime);
+    registry.register(Timestamp.class, LocalDate.class, o -> o.toLocalDateTime().toLocalDate());
+    registry.register(Timestamp.class, LocalTime.class, o -> o.toLocalDateTime().toLocalTime());
+    registry.register(java.sql.Date.class, LocalDate.class, java.sql.Date::toLocalDate);
+    registry.register(Time.class, LocalTime.class, Time::toLocalTime);
+    registry.register(LocalDateTime.class, LocalDate.class, LocalDateTime::toLocalDate);
+    registry.register(LocalDateTime.class, LocalTime.class, LocalDateTime::toLocalTime);
+
+    ServiceLoader.load(TypeConverterProvider.class)
+        .forEach(provider -> provider.register(registry));
+
+    return registry;
+  }
+
+  /**
+   * The {@link Cache} class keeps the resolved converters of a version of
+   * the registry.
+   *
+   * @author Saman Alishirishahrbabak
+   * @version 1.0.0
+   * @since 2022-01-01
+   */
+  private static final class Cache {
+
+    private final long stamp;
+
+    private final ClassValue<Map<Class<?>, Optional<Function<Object, Object>>>> pipelines = new ClassValue<>() {
+      @Override
+      protected Map<Class<?>, Optional<Function<Object, Object>>> computeValue(Class<?> source) {
+        return new ConcurrentHashMap<>();
+      }
+    };
+
+    private Cache(long stamp) {
+      this.stamp = stamp;
+    }
+  }
+}
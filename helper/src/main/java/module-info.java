@@ -11,8 +11,12 @@ open module core.java.helper {
   requires org.slf4j;
   requires org.reflections;
   requires net.jodah.typetools;
+  requires static jdk.management;
   requires java.base;
 
   exports com.pineframework.core.helper;
+  exports com.pineframework.core.helper.converter;
   exports com.pineframework.core.helper.validator;
+
+  uses com.pineframework.core.helper.converter.TypeConverterProvider;
 }
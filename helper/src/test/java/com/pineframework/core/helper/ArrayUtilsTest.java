@@ -18,6 +18,7 @@
 package com.pineframework.core.helper;
 
 import static com.pineframework.core.helper.ArrayUtils.concat;
+import static com.pineframework.core.helper.ArrayUtils.countFrequency;
 import static com.pineframework.core.helper.ArrayUtils.createArray;
 import static com.pineframework.core.helper.ArrayUtils.find;
 import static com.pineframework.core.helper.ArrayUtils.intersection;
@@ -27,6 +28,7 @@ import static com.pineframework.core.helper.ArrayUtils.subtract;
 import static com.pineframework.core.helper.ArrayUtils.union;
 import static com.pineframework.core.helper.I18nUtils.i18n;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -606,6 +608,82 @@ class ArrayUtilsTest extends AbstractUtilsTest {
     assertThat(result).containsOnly(expectedArray);
   }
 
+  @Test
+  @DisplayName("counting values of int and long arrays")
+  void countFrequency_IfArrayHasValues_ShouldCountEachValue() {
+    //Given
+    var givenInts = new int[] {0, 5, 5, -1, 5, 0};
+    var givenLongs = new long[] {Long.MAX_VALUE, 2L, Long.MAX_VALUE};
+
+    //When
+    var intResult = countFrequency(givenInts);
+    var longResult = countFrequency(givenLongs);
+
+    //Then
+    assertEquals(3, intResult.size());
+    assertEquals(3, intResult.get(5));
+    assertEquals(2, intResult.get(0));
+    assertArrayEquals(new int[] {5, 0, -1}, intResult.keysByCount());
+    assertEquals(2, longResult.get(Long.MAX_VALUE));
+    assertArrayEquals(new long[] {Long.MAX_VALUE, 2L}, longResult.keysByCount());
+  }
+
+  @Test
+  @DisplayName("subtracting between a null int array and another int array")
+  void subtract_IfIntArrayIsNull_ShouldThrowIllegalArgumentException() {
+    //Given
+    int[] givenArray1 = null;
+    var givenArray2 = new int[] {1};
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> subtract(givenArray1, givenArray2));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.should.not.be.null", i18n("var.name.array")), message);
+  }
+
+  @Test
+  @DisplayName("set operations on two int arrays")
+  void subtract_IfIntArraysHaveElement_ShouldNotBoxValues() {
+    //Given
+    var givenArray1 = new int[] {0, 1, 2, 2, 3, -4, 5};
+    var givenArray2 = new int[] {2, 5, 0, 7};
+
+    //When
+    var subtractResult = subtract(givenArray1, givenArray2);
+    var intersectionResult = intersection(givenArray1, givenArray2);
+    var unionResult = union(givenArray1, givenArray2);
+
+    //Then
+    assertArrayEquals(new int[] {1, 3, -4}, subtractResult);
+    assertArrayEquals(new int[] {0, 2, 2, 5}, intersectionResult);
+    assertArrayEquals(new int[] {0, 1, 2, 3, -4, 5, 7}, unionResult);
+  }
+
+  @Test
+  @DisplayName("set operations on two long arrays")
+  void subtract_IfLongArraysHaveElement_ShouldNotBoxValues() {
+    //Given
+    var givenArray1 = new long[] {Long.MAX_VALUE, 1L, 2L, 3L, Long.MIN_VALUE, 0L};
+    var givenArray2 = new long[] {2L, Long.MIN_VALUE, 4L};
+
+    //When
+    var subtractResult = subtract(givenArray1, givenArray2);
+    var intersectionResult = intersection(givenArray1, givenArray2);
+    var unionResult = union(givenArray1, givenArray2);
+
+    //Then
+    assertArrayEquals(new long[] {Long.MAX_VALUE, 1L, 3L, 0L}, subtractResult);
+    assertArrayEquals(new long[] {2L, Long.MIN_VALUE}, intersectionResult);
+    assertArrayEquals(new long[] {Long.MAX_VALUE, 1L, 2L, 3L, Long.MIN_VALUE, 0L, 4L}, unionResult);
+  }
+
   @Test
   @DisplayName("concatenate of two different arrays")
   void concat_IfArrayAndVarargHaveElement_ShouldReturnAllElement() {
@@ -0,0 +1,213 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.BatchUtils.chunk;
+import static com.pineframework.core.helper.BatchUtils.chunkByWeight;
+import static com.pineframework.core.helper.BatchUtils.prefetch;
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vavr.control.Try;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link BatchUtilsTest} class provides unit tests for {@link BatchUtils}.
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see BatchUtils
+ * @since 2022-01-01
+ */
+@SuppressWarnings("ALL")
+@DisplayName("Batch Utils Tests")
+class BatchUtilsTest extends AbstractUtilsTest {
+
+  @Test
+  @DisplayName("chunking with a size which is not positive")
+  void chunk_IfSizeIsNotPositive_ShouldThrowIllegalArgumentException() {
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> chunk(List.of(1, 2), 0));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.size")), message);
+  }
+
+  @Test
+  @DisplayName("chunking a collection and a stream into fixed size batches")
+  void chunk_IfElementsAreMoreThanSize_ShouldReturnBatchesLazily() {
+    //Given
+    var givenCollection = Arrays.asList(1, 2, null, 4, 5, 6, 7);
+    var givenRead = new AtomicInteger();
+    var givenClosed = new AtomicInteger();
+    var givenStream = IntStream.range(0, 1_000_000).boxed().peek(i -> givenRead.incrementAndGet()).onClose(givenClosed::incrementAndGet);
+
+    //When
+    var result = chunk(givenCollection, 3).toList();
+    List<List<Integer>> firstBatches;
+    try (var batches = chunk(givenStream, 100)) {
+      firstBatches = batches.limit(2).toList();
+    }
+
+    //Then
+    assertEquals(3, result.size());
+    assertEquals(Arrays.asList(1, 2, null), result.get(0));
+    assertEquals(List.of(7), result.get(2));
+    assertEquals(List.of(100, 199), List.of(firstBatches.get(1).get(0), firstBatches.get(1).get(99)));
+    assertEquals(200, givenRead.get());
+    assertEquals(1, givenClosed.get());
+  }
+
+  @Test
+  @DisplayName("chunking elements into weight bounded batches")
+  void chunkByWeight_IfElementsHaveWeights_ShouldNotExceedMaximumWeight() {
+    //Given
+    var givenElements = List.of("aa", "bbb", "c", "dddddd", "eeeeeeeeeeee", "f", "gg");
+
+    //When
+    var result = chunkByWeight(givenElements, 6, String::length).toList();
+
+    //Then
+    assertEquals(List.of(List.of("aa", "bbb", "c"), List.of("dddddd"), List.of("eeeeeeeeeeee"), List.of("f", "gg")), result);
+  }
+
+  @Test
+  @DisplayName("prefetching batches on a background thread")
+  void prefetch_IfStreamIsSlow_ShouldReturnSameElementsInOrder() {
+    //Given
+    var givenStream = IntStream.range(0, 10_000).boxed();
+    var executor = Executors.newSingleThreadExecutor();
+
+    try {
+      //When
+      var result = prefetch(chunk(givenStream, 64), 2, executor).flatMap(List::stream).toList();
+
+      //Then
+      assertEquals(IntStream.range(0, 10_000).boxed().toList(), result);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("prefetching a stream which fails")
+  void prefetch_IfStreamThrowsException_ShouldThrowItAfterPrefetchedElements() {
+    //Given
+    var givenStream = Stream.of("a", null, "c", "fail").map(element -> {
+      if ("fail".equals(element)) {
+        throw new IllegalStateException("failed");
+      }
+      return element;
+    });
+
+    //When
+    var result = prefetch(givenStream, 1).iterator();
+
+    //Then
+    assertEquals("a", result.next());
+    assertNull(result.next());
+    assertEquals("c", result.next());
+    var exception = assertThrows(IllegalStateException.class, result::hasNext);
+    assertEquals("failed", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("closing a prefetched stream early")
+  void prefetch_IfStreamIsClosedEarly_ShouldStopReading() throws InterruptedException {
+    //Given
+    var givenRead = new AtomicInteger();
+    var givenStream = IntStream.range(0, 1_000_000).boxed().peek(i -> givenRead.incrementAndGet());
+
+    //When
+    try (var stream = prefetch(givenStream, 4)) {
+      assertEquals(List.of(0, 1, 2), stream.limit(3).toList());
+    }
+    Thread.sleep(100);
+    var read = givenRead.get();
+    Thread.sleep(100);
+
+    //Then
+    assertTrue(read < 100);
+    assertEquals(read, givenRead.get());
+  }
+
+  @Test
+  @DisplayName("closing a prefetched stream while the stream is being read")
+  void prefetch_IfStreamIsClosedWhileReading_ShouldCloseSourceAfterReading() {
+    //Given
+    var givenReading = new AtomicBoolean();
+    var givenClosedWhileReading = new AtomicBoolean();
+    var givenClosed = new AtomicBoolean();
+    var givenStream = IntStream.range(0, 1_000).boxed()
+        .peek(i -> {
+          givenReading.set(true);
+          Try.run(() -> Thread.sleep(20));
+          givenReading.set(false);
+        })
+        .onClose(() -> {
+          givenClosedWhileReading.set(givenReading.get());
+          givenClosed.set(true);
+        });
+
+    //When
+    try (var stream = prefetch(givenStream, 1)) {
+      assertEquals(0, stream.iterator().next());
+    }
+
+    //Then
+    assertTrue(givenClosed.get());
+    assertFalse(givenClosedWhileReading.get());
+  }
+
+  @Test
+  @DisplayName("abandoning a prefetched stream without closing it")
+  void prefetch_IfStreamIsAbandoned_ShouldStopReadingAndCloseSource() throws InterruptedException {
+    //Given
+    var givenClosed = new AtomicBoolean();
+    var givenStream = Stream.iterate(0, i -> i + 1).onClose(() -> givenClosed.set(true));
+
+    //When
+    assertEquals(0, prefetch(givenStream, 2).iterator().next());
+    for (int i = 0; i < 100 && !givenClosed.get(); i++) {
+      System.gc();
+      Thread.sleep(50);
+    }
+
+    //Then
+    assertTrue(givenClosed.get());
+  }
+}
@@ -0,0 +1,164 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link BloomFilterTest} class provides unit tests for {@link BloomFilter}.
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see BloomFilter
+ * @since 2022-01-01
+ */
+@SuppressWarnings("ALL")
+@DisplayName("Bloom Filter Tests")
+class BloomFilterTest extends AbstractUtilsTest {
+
+  @Test
+  @DisplayName("creating a filter with a wrong false positive rate")
+  void constructor_IfFalsePositiveRateIsOutOfRange_ShouldThrowIllegalArgumentException() {
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> new BloomFilter<String>(100, 1));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.number")), message);
+  }
+
+  @Test
+  @DisplayName("checking added and not added elements")
+  void mightContain_IfFilterIsBuilt_ShouldNotHaveFalseNegativesAndKeepFalsePositiveRate() {
+    //Given
+    var givenElements = IntStream.range(0, 100_000).mapToObj(i -> "black" + i).toList();
+
+    //When
+    var result = BloomFilter.<String>of(givenElements, 0.01);
+    var falsePositives = IntStream.range(0, 100_000).filter(i -> result.mightContain("white" + i)).count();
+
+    //Then
+    assertEquals(7, result.hashCount());
+    assertTrue(result.bitSize() >= 958_505);
+    assertTrue(givenElements.stream().allMatch(result::mightContain));
+    assertTrue(falsePositives < 1_500);
+    assertEquals(0.01, result.falsePositiveRate(), 0.003);
+  }
+
+  @Test
+  @DisplayName("serializing, restoring and merging filters")
+  void toByteArray_IfFilterIsRestored_ShouldKeepElements() {
+    //Given
+    var givenFirst = new BloomFilter<Integer>(1_000, 0.05);
+    var givenSecond = new BloomFilter<Integer>(1_000, 0.05);
+    IntStream.range(0, 500).forEach(givenFirst::add);
+    IntStream.range(500, 1_000).forEach(givenSecond::add);
+
+    //When
+    var result = BloomFilter.<Integer>fromByteArray(givenFirst.merge(givenSecond).toByteArray());
+
+    //Then
+    assertEquals(givenFirst.bitSize(), result.bitSize());
+    assertTrue(IntStream.range(0, 1_000).allMatch(result::mightContain));
+    assertFalse(new BloomFilter<Integer>(1_000, 0.05).mightContain(1));
+    assertThrows(IllegalArgumentException.class, () -> givenFirst.merge(new BloomFilter<>(10, 0.05)));
+    assertThrows(IllegalArgumentException.class, () -> BloomFilter.fromByteArray(new byte[] {0, 0, 0, 1, 0, 0, 0, 1}));
+  }
+
+  @Test
+  @DisplayName("checking strings whose hash codes are equal")
+  void mightContain_IfHashCodesOfStringsAreEqual_ShouldKeepFalsePositiveRate() {
+    //Given
+    var givenElements = IntStream.range(0, 1 << 15).mapToObj(BloomFilterTest::collidingString).toList();
+    var givenAdded = IntStream.range(0, givenElements.size()).filter(i -> i % 2 == 0).mapToObj(givenElements::get).toList();
+    var givenOthers = IntStream.range(0, givenElements.size()).filter(i -> i % 2 == 1).mapToObj(givenElements::get).toList();
+
+    //When
+    var result = BloomFilter.<String>of(givenAdded, 0.01);
+    var falsePositives = givenOthers.stream().filter(result::mightContain).count();
+
+    //Then
+    assertEquals(1, givenElements.stream().mapToInt(String::hashCode).distinct().count());
+    assertTrue(givenAdded.stream().allMatch(result::mightContain));
+    assertTrue(falsePositives < givenOthers.size() * 0.02);
+  }
+
+  @Test
+  @DisplayName("checking many strings with a small false positive rate")
+  void mightContain_IfStringsAreMany_ShouldKeepSmallFalsePositiveRate() {
+    //Given
+    var givenElements = IntStream.range(0, 1_000_000).mapToObj(i -> "customer-" + i).toList();
+
+    //When
+    var result = BloomFilter.<String>of(givenElements, 0.001);
+    var falsePositives = IntStream.range(0, 1_000_000).filter(i -> result.mightContain("supplier-" + i)).count();
+
+    //Then
+    assertTrue(falsePositives < 1_500);
+  }
+
+  @Test
+  @DisplayName("hashing elements by a given hasher")
+  void of_IfHasherIsGiven_ShouldHashElementsByIt() {
+    //Given
+    List<TestKey> givenElements = IntStream.range(0, 10_000).mapToObj(i -> new TestKey(i)).toList();
+
+    //When
+    var result = BloomFilter.<TestKey>of(givenElements, 0.01, key -> HashFunctions.hash(key.id()));
+    var restored = BloomFilter.<TestKey>fromByteArray(result.toByteArray(), key -> HashFunctions.hash(key.id()));
+    var falsePositives = IntStream.range(10_000, 20_000).filter(i -> result.mightContain(new TestKey(i))).count();
+
+    //Then
+    assertTrue(givenElements.stream().allMatch(result::mightContain));
+    assertTrue(givenElements.stream().allMatch(restored::mightContain));
+    assertTrue(falsePositives < 200);
+    assertThrows(IllegalArgumentException.class, () -> new BloomFilter<TestKey>(10, 0.01, null));
+  }
+
+  private static String collidingString(int index) {
+    var builder = new StringBuilder();
+    for (int i = 0; i < 15; i++) {
+      builder.append((index >>> i & 1) == 0 ? "Aa" : "BB");
+    }
+
+    return builder.toString();
+  }
+
+  record TestKey(long id) {
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+  }
+}
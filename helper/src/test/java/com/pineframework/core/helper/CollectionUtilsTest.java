@@ -17,13 +17,39 @@
 
 package com.pineframework.core.helper;
 
+import static com.pineframework.core.helper.Aggregator.average;
+import static com.pineframework.core.helper.Aggregator.count;
+import static com.pineframework.core.helper.Aggregator.distinctCount;
+import static com.pineframework.core.helper.Aggregator.doubleMax;
+import static com.pineframework.core.helper.Aggregator.doubleSum;
+import static com.pineframework.core.helper.Aggregator.longMax;
+import static com.pineframework.core.helper.Aggregator.longMin;
+import static com.pineframework.core.helper.Aggregator.longSum;
+import static com.pineframework.core.helper.CollectionUtils.aggregate;
+import static com.pineframework.core.helper.CollectionUtils.aggregateInParallel;
 import static com.pineframework.core.helper.CollectionUtils.concat;
+import static com.pineframework.core.helper.CollectionUtils.concatView;
+import static com.pineframework.core.helper.CollectionUtils.countFrequency;
+import static com.pineframework.core.helper.CollectionUtils.countFrequencyInParallel;
+import static com.pineframework.core.helper.CollectionUtils.diff;
 import static com.pineframework.core.helper.CollectionUtils.findFrequency;
+import static com.pineframework.core.helper.CollectionUtils.findFrequencyInParallel;
 import static com.pineframework.core.helper.CollectionUtils.findRepetitiveElements;
+import static com.pineframework.core.helper.CollectionUtils.findRepetitiveElementsInParallel;
 import static com.pineframework.core.helper.CollectionUtils.intersection;
+import static com.pineframework.core.helper.CollectionUtils.intersectionInParallel;
 import static com.pineframework.core.helper.CollectionUtils.ofNullable;
+import static com.pineframework.core.helper.CollectionUtils.sortedDiff;
+import static com.pineframework.core.helper.CollectionUtils.sortedDifference;
+import static com.pineframework.core.helper.CollectionUtils.sortedIntersection;
+import static com.pineframework.core.helper.CollectionUtils.sortedSubtract;
+import static com.pineframework.core.helper.CollectionUtils.sortedUnion;
 import static com.pineframework.core.helper.CollectionUtils.subtract;
+import static com.pineframework.core.helper.CollectionUtils.subtractInParallel;
+import static com.pineframework.core.helper.CollectionUtils.topK;
 import static com.pineframework.core.helper.CollectionUtils.union;
+import static com.pineframework.core.helper.CollectionUtils.unionInParallel;
+import static com.pineframework.core.helper.CollectionUtils.unionView;
 import static com.pineframework.core.helper.I18nUtils.i18n;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -32,8 +58,23 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -137,6 +178,39 @@ class CollectionUtilsTest extends AbstractUtilsTest {
     assertEquals(2, result.get(9));
   }
 
+  @Test
+  @DisplayName("finding frequency of a collection include null elements")
+  void findFrequency_IfCollectionHasNullElement_ShouldCountNull() {
+    //Given
+    var givenCollection = Arrays.asList(null, "a", null);
+
+    //When
+    var result = findFrequency(givenCollection);
+
+    //Then
+    assertEquals(2, result.size());
+    assertEquals(2, result.get(null));
+    assertEquals(1, result.get("a"));
+  }
+
+  @Test
+  @DisplayName("counting elements of a collection include null elements")
+  void countFrequency_IfCollectionHasElement_ShouldCountEachElement() {
+    //Given
+    var givenCollection = Arrays.asList("b", "a", null, "b", "c", "b", null);
+
+    //When
+    var result = countFrequency(givenCollection);
+
+    //Then
+    assertEquals(4, result.size());
+    assertEquals(3, result.get("b"));
+    assertEquals(2, result.get(null));
+    assertEquals(0, result.get("d"));
+    assertEquals(List.of("b"), result.keysByCount().subList(0, 1));
+    assertEquals(findFrequency(givenCollection), result.toMap());
+  }
+
   @Test
   @DisplayName("finding repetitive elements in a null collection")
   void findRepetitiveElements_IfCollectionIsNull_ShouldThrowIllegalArgumentException() {
@@ -188,6 +262,73 @@ class CollectionUtilsTest extends AbstractUtilsTest {
     assertThat(result).containsOnly(expectedElements);
   }
 
+  @Test
+  @DisplayName("finding repetitive elements in parallel in a null collection")
+  void findRepetitiveElementsInParallel_IfCollectionIsNull_ShouldThrowIllegalArgumentException() {
+    //Given
+    Collection<Object> givenCollection = null;
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> findRepetitiveElementsInParallel(givenCollection));
+
+    // Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.should.not.be.null", i18n("var.name.collection")), message);
+  }
+
+  @Test
+  @DisplayName("finding repetitive elements in parallel in a collection include null elements")
+  void findRepetitiveElementsInParallel_IfCollectionHasNull_ShouldReturnRepeatedElementsAsCollection() {
+    //Given
+    var givenCollection = Arrays.asList(1, null, 2, 2, 3, null, 7, 7, 7, 9);
+
+    //When
+    var result = findRepetitiveElementsInParallel(givenCollection);
+
+    //Then
+    assertNotNull(result);
+    assertThat(result).containsOnly(null, 2, 7);
+  }
+
+  @Test
+  @DisplayName("finding repetitive elements in a large collection sequentially and in parallel")
+  void findRepetitiveElementsInParallel_IfCollectionIsLarge_ShouldReturnTheSameElements() {
+    //Given
+    var givenCollection = IntStream.range(0, 100_000).map(i -> i % 70_000).boxed().toList();
+
+    //When
+    var result = findRepetitiveElements(givenCollection);
+    var parallelResult = findRepetitiveElementsInParallel(givenCollection);
+
+    //Then
+    assertEquals(30_000, result.size());
+    assertEquals(result, parallelResult);
+  }
+
+  @Test
+  @Disabled("Benchmark, it should be run manually")
+  @DisplayName("benchmarking finding repetitive elements")
+  void findRepetitiveElements_Benchmark() {
+    //Given
+    var givenCollection = new Random(7).longs(200_000, 0, 150_000).boxed().toList();
+
+    //When
+    var quadratic = measure(() -> givenCollection.stream()
+        .filter(e -> Collections.frequency(givenCollection, e) > 1)
+        .collect(Collectors.toSet()));
+    var linear = measure(() -> findRepetitiveElements(givenCollection));
+    var parallel = measure(() -> findRepetitiveElementsInParallel(givenCollection));
+
+    //Then
+    logInfo("frequency filter: " + quadratic + " ms, hash set: " + linear + " ms, parallel: " + parallel + " ms");
+    assertTrue(linear < quadratic);
+  }
+
   @Test
   @DisplayName("subtracting between a null collection and another collection")
   void subtract_IfFirstCollectionIsNull_ShouldThrowIllegalArgumentException() {
@@ -406,6 +547,94 @@ class CollectionUtilsTest extends AbstractUtilsTest {
     assertThat(result).containsOnly(expectedCollection);
   }
 
+  @Test
+  @DisplayName("subtracting by a structural equivalence")
+  void subtract_IfComparatorIsStructuralEquivalence_ShouldCompareFields() {
+    //Given
+    var givenFirstCollection = List.of(new TestPoint(1, 2), new TestPoint(3, 4), new TestPoint(5, 6));
+    var givenSecondCollection = List.of(new TestPoint(3, 4));
+    var givenComparator = ReflectionUtils.structuralEquivalence(TestPoint.class);
+
+    //When
+    var result = subtract(givenFirstCollection, givenSecondCollection, givenComparator);
+
+    //Then
+    assertEquals(2, result.size());
+    assertThat(result).extracting(point -> point.x).containsExactly(1, 5);
+  }
+
+  @Test
+  @DisplayName("intersection by a structural equivalence")
+  void intersection_IfComparatorIsStructuralEquivalence_ShouldCompareFields() {
+    //Given
+    var givenFirstCollection = List.of(new TestPoint(1, 2), new TestPoint(3, 4), new TestPoint(5, 6));
+    var givenSecondCollection = List.of(new TestPoint(3, 4), new TestPoint(6, 5));
+    var givenComparator = ReflectionUtils.structuralEquivalence(TestPoint.class);
+
+    //When
+    var result = intersection(givenFirstCollection, givenSecondCollection, givenComparator);
+
+    //Then
+    assertEquals(1, result.size());
+    assertThat(result).extracting(point -> point.x).containsExactly(3);
+  }
+
+  @Test
+  @DisplayName("subtracting by a null key extractor")
+  void subtract_IfKeyExtractorIsNull_ShouldThrowIllegalArgumentException() {
+    //Given
+    var givenFirstCollection = List.of(1);
+    var givenSecondCollection = List.of(2);
+    Function<Integer, Integer> givenKeyExtractor = null;
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException,
+        () -> subtract(givenFirstCollection, givenSecondCollection, givenKeyExtractor, givenKeyExtractor));
+
+    // Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.should.not.be.null", i18n("var.name.keyGenerator")), message);
+  }
+
+  @Test
+  @DisplayName("subtracting by key extractors if either collection is smaller")
+  void subtract_IfKeyExtractorsAreGiven_ShouldCompareKeys() {
+    //Given
+    var givenPoints = List.of(new TestPoint(1, 2), new TestPoint(3, 4), new TestPoint(5, 6), new TestPoint(3, 7));
+    var givenFewIds = List.of("3");
+    var givenManyIds = List.of("3", "5", "8", "9", "10", "11");
+
+    //When
+    var result = subtract(givenPoints, givenFewIds, point -> point.x, Integer::valueOf);
+    var resultOfLargerSecond = subtract(givenPoints, givenManyIds, point -> point.x, Integer::valueOf);
+
+    //Then
+    assertThat(result).extracting(point -> point.x).containsExactly(1, 5);
+    assertThat(resultOfLargerSecond).extracting(point -> point.x).containsExactly(1);
+  }
+
+  @Test
+  @DisplayName("intersection by key extractors if either collection is smaller")
+  void intersection_IfKeyExtractorsAreGiven_ShouldCompareKeys() {
+    //Given
+    var givenPoints = List.of(new TestPoint(1, 2), new TestPoint(3, 4), new TestPoint(5, 6), new TestPoint(3, 7));
+    var givenFewIds = List.of("3");
+    var givenManyIds = List.of("3", "5", "8", "9", "10", "11");
+
+    //When
+    var result = intersection(givenPoints, givenFewIds, point -> point.x, Integer::valueOf);
+    var resultOfLargerSecond = intersection(givenPoints, givenManyIds, point -> point.x, Integer::valueOf);
+
+    //Then
+    assertThat(result).extracting(point -> point.y).containsExactly(4, 7);
+    assertThat(resultOfLargerSecond).extracting(point -> point.y).containsExactly(4, 6, 7);
+  }
+
   @Test
   @DisplayName("union of a null collection and an empty collection")
   void union_IfFirstCollectionIsNullAndSecondCollectionIsEmpty_ShouldThrowIllegalArgumentException() {
@@ -518,4 +747,576 @@ class CollectionUtilsTest extends AbstractUtilsTest {
     assertNull(result);
   }
 
+  @Test
+  @DisplayName("concatenate view of two collections")
+  void concatView_WithTwoCollections_ShouldReflectTheCollections() {
+    //Given
+    var givenFirstCollection = new ArrayList<>(List.of(1, 3, 5));
+    var givenSecondCollection = new LinkedHashSet<>(List.of(2, 4));
+
+    //When
+    var result = concatView(givenFirstCollection, givenSecondCollection);
+    givenFirstCollection.add(7);
+    givenSecondCollection.add(6);
+
+    //Then
+    assertEquals(List.of(1, 3, 5, 7, 2, 4, 6), result);
+    assertEquals(7, result.size());
+    assertEquals(4, result.get(5));
+    assertThrows(IndexOutOfBoundsException.class, () -> result.get(7));
+    assertThrows(UnsupportedOperationException.class, () -> result.add(8));
+  }
+
+  @Test
+  @DisplayName("concatenate view of a null collection and another collection")
+  void concatView_IfOneCollectionIsNull_ShouldConsiderItEmpty() {
+    //Given
+    Collection<Integer> givenFirstCollection = null;
+    var givenSecondCollection = List.of(1, 2);
+
+    //When
+    var result = concatView(givenFirstCollection, givenSecondCollection);
+
+    //Then
+    assertEquals(givenSecondCollection, result);
+    assertNull(concatView(null, null));
+  }
+
+  @Test
+  @DisplayName("union view of a null collection and another collection")
+  void unionView_IfFirstCollectionIsNull_ShouldThrowIllegalArgumentException() {
+    //Given
+    Collection<Object> givenFirstCollection = null;
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> unionView(givenFirstCollection, List.of()));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.should.not.be.null", i18n("var.name.collection")), message);
+  }
+
+  @Test
+  @DisplayName("union view of two collections")
+  void unionView_WithTwoCollections_ShouldReturnDistinctElementsLazily() {
+    //Given
+    var givenFirstCollection = new ArrayList<>(Arrays.asList(1, 3, null, 3));
+    var givenSecondCollection = new ArrayList<>(List.of(3, 2));
+
+    //When
+    var result = unionView(givenFirstCollection, givenSecondCollection);
+    givenSecondCollection.add(1);
+    givenSecondCollection.add(4);
+
+    //Then
+    var elements = new ArrayList<Integer>();
+    result.forEach(elements::add);
+    assertEquals(Arrays.asList(1, 3, null, 2, 4), elements);
+    assertThat(elements).containsExactlyInAnyOrderElementsOf(union(givenFirstCollection, givenSecondCollection));
+    var iterator = result.iterator();
+    assertEquals(1, iterator.next());
+    assertEquals(3, iterator.next());
+  }
+
+  @Test
+  @DisplayName("merging sorted inputs with a null comparator")
+  void sortedUnion_IfComparatorIsNull_ShouldThrowIllegalArgumentException() {
+    //Given
+    Comparator<Integer> givenComparator = null;
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException,
+        () -> sortedUnion(List.of(1).iterator(), List.of(2).iterator(), givenComparator));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.should.not.be.null", i18n("var.name.comparator")), message);
+  }
+
+  @Test
+  @DisplayName("merging sorted inputs with a null stream")
+  void sortedSubtract_IfStreamIsNull_ShouldThrowIllegalArgumentException() {
+    //Given
+    Stream<Integer> givenStream = null;
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException,
+        () -> sortedSubtract(givenStream, Stream.of(1), Comparator.naturalOrder()));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.should.not.be.null", i18n("var.name.source")), message);
+  }
+
+  @Test
+  @DisplayName("merging sorted inputs with repeated elements")
+  void sortedUnion_IfInputsAreSorted_ShouldReturnSortedResults() {
+    //Given
+    var givenFirstList = List.of(1, 2, 2, 4, 6, 6, 9);
+    var givenSecondList = List.of(2, 3, 6, 6, 6, 7, 9, 10);
+    Comparator<Integer> givenComparator = Comparator.naturalOrder();
+
+    //When
+    var union = sortedUnion(givenFirstList.iterator(), givenSecondList.iterator(), givenComparator).toList();
+    var intersection = sortedIntersection(givenFirstList.iterator(), givenSecondList.iterator(), givenComparator).toList();
+    var subtract = sortedSubtract(givenFirstList.iterator(), givenSecondList.iterator(), givenComparator).toList();
+    var difference = sortedDifference(givenFirstList.iterator(), givenSecondList.iterator(), givenComparator).toList();
+
+    //Then
+    assertEquals(List.of(1, 2, 3, 4, 6, 7, 9, 10), union);
+    assertEquals(List.of(2, 2, 6, 6, 9), intersection);
+    assertEquals(subtract(givenFirstList, givenSecondList), subtract);
+    assertEquals(List.of(1, 3, 4, 7, 10), difference);
+  }
+
+  @Test
+  @DisplayName("merging sorted streams")
+  void sortedIntersection_IfInputsAreStreams_ShouldConsumeThemLazilyAndCloseThem() {
+    //Given
+    var givenClosed = new AtomicInteger();
+    var givenConsumed = new AtomicInteger();
+    var givenFirstStream = IntStream.iterate(0, i -> i + 2).boxed().peek(i -> givenConsumed.incrementAndGet())
+        .onClose(givenClosed::incrementAndGet);
+    var givenSecondStream = IntStream.iterate(0, i -> i + 3).boxed().onClose(givenClosed::incrementAndGet);
+
+    //When
+    List<Integer> result;
+    try (var stream = sortedIntersection(givenFirstStream, givenSecondStream, Comparator.<Integer>naturalOrder())) {
+      result = stream.limit(4).toList();
+    }
+
+    //Then
+    assertEquals(List.of(0, 6, 12, 18), result);
+    assertTrue(givenConsumed.get() <= 11);
+    assertEquals(2, givenClosed.get());
+  }
+
+  @Test
+  @DisplayName("subtracting a null filter from a collection")
+  void subtract_IfFilterIsNull_ShouldThrowIllegalArgumentException() {
+    //Given
+    BloomFilter<Integer> givenFilter = null;
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> subtract(List.of(1), givenFilter));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.should.not.be.null", i18n("var.name.filter")), message);
+  }
+
+  @Test
+  @DisplayName("subtracting a filter of excluded elements from a collection")
+  void subtract_IfFilterIsVerified_ShouldReturnSameResultAsHashSubtract() {
+    //Given
+    var givenFirstCollection = IntStream.range(0, 20_000).boxed().toList();
+    var givenExcluded = IntStream.range(0, 100_000).map(i -> i * 3).boxed().collect(Collectors.toSet());
+    var givenFilter = BloomFilter.<Integer>of(givenExcluded, 0.05);
+    var verified = new AtomicInteger();
+
+    //When
+    var approximate = subtract(givenFirstCollection, givenFilter);
+    var result = subtract(givenFirstCollection, givenFilter, element -> {
+      verified.incrementAndGet();
+      return givenExcluded.contains(element);
+    });
+
+    //Then
+    var expected = subtract(givenFirstCollection, givenExcluded);
+    assertEquals(expected, result);
+    assertThat(expected).containsAll(approximate);
+    assertTrue(expected.size() - approximate.size() < 700);
+    assertTrue(verified.get() < 6_667 + 700);
+  }
+
+  @Test
+  @DisplayName("finding top k elements with a negative k")
+  void topK_IfKIsNegative_ShouldThrowIllegalArgumentException() {
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> topK(List.of(1), -1));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.size")), message);
+  }
+
+  @Test
+  @DisplayName("finding top k elements exactly and approximately")
+  void topK_IfElementsAreSkewed_ShouldReturnMostFrequentElements() {
+    //Given
+    var random = new Random(13);
+    var givenCollection = new ArrayList<Integer>();
+    IntStream.range(0, 10).forEach(i -> givenCollection.addAll(Collections.nCopies((i + 1) * 1_000, i)));
+    random.ints(100_000, 10, 100_000).forEach(givenCollection::add);
+    Collections.shuffle(givenCollection, random);
+
+    //Expectation
+    var expectedElements = findFrequency(givenCollection).entrySet().stream()
+        .sorted(Map.Entry.<Integer, Long>comparingByValue().reversed())
+        .limit(10)
+        .map(Map.Entry::getKey)
+        .toList();
+
+    //When
+    var exact = topK(givenCollection, 10);
+    var approximate = topK(givenCollection.parallelStream(), 10, 200);
+
+    //Then
+    assertEquals(expectedElements, exact);
+    assertThat(approximate).containsExactlyInAnyOrderElementsOf(expectedElements);
+    assertEquals(List.of(), topK(givenCollection, 0));
+  }
+
+  @Test
+  @DisplayName("comparing versions with a repeated key")
+  void diff_IfKeyIsRepeated_ShouldThrowIllegalArgumentException() {
+    //Given
+    var givenBefore = List.of(new TestPoint(1, 1), new TestPoint(1, 2));
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> diff(givenBefore, List.of(), point -> point.x));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.key")), message);
+  }
+
+  @Test
+  @DisplayName("comparing versions with a repeated key in the new version")
+  void diff_IfKeyIsRepeatedInNewVersion_ShouldThrowIllegalArgumentException() {
+    //Given
+    var givenBefore = List.of(new TestPoint(1, 1));
+    var givenAfter = List.of(new TestPoint(1, 1), new TestPoint(1, 2));
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> diff(givenBefore, givenAfter, point -> point.x));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.key")), message);
+  }
+
+  @Test
+  @DisplayName("comparing two versions of a collection")
+  void diff_IfVersionsAreDifferent_ShouldPartitionElements() {
+    //Given
+    var givenBefore = List.of(new TestPoint(1, 10), new TestPoint(2, 20), new TestPoint(3, 30), new TestPoint(4, 40));
+    var givenAfter = List.of(new TestPoint(5, 50), new TestPoint(3, 31), new TestPoint(1, 10));
+
+    //When
+    var result = diff(givenBefore, givenAfter, point -> point.x, (first, second) -> first.y == second.y);
+
+    //Then
+    assertEquals(List.of(givenAfter.get(0)), result.added());
+    assertEquals(List.of(givenBefore.get(1), givenBefore.get(3)), result.removed());
+    assertEquals(List.of(new CollectionDiff.Change<>(CollectionDiff.Kind.CHANGED, givenBefore.get(2), givenAfter.get(1))), result.changed());
+    assertEquals(List.of(givenAfter.get(2)), result.unchanged());
+    assertTrue(diff(List.of("a", "b"), List.of("b", "a"), Function.identity()).isEmpty());
+  }
+
+  @Test
+  @DisplayName("comparing two sorted versions of a collection")
+  void sortedDiff_IfVersionsAreSorted_ShouldReturnSameChangesAsDiff() {
+    //Given
+    var random = new Random(23);
+    var givenBefore = IntStream.range(0, 5_000).filter(i -> random.nextInt(4) != 0).mapToObj(i -> new TestPoint(i, i)).toList();
+    var givenAfter = IntStream.range(0, 5_000).filter(i -> random.nextInt(4) != 0)
+        .mapToObj(i -> new TestPoint(i, random.nextInt(5) == 0 ? -i : i)).toList();
+    BiPredicate<TestPoint, TestPoint> givenEquality = (first, second) -> first.y == second.y;
+
+    //Expectation
+    var expected = diff(givenBefore, givenAfter, point -> point.x, givenEquality);
+
+    //When
+    List<CollectionDiff.Change<TestPoint>> result;
+    try (var stream = sortedDiff(givenBefore.stream(), givenAfter.stream(), point -> point.x, Comparator.<Integer>naturalOrder(),
+        givenEquality)) {
+      result = stream.toList();
+    }
+
+    //Then
+    var byKind = result.stream().collect(Collectors.groupingBy(CollectionDiff.Change::kind));
+    assertEquals(expected.added(), byKind.get(CollectionDiff.Kind.ADDED).stream().map(CollectionDiff.Change::after).toList());
+    assertEquals(expected.removed(), byKind.get(CollectionDiff.Kind.REMOVED).stream().map(CollectionDiff.Change::before).toList());
+    assertEquals(expected.changed(), byKind.get(CollectionDiff.Kind.CHANGED));
+    assertEquals(expected.unchanged(), byKind.get(CollectionDiff.Kind.UNCHANGED).stream().map(CollectionDiff.Change::after).toList());
+  }
+
+  @Test
+  @DisplayName("running a parallel operation with null options")
+  void subtractInParallel_IfOptionsIsNull_ShouldThrowIllegalArgumentException() {
+    //Given
+    ParallelOptions givenOptions = null;
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> subtractInParallel(List.of(), List.of(), givenOptions));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.should.not.be.null", i18n("var.name.parameter")), message);
+  }
+
+  @Test
+  @DisplayName("setting a negative threshold of the parallel options")
+  void threshold_IfThresholdIsNegative_ShouldThrowIllegalArgumentException() {
+    //Given
+    var givenThreshold = -1;
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> ParallelOptions.create().threshold(givenThreshold));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.threshold")), message);
+  }
+
+  @Test
+  @DisplayName("running set operations in parallel")
+  void subtractInParallel_IfCollectionsAreLarge_ShouldReturnSameResultAsSequentialOperations() {
+    //Given
+    var givenFirstCollection = new Random(7).ints(50_000, 0, 40_000).boxed().toList();
+    var givenSecondCollection = new Random(11).ints(30_000, 0, 40_000).boxed().toList();
+    var givenPool = new ForkJoinPool(3);
+    var givenOptions = ParallelOptions.create().pool(givenPool).threshold(0);
+
+    try {
+      //When
+      var subtractResult = subtractInParallel(givenFirstCollection, givenSecondCollection, givenOptions);
+      var intersectionResult = intersectionInParallel(givenFirstCollection, givenSecondCollection, givenOptions);
+      var unionResult = unionInParallel(givenFirstCollection, givenSecondCollection, givenOptions);
+
+      //Then
+      assertEquals(subtract(givenFirstCollection, givenSecondCollection), subtractResult);
+      assertEquals(intersection(givenFirstCollection, givenSecondCollection), intersectionResult);
+      assertThat(unionResult).containsExactlyInAnyOrderElementsOf(union(givenFirstCollection, givenSecondCollection));
+    } finally {
+      givenPool.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("finding frequency of elements in parallel")
+  void findFrequencyInParallel_IfCollectionIsLarge_ShouldReturnSameResultAsSequentialOperation() {
+    //Given
+    var givenCollection = new Random(7).ints(50_000, 0, 1_000).mapToObj(i -> i == 0 ? null : "e" + i).toList();
+    var givenOptions = ParallelOptions.create().threshold(0);
+
+    //When
+    var result = findFrequencyInParallel(givenCollection, givenOptions);
+
+    //Then
+    assertEquals(findFrequency(givenCollection), result);
+  }
+
+  @Test
+  @DisplayName("running parallel operations on small collections")
+  void findFrequencyInParallel_IfCollectionIsSmallerThanThreshold_ShouldRunOnCallingThread() {
+    //Given
+    var givenCollection = List.of("a", "b", "a");
+    var givenPool = new ForkJoinPool(1);
+    givenPool.shutdown();
+    var givenOptions = ParallelOptions.create().pool(givenPool);
+
+    //When
+    var result = countFrequencyInParallel(givenCollection, givenOptions);
+
+    //Then
+    assertEquals(2, result.get("a"));
+    assertEquals(1, result.get("b"));
+  }
+
+  @Test
+  @DisplayName("aggregating a collection by a null aggregator")
+  void aggregate_IfAggregatorIsNull_ShouldThrowIllegalArgumentException() {
+    //Given
+    var givenCollection = List.of(new TestOrder("a", 1, 1.0, "p"));
+    List<Aggregator<TestOrder>> givenAggregators = Arrays.asList(count(), null);
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> aggregate(givenCollection, TestOrder::customer, givenAggregators));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.element")), message);
+  }
+
+  @Test
+  @DisplayName("aggregating a collection by a key")
+  void aggregate_IfAggregatorsAreGiven_ShouldComputeThemForEachKey() {
+    //Given
+    var givenCollection = List.of(
+        new TestOrder("a", 10, 1.5, "p1"),
+        new TestOrder("b", 7, 4.0, "p1"),
+        new TestOrder("a", -2, 2.5, "p2"),
+        new TestOrder("a", 5, 3.5, "p1"));
+    List<Aggregator<TestOrder>> givenAggregators = List.of(count(), longSum(TestOrder::amount), longMin(TestOrder::amount),
+        longMax(TestOrder::amount), doubleSum(TestOrder::price), doubleMax(TestOrder::price), average(TestOrder::price),
+        distinctCount(TestOrder::product));
+
+    //When
+    var result = aggregate(givenCollection, TestOrder::customer, givenAggregators);
+
+    //Then
+    assertThat(result).containsOnlyKeys("a", "b");
+    var a = result.get("a");
+    assertEquals(3, a.count());
+    assertEquals(3, a.getLong(0));
+    assertEquals(13, a.getLong(1));
+    assertEquals(-2, a.getLong(2));
+    assertEquals(10, a.getLong(3));
+    assertEquals(7.5, a.getDouble(4));
+    assertEquals(3.5, a.getDouble(5));
+    assertEquals(2.5, a.getDouble(6));
+    assertEquals(2, a.getLong(7));
+    assertEquals(7, result.get("b").getLong(2));
+    assertEquals(1, result.get("b").getLong(7));
+  }
+
+  @Test
+  @DisplayName("reading a double aggregate as a long")
+  void aggregate_IfDoubleResultIsReadAsLong_ShouldThrowIllegalArgumentException() {
+    //Given
+    var givenResult = aggregate(List.of(new TestOrder("a", 1, 1.0, "p")), TestOrder::customer,
+        List.<Aggregator<TestOrder>>of(average(TestOrder::price))).get("a");
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> givenResult.getLong(0));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.index")), message);
+  }
+
+  @Test
+  @DisplayName("aggregating a large collection in parallel")
+  void aggregateInParallel_IfCollectionIsLarge_ShouldReturnSameResultAsSequentialOperation() {
+    //Given
+    var random = new Random(7);
+    var givenCollection = IntStream.range(0, 50_000)
+        .mapToObj(i -> new TestOrder(i % 97 == 0 ? null : "c" + random.nextInt(100), random.nextInt(1_000) - 500,
+            random.nextInt(1_000) / 4.0, "p" + random.nextInt(50)))
+        .toList();
+    List<Aggregator<TestOrder>> givenAggregators = List.of(longSum(TestOrder::amount), longMin(TestOrder::amount),
+        longMax(TestOrder::amount), doubleSum(TestOrder::price), average(TestOrder::price), distinctCount(TestOrder::product));
+    var givenOptions = ParallelOptions.create().threshold(0);
+
+    //When
+    var result = aggregate(givenCollection, TestOrder::customer, givenAggregators);
+    var parallelResult = aggregateInParallel(givenCollection, TestOrder::customer, givenAggregators, givenOptions);
+
+    //Then
+    assertEquals(result.keySet(), parallelResult.keySet());
+    result.forEach((key, aggregates) -> assertEquals(aggregates.toString(), parallelResult.get(key).toString()));
+  }
+
+  @Test
+  @Disabled("Benchmark, it should be run manually")
+  @DisplayName("benchmarking crossover of parallel set operations")
+  void subtractInParallel_Benchmark() {
+    //Given
+    var sequential = ParallelOptions.create().threshold(Integer.MAX_VALUE);
+    var parallel = ParallelOptions.create().threshold(0);
+
+    for (var size : new int[] {1_000, 10_000, 100_000, 1_000_000, 5_000_000}) {
+      var givenFirstCollection = new Random(7).ints(size, 0, size).boxed().toList();
+      var givenSecondCollection = new Random(11).ints(size / 2, 0, size).boxed().toList();
+      var rounds = Math.max(1, 5_000_000 / size);
+
+      //When
+      var subtractSequential = measure(rounds, () -> subtractInParallel(givenFirstCollection, givenSecondCollection, sequential));
+      var subtractParallel = measure(rounds, () -> subtractInParallel(givenFirstCollection, givenSecondCollection, parallel));
+      var unionSequential = measure(rounds, () -> unionInParallel(givenFirstCollection, givenSecondCollection, sequential));
+      var unionParallel = measure(rounds, () -> unionInParallel(givenFirstCollection, givenSecondCollection, parallel));
+      var frequencySequential = measure(rounds, () -> countFrequencyInParallel(givenFirstCollection, sequential));
+      var frequencyParallel = measure(rounds, () -> countFrequencyInParallel(givenFirstCollection, parallel));
+
+      //Then
+      logInfo("size " + size + " (us/op, sequential/parallel): subtract " + subtractSequential + "/" + subtractParallel
+          + ", union " + unionSequential + "/" + unionParallel + ", frequency " + frequencySequential + "/" + frequencyParallel);
+    }
+  }
+
+  private static long measure(Runnable runnable) {
+    var start = System.nanoTime();
+    runnable.run();
+    return (System.nanoTime() - start) / 1_000_000;
+  }
+
+  private static long measure(int rounds, Runnable runnable) {
+    runnable.run();
+    var start = System.nanoTime();
+    for (int i = 0; i < rounds; i++) {
+      runnable.run();
+    }
+
+    return (System.nanoTime() - start) / rounds / 1_000;
+  }
+
+  record TestOrder(String customer, int amount, double price, String product) {
+  }
+
+  static class TestPoint {
+    private final int x;
+    private final int y;
+
+    TestPoint(int x, int y) {
+      this.x = x;
+      this.y = y;
+    }
+  }
 }
@@ -0,0 +1,181 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link ConcurrentCounterTest} class provides unit tests for {@link ConcurrentCounter}.
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see ConcurrentCounter
+ * @since 2022-01-01
+ */
+@SuppressWarnings("ALL")
+@DisplayName("Concurrent Counter Tests")
+class ConcurrentCounterTest extends AbstractUtilsTest {
+
+  @Test
+  @DisplayName("adding a count which is not positive")
+  void add_IfDeltaIsNotPositive_ShouldThrowIllegalArgumentException() {
+    //Given
+    var givenCounter = new ConcurrentCounter<String>();
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> givenCounter.add("a", -1));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.number")), message);
+  }
+
+  @Test
+  @DisplayName("counting objects and taking snapshots")
+  void snapshot_IfObjectsAreCounted_ShouldIncludeAllCounts() {
+    //Given
+    var givenCounter = new ConcurrentCounter<String>();
+    givenCounter.increment("a");
+    givenCounter.add(null, 3);
+
+    //When
+    var first = givenCounter.snapshot();
+    givenCounter.add("a", 2);
+    var second = givenCounter.snapshot();
+
+    //Then
+    assertEquals(1L, first.get("a"));
+    assertEquals(3L, first.get(null));
+    assertEquals(3L, second.get("a"));
+    assertEquals(3L, givenCounter.get("a"));
+    assertEquals(3L, givenCounter.get(null));
+    assertEquals(0L, givenCounter.get("b"));
+    assertThrows(UnsupportedOperationException.class, () -> second.put("b", 1L));
+  }
+
+  @Test
+  @DisplayName("printing the live counts")
+  void toString_IfObjectsAreCounted_ShouldReturnLiveCounts() {
+    //Given
+    var givenCounter = new ConcurrentCounter<String>();
+    givenCounter.add("a", 2);
+    givenCounter.snapshot();
+    givenCounter.increment("a");
+
+    //When
+    var result = givenCounter.toString();
+
+    //Then
+    assertEquals("{a=3}", result);
+  }
+
+  @Test
+  @DisplayName("counting hot objects by many threads while taking snapshots")
+  void snapshot_IfThreadsIncrementConcurrently_ShouldReturnConsistentCounts() throws InterruptedException {
+    //Given
+    var givenCounter = new ConcurrentCounter<String>();
+    var givenThreads = 8;
+    var givenIncrements = 50_000;
+    var executor = Executors.newFixedThreadPool(givenThreads);
+    var done = new CountDownLatch(givenThreads);
+
+    //When
+    for (int t = 0; t < givenThreads; t++) {
+      executor.execute(() -> {
+        for (int i = 0; i < givenIncrements; i++) {
+          givenCounter.increment("first");
+          givenCounter.increment("second");
+        }
+        done.countDown();
+      });
+    }
+    var snapshots = new ArrayList<Map<String, Long>>();
+    while (done.getCount() > 0) {
+      snapshots.add(givenCounter.snapshot());
+    }
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+    snapshots.add(givenCounter.snapshot());
+
+    //Then
+    var previous = 0L;
+    for (var snapshot : snapshots) {
+      var first = snapshot.getOrDefault("first", 0L);
+      assertTrue(first >= snapshot.getOrDefault("second", 0L));
+      assertTrue(first >= previous);
+      previous = first;
+    }
+    var expected = (long) givenThreads * givenIncrements;
+    assertEquals(Map.of("first", expected, "second", expected), snapshots.get(snapshots.size() - 1));
+  }
+
+  @Test
+  @Disabled("Benchmark, it should be run manually")
+  @DisplayName("benchmarking concurrent counting of hot objects")
+  void increment_Benchmark() throws InterruptedException {
+    for (var threads : new int[] {1, 2, 4, 8}) {
+      //Given
+      var counter = new ConcurrentCounter<Integer>();
+      var atomics = new ConcurrentHashMap<Integer, AtomicLong>();
+
+      //When
+      var striped = measure(threads, key -> counter.increment(key));
+      var atomic = measure(threads, key -> atomics.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet());
+
+      //Then
+      logInfo(threads + " threads (ms): striped adders " + striped + ", atomic longs " + atomic);
+    }
+  }
+
+  private static long measure(int threads, Consumer<Integer> increment) throws InterruptedException {
+    var executor = Executors.newFixedThreadPool(threads);
+    var start = System.nanoTime();
+    for (int t = 0; t < threads; t++) {
+      executor.execute(() -> {
+        for (int i = 0; i < 5_000_000; i++) {
+          increment.accept(i & 3);
+        }
+      });
+    }
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.MINUTES);
+
+    return (System.nanoTime() - start) / 1_000_000;
+  }
+}
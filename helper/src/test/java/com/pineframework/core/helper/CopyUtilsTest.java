@@ -0,0 +1,311 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.CopyUtils.deepCopy;
+import static com.pineframework.core.helper.CopyUtils.isImmutable;
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link CopyUtilsTest} class provides unit tests for {@link CopyUtils}.
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see CopyUtils
+ * @since 2022-01-01
+ */
+@SuppressWarnings("ALL")
+@DisplayName("Copy Utils Tests")
+class CopyUtilsTest extends AbstractUtilsTest {
+
+  @Test
+  @DisplayName("copying a null object")
+  void deepCopy_IfObjectIsNull_ShouldReturnNull() {
+    //When
+    var result = deepCopy(null);
+
+    //Then
+    assertNull(result);
+  }
+
+  @Test
+  @DisplayName("copying an immutable object")
+  void deepCopy_IfObjectIsImmutable_ShouldReturnTheSameObject() {
+    //Given
+    var givenString = "pine";
+    var givenDate = LocalDate.of(2022, 1, 1);
+    var givenRecord = new TestImmutableRecord("pine", 1);
+
+    //Then
+    assertSame(givenString, deepCopy(givenString));
+    assertSame(givenDate, deepCopy(givenDate));
+    assertSame(givenRecord, deepCopy(givenRecord));
+  }
+
+  @Test
+  @DisplayName("copying an object graph")
+  void deepCopy_IfObjectHasMutableFields_ShouldCopyThem() {
+    //Given
+    var givenNode = TestNode.create("root");
+
+    //When
+    var result = deepCopy(givenNode);
+
+    //Then
+    assertNotSame(givenNode, result);
+    assertSame(givenNode.name, result.name);
+    assertEquals(givenNode.id, result.id);
+    assertNotSame(givenNode.values, result.values);
+    assertArrayEquals(givenNode.values, result.values);
+    assertNotSame(givenNode.children, result.children);
+    assertInstanceOf(ArrayList.class, result.children);
+    assertNotSame(givenNode.children.get(0), result.children.get(0));
+    assertEquals("child", result.children.get(0).name);
+    assertNotSame(givenNode.properties, result.properties);
+    assertEquals(givenNode.properties, result.properties);
+    assertNotSame(givenNode.date, result.date);
+    assertEquals(givenNode.date, result.date);
+  }
+
+  @Test
+  @DisplayName("copying an object graph with cycles")
+  void deepCopy_IfObjectGraphHasCycle_ShouldKeepTheCycle() {
+    //Given
+    var givenNode = TestNode.create("root");
+    givenNode.parent = givenNode;
+    givenNode.children.get(0).parent = givenNode;
+
+    //When
+    var result = deepCopy(givenNode);
+
+    //Then
+    assertNotSame(givenNode, result);
+    assertSame(result, result.parent);
+    assertSame(result, result.children.get(0).parent);
+  }
+
+  @Test
+  @DisplayName("copying an array of mutable objects")
+  void deepCopy_IfObjectIsArray_ShouldCopyElements() {
+    //Given
+    var givenArray = new TestNode[] {TestNode.create("a"), null};
+
+    //When
+    var result = deepCopy(givenArray);
+
+    //Then
+    assertNotSame(givenArray, result);
+    assertEquals(2, result.length);
+    assertNotSame(givenArray[0], result[0]);
+    assertEquals("a", result[0].name);
+    assertNull(result[1]);
+  }
+
+  @Test
+  @DisplayName("copying the JDK collections")
+  void deepCopy_IfObjectIsJdkCollection_ShouldKeepTypeAndComparator() {
+    //Given
+    var givenSet = new TreeSet<String>(Comparator.reverseOrder());
+    givenSet.addAll(List.of("a", "b", "c"));
+    var givenImmutableList = List.of("a", "b");
+    var givenImmutableNodes = List.of(TestNode.create("a"));
+
+    //When
+    var setResult = deepCopy(givenSet);
+    var immutableListResult = deepCopy(givenImmutableList);
+    var immutableNodesResult = deepCopy(givenImmutableNodes);
+
+    //Then
+    assertNotSame(givenSet, setResult);
+    assertThat(setResult).containsExactly("c", "b", "a");
+    assertSame(givenImmutableList, immutableListResult);
+    assertNotSame(givenImmutableNodes.get(0), immutableNodesResult.get(0));
+    assertThrows(UnsupportedOperationException.class, () -> immutableNodesResult.add(null));
+  }
+
+  @Test
+  @DisplayName("copying a record with mutable components")
+  void deepCopy_IfObjectIsMutableRecord_ShouldCopyComponents() {
+    //Given
+    var givenRecord = new TestMutableRecord("pine", new ArrayList<>(List.of("a")));
+
+    //When
+    var result = deepCopy(givenRecord);
+
+    //Then
+    assertNotSame(givenRecord, result);
+    assertEquals(givenRecord, result);
+    assertNotSame(givenRecord.values(), result.values());
+  }
+
+  @Test
+  @DisplayName("copying an object without no-arg constructor")
+  void deepCopy_IfClassHasNotNoArgConstructor_ShouldThrowIllegalArgumentException() {
+    //Given
+    var givenObject = new TestWithoutConstructor("pine");
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> deepCopy(givenObject));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.can.not.find", i18n("var.name.constructor")), message);
+  }
+
+  @Test
+  @DisplayName("copying an optional with a mutable content")
+  void deepCopy_IfObjectIsOptional_ShouldCopyContent() {
+    //Given
+    var givenOptional = Optional.of(new ArrayList<>(List.of("a")));
+    var givenImmutableOptional = Optional.of("a");
+
+    //When
+    var result = deepCopy(givenOptional);
+
+    //Then
+    assertNotSame(givenOptional.get(), result.get());
+    assertEquals(givenOptional.get(), result.get());
+    assertSame(givenImmutableOptional, deepCopy(givenImmutableOptional));
+  }
+
+  @Test
+  @DisplayName("copying the mutable JDK objects which can not be copied")
+  void deepCopy_IfObjectIsNotCopyableJdkObject_ShouldThrowIllegalArgumentException() {
+    //Given
+    var givenObjects = List.of(new AtomicLong(), new StringBuilder("pine"), new DateTimeFormatterBuilder());
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+    var expectedMessage = i18n("error.validation.is.wrong", i18n("var.name.type"));
+
+    for (Object givenObject : givenObjects) {
+      //When
+      var result = assertThrows(expectedException, () -> deepCopy(givenObject));
+
+      //Then
+      assertNotNull(result);
+      var message = result.getMessage();
+      logErrorAsInfo(message);
+      assertEquals(expectedMessage, message);
+    }
+  }
+
+  @Test
+  @DisplayName("checking the immutable types")
+  void isImmutable_IfTypeIsGiven_ShouldDetectImmutability() {
+    //Then
+    assertTrue(isImmutable(int.class));
+    assertTrue(isImmutable(String.class));
+    assertTrue(isImmutable(LocalDate.class));
+    assertTrue(isImmutable(TestImmutableRecord.class));
+    assertFalse(isImmutable(TestMutableRecord.class));
+    assertFalse(isImmutable(TestNode.class));
+    assertFalse(isImmutable(Date.class));
+    assertTrue(isImmutable(DateTimeFormatter.class));
+    assertFalse(isImmutable(DateTimeFormatterBuilder.class));
+  }
+
+  @Test
+  @DisplayName("checking the immutability of a null type")
+  void isImmutable_IfTypeIsNull_ShouldThrowIllegalArgumentException() {
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> isImmutable(null));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.should.not.be.null", i18n("var.name.type")), message);
+  }
+
+  static class TestNode {
+    private final String name;
+    private long id;
+    private int[] values;
+    private List<TestNode> children = new ArrayList<>();
+    private Map<String, Object> properties = new HashMap<>();
+    private Date date;
+    private TestNode parent;
+
+    TestNode() {
+      this(null);
+    }
+
+    TestNode(String name) {
+      this.name = name;
+    }
+
+    static TestNode create(String name) {
+      var node = new TestNode(name);
+      node.id = 10L;
+      node.values = new int[] {1, 2, 3};
+      node.children.add(new TestNode("child"));
+      node.properties.put("key", new ArrayList<>(List.of(1, 2)));
+      node.date = new Date();
+      return node;
+    }
+  }
+
+  record TestImmutableRecord(String name, int value) {
+  }
+
+  record TestMutableRecord(String name, List<String> values) {
+  }
+
+  static class TestWithoutConstructor {
+    private final String name;
+
+    TestWithoutConstructor(String name) {
+      this.name = name;
+    }
+  }
+}
@@ -0,0 +1,154 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link CountMinSketchTest} class provides unit tests for {@link CountMinSketch}.
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see CountMinSketch
+ * @since 2022-01-01
+ */
+@SuppressWarnings("ALL")
+@DisplayName("Count-Min Sketch Tests")
+class CountMinSketchTest extends AbstractUtilsTest {
+
+  @Test
+  @DisplayName("creating a sketch with a wrong error bound")
+  void constructor_IfEpsilonIsOutOfRange_ShouldThrowIllegalArgumentException() {
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> new CountMinSketch<String>(0, 0.01));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.number")), message);
+  }
+
+  @Test
+  @DisplayName("estimating frequency of skewed elements and merging sketches")
+  void estimate_IfElementsAreSkewed_ShouldNotExceedErrorBound() {
+    //Given
+    var random = new Random(3);
+    var givenFirst = new CountMinSketch<String>(0.001, 0.01);
+    var givenSecond = new CountMinSketch<String>(0.001, 0.01);
+    var expectedCounts = new HashMap<String, Long>();
+
+    //When
+    for (int i = 0; i < 200_000; i++) {
+      var element = "key" + (int) Math.abs(random.nextGaussian() * 500);
+      (i % 2 == 0 ? givenFirst : givenSecond).add(element);
+      expectedCounts.merge(element, 1L, Long::sum);
+    }
+    var result = givenFirst.merge(givenSecond);
+
+    //Then
+    assertEquals(200_000, result.size());
+    assertEquals(2_719, result.width());
+    assertEquals(5, result.depth());
+    assertTrue(expectedCounts.entrySet().stream().allMatch(e -> result.estimate(e.getKey()) >= e.getValue()));
+    var exceeded = expectedCounts.entrySet().stream().filter(e -> result.estimate(e.getKey()) > e.getValue() + 0.001 * result.size()).count();
+    assertTrue(exceeded <= 0.01 * expectedCounts.size());
+  }
+
+  @Test
+  @DisplayName("merging sketches with different sizes")
+  void merge_IfSizesAreDifferent_ShouldThrowIllegalArgumentException() {
+    //Given
+    var givenFirst = new CountMinSketch<String>(0.01, 0.01);
+    var givenSecond = new CountMinSketch<String>(0.001, 0.01);
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> givenFirst.merge(givenSecond));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.size")), message);
+  }
+
+  @Test
+  @DisplayName("serializing and restoring a sketch")
+  void toByteArray_IfSketchIsRestored_ShouldReturnSameEstimates() {
+    //Given
+    var givenSketch = new CountMinSketch<Integer>(0.01, 0.05);
+    for (int i = 0; i < 1_000; i++) {
+      givenSketch.add(i % 10, i + 1);
+    }
+
+    //When
+    var result = CountMinSketch.<Integer>fromByteArray(givenSketch.toByteArray());
+
+    //Then
+    assertEquals(givenSketch.size(), result.size());
+    for (int i = 0; i < 10; i++) {
+      assertEquals(givenSketch.estimate(i), result.estimate(i));
+    }
+    assertThrows(IllegalArgumentException.class, () -> CountMinSketch.fromByteArray(new byte[] {0, 0, 0, 1}));
+  }
+
+  @Test
+  @DisplayName("estimating elements whose hash codes are equal")
+  void estimate_IfHashCodesAreEqual_ShouldCountElementsSeparately() {
+    //Given
+    var givenSketch = new CountMinSketch<String>(0.001, 0.01);
+    var givenHasher = new CountMinSketch<TestKey>(0.001, 0.01, key -> HashFunctions.hash(key.id()));
+
+    //When
+    givenSketch.add("Aa", 1_000);
+    givenSketch.add("BB", 1);
+    givenHasher.add(new TestKey(1), 1_000);
+    givenHasher.add(new TestKey(2), 1);
+    var restored = CountMinSketch.<TestKey>fromByteArray(givenHasher.toByteArray(), key -> HashFunctions.hash(key.id()));
+
+    //Then
+    assertEquals("Aa".hashCode(), "BB".hashCode());
+    assertEquals(1, givenSketch.estimate("BB"));
+    assertEquals(1, givenHasher.estimate(new TestKey(2)));
+    assertEquals(1, restored.estimate(new TestKey(2)));
+    assertThrows(IllegalArgumentException.class, () -> new CountMinSketch<TestKey>(0.01, 0.01, null));
+  }
+
+  record TestKey(long id) {
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,273 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pineframework.core.helper.ExternalSorter.Codec;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The {@link ExternalSorterTest} class provides unit tests for {@link ExternalSorter}.
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see ExternalSorter
+ * @since 2022-01-01
+ */
+@SuppressWarnings("ALL")
+@DisplayName("External Sorter Tests")
+class ExternalSorterTest extends AbstractUtilsTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  @DisplayName("creating a sorter without codec")
+  void create_IfCodecIsNull_ShouldThrowIllegalArgumentException() {
+    //Given
+    Codec<String> givenCodec = null;
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> ExternalSorter.create(givenCodec, Comparator.naturalOrder()));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.should.not.be.null", i18n("var.name.convertor")), message);
+  }
+
+  @Test
+  @DisplayName("sorting elements which are spilled to many runs")
+  void sort_IfElementsExceedMemoryBudget_ShouldMergeRunsAndDeleteThem() throws IOException {
+    //Given
+    var givenElements = new Random(17).longs(50_000, -5_000, 5_000).boxed().toList();
+    var givenSorter = ExternalSorter.create(Codec.longs(), Comparator.<Long>naturalOrder())
+        .memoryBudget(40_000)
+        .sizeEstimator(element -> 16)
+        .directory(directory);
+
+    //Expectation
+    var expectedFrequencies = givenElements.stream().collect(Collectors.groupingBy(Function.identity(), TreeMap::new, Collectors.counting()));
+
+    //When
+    List<Long> sorted;
+    try (var stream = givenSorter.sort(givenElements.iterator())) {
+      sorted = stream.toList();
+    }
+    var distinct = givenSorter.distinct(givenElements.iterator()).toList();
+    var duplicates = givenSorter.duplicates(givenElements.iterator()).toList();
+    var frequencies = givenSorter.frequencies(givenElements.iterator()).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+    //Then
+    assertEquals(givenElements.stream().sorted().toList(), sorted);
+    assertEquals(List.copyOf(expectedFrequencies.keySet()), distinct);
+    assertEquals(expectedFrequencies.entrySet().stream().filter(e -> e.getValue() > 1).map(Map.Entry::getKey).toList(), duplicates);
+    assertEquals(expectedFrequencies, frequencies);
+    try (var files = Files.list(directory)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  @Test
+  @DisplayName("closing a partially consumed stream")
+  void distinct_IfStreamIsClosedEarly_ShouldDeleteRuns() throws IOException {
+    //Given
+    var givenElements = new Random(19).ints(20_000, 0, 100_000).mapToObj(i -> "element-" + i).toList();
+    var givenSorter = ExternalSorter.create(Codec.strings(), Comparator.<String>naturalOrder())
+        .memoryBudget(100_000)
+        .directory(directory);
+
+    //When
+    List<String> result;
+    try (var stream = givenSorter.distinct(givenElements.iterator())) {
+      try (var files = Files.list(directory)) {
+        assertTrue(files.count() > 1);
+      }
+      result = stream.limit(3).toList();
+    }
+
+    //Then
+    assertEquals(givenElements.stream().sorted().distinct().limit(3).toList(), result);
+    try (var files = Files.list(directory)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  @Test
+  @DisplayName("sorting elements which fit in memory")
+  void duplicates_IfElementsFitInMemory_ShouldNotSpill() throws IOException {
+    //Given
+    var givenElements = List.of(3, -1, 3, 7, -1, -1, Integer.MIN_VALUE);
+    var givenSorter = ExternalSorter.create(Codec.integers(), Comparator.<Integer>reverseOrder()).directory(directory);
+
+    //When
+    var result = givenSorter.duplicates(givenElements.iterator()).toList();
+
+    //Then
+    assertEquals(List.of(3, -1), result);
+    assertEquals(List.of(7, 3, 3, -1, -1, -1, Integer.MIN_VALUE), givenSorter.sort(givenElements.iterator()).toList());
+    try (var files = Files.list(directory)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  @Test
+  @DisplayName("setting a fan-in less than two")
+  void maxFanIn_IfItIsLessThanTwo_ShouldThrowIllegalArgumentException() {
+    //Given
+    var givenSorter = ExternalSorter.create(Codec.longs(), Comparator.<Long>naturalOrder());
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> givenSorter.maxFanIn(1));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.size")), message);
+  }
+
+  @Test
+  @DisplayName("sorting more runs than the fan-in")
+  void sort_IfRunsExceedMaxFanIn_ShouldMergeThemInPasses() throws IOException {
+    //Given
+    var givenElements = new Random(23).longs(30_000, -3_000, 3_000).boxed().toList();
+    var givenSorter = ExternalSorter.create(Codec.longs(), Comparator.<Long>naturalOrder())
+        .memoryBudget(20_000)
+        .sizeEstimator(element -> 16)
+        .maxFanIn(3)
+        .directory(directory);
+
+    //When
+    List<Long> result;
+    try (var stream = givenSorter.sort(givenElements.iterator())) {
+      try (var files = Files.list(directory)) {
+        assertTrue(files.count() <= 3);
+      }
+      result = stream.toList();
+    }
+
+    //Then
+    assertEquals(givenElements.stream().sorted().toList(), result);
+    try (var files = Files.list(directory)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  @Test
+  @DisplayName("spilling a run which can not be written")
+  void sort_IfCodecCanNotWrite_ShouldDeleteSpilledRuns() throws IOException {
+    //Given
+    var givenElements = new Random(29).longs(20_000).boxed().toList();
+    var givenSorter = ExternalSorter.create(new FailingCodec(10_000, Integer.MAX_VALUE), Comparator.<Long>naturalOrder())
+        .memoryBudget(40_000)
+        .sizeEstimator(element -> 16)
+        .directory(directory);
+
+    //Expectation
+    var expectedException = IOException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> givenSorter.sort(givenElements.iterator()));
+
+    //Then
+    assertNotNull(result);
+    logErrorAsInfo(result.getMessage());
+    try (var files = Files.list(directory)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  @Test
+  @DisplayName("merging a run which can not be read")
+  void sort_IfCodecCanNotRead_ShouldCloseAndDeleteRuns() throws IOException {
+    //Given
+    var givenElements = new Random(31).longs(20_000).boxed().toList();
+    var givenSorter = ExternalSorter.create(new FailingCodec(Integer.MAX_VALUE, 3), Comparator.<Long>naturalOrder())
+        .memoryBudget(40_000)
+        .sizeEstimator(element -> 16)
+        .directory(directory);
+
+    //Expectation
+    var expectedException = IOException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> givenSorter.sort(givenElements.iterator()));
+
+    //Then
+    assertNotNull(result);
+    logErrorAsInfo(result.getMessage());
+    try (var files = Files.list(directory)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  static class FailingCodec implements Codec<Long> {
+    private final Codec<Long> codec = Codec.longs();
+    private final AtomicInteger writes;
+    private final AtomicInteger reads;
+
+    FailingCodec(int writes, int reads) {
+      this.writes = new AtomicInteger(writes);
+      this.reads = new AtomicInteger(reads);
+    }
+
+    @Override
+    public void write(DataOutput output, Long element) throws IOException {
+      if (writes.decrementAndGet() < 0) {
+        throw new IOException("No space left on device");
+      }
+      codec.write(output, element);
+    }
+
+    @Override
+    public Long read(DataInput input) throws IOException {
+      if (reads.decrementAndGet() < 0) {
+        throw new IOException("Input/output error");
+      }
+      return codec.read(input);
+    }
+  }
+}
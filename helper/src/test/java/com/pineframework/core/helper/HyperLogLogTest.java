@@ -0,0 +1,145 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link HyperLogLogTest} class provides unit tests for {@link HyperLogLog}.
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see HyperLogLog
+ * @since 2022-01-01
+ */
+@SuppressWarnings("ALL")
+@DisplayName("HyperLogLog Tests")
+class HyperLogLogTest extends AbstractUtilsTest {
+
+  @Test
+  @DisplayName("creating a sketch with a wrong relative error")
+  void constructor_IfRelativeErrorIsOutOfRange_ShouldThrowIllegalArgumentException() {
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> new HyperLogLog<String>(1.5));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.number")), message);
+  }
+
+  @Test
+  @DisplayName("estimating small and large cardinalities")
+  void cardinality_IfElementsAreRepeated_ShouldEstimateDistinctElements() {
+    //Given
+    var givenSmall = new HyperLogLog<Long>(0.01);
+    var givenLarge = new HyperLogLog<Long>(0.01);
+
+    //When
+    for (long i = 0; i < 300_000; i++) {
+      givenSmall.add(i % 100);
+      givenLarge.add(i * 7);
+      givenLarge.add(i * 7);
+    }
+
+    //Then
+    assertEquals(14, givenLarge.precision());
+    assertTrue(givenLarge.relativeError() <= 0.01);
+    assertEquals(100, givenSmall.cardinality(), 2);
+    assertEquals(300_000, givenLarge.cardinality(), 300_000 * 3 * givenLarge.relativeError());
+  }
+
+  @Test
+  @DisplayName("merging and serializing sketches")
+  void merge_IfSketchesHaveCommonElements_ShouldEstimateUnion() {
+    //Given
+    var givenFirst = new HyperLogLog<String>(0.02);
+    var givenSecond = new HyperLogLog<String>(0.02);
+    for (int i = 0; i < 60_000; i++) {
+      givenFirst.add("e" + i);
+      givenSecond.add("e" + (i + 30_000));
+    }
+
+    //When
+    var result = HyperLogLog.<String>fromByteArray(givenFirst.merge(givenSecond).toByteArray());
+
+    //Then
+    assertEquals(givenFirst.cardinality(), result.cardinality());
+    assertEquals(90_000, result.cardinality(), 90_000 * 3 * result.relativeError());
+    assertThrows(IllegalArgumentException.class, () -> givenFirst.merge(new HyperLogLog<>(0.1)));
+    assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromByteArray(new byte[] {4, 0}));
+  }
+
+  @Test
+  @DisplayName("creating a sketch with a relative error which needs a too high precision")
+  void constructor_IfRelativeErrorIsTooSmall_ShouldThrowIllegalArgumentException() {
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> new HyperLogLog<String>(0.001));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.number")), message);
+    assertEquals(18, new HyperLogLog<String>(0.00204).precision());
+  }
+
+  @Test
+  @DisplayName("estimating strings whose hash codes are equal")
+  void cardinality_IfHashCodesOfStringsAreEqual_ShouldEstimateDistinctElements() {
+    //Given
+    var givenSketch = new HyperLogLog<String>(0.01);
+    var givenHasher = new HyperLogLog<TestKey>(0.01, key -> HashFunctions.hash(key.id()));
+
+    //When
+    for (int i = 0; i < 1 << 16; i++) {
+      var builder = new StringBuilder();
+      for (int j = 0; j < 16; j++) {
+        builder.append((i >>> j & 1) == 0 ? "Aa" : "BB");
+      }
+      givenSketch.add(builder.toString());
+      givenHasher.add(new TestKey(i));
+    }
+
+    //Then
+    assertEquals(1 << 16, givenSketch.cardinality(), (1 << 16) * 3 * givenSketch.relativeError());
+    assertEquals(1 << 16, givenHasher.cardinality(), (1 << 16) * 3 * givenHasher.relativeError());
+  }
+
+  record TestKey(long id) {
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,169 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link IntCounterTest} class provides unit tests for {@link IntCounter}.
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see IntCounter
+ * @since 2022-01-01
+ */
+@SuppressWarnings("ALL")
+@DisplayName("Int Counter Tests")
+class IntCounterTest extends AbstractUtilsTest {
+
+  @Test
+  @DisplayName("creating a counter with a negative expected size")
+  void constructor_IfExpectedSizeIsNegative_ShouldThrowIllegalArgumentException() {
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> new IntCounter(-1));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.size")), message);
+  }
+
+  @Test
+  @DisplayName("creating a counter with a too large expected size")
+  void constructor_IfExpectedSizeIsTooLarge_ShouldThrowIllegalArgumentException() {
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> new IntCounter(Integer.MAX_VALUE));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.size")), message);
+  }
+
+  @Test
+  @DisplayName("adding a count which is not positive")
+  void add_IfDeltaIsNotPositive_ShouldThrowIllegalArgumentException() {
+    //Given
+    var givenCounter = new IntCounter();
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> givenCounter.add(1, 0L));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.number")), message);
+  }
+
+  @Test
+  @DisplayName("counting values until the table grows")
+  void increment_IfValuesAreMoreThanCapacity_ShouldKeepCountsAfterResize() {
+    //Given
+    var givenCounter = new IntCounter();
+
+    //When
+    for (int value = -500; value < 500; value++) {
+      for (int i = 0; i <= (value & 3); i++) {
+        givenCounter.increment(value);
+      }
+    }
+
+    //Then
+    assertEquals(1_000, givenCounter.size());
+    for (int value = -500; value < 500; value++) {
+      assertEquals((value & 3) + 1, givenCounter.get(value));
+    }
+    assertEquals(0, givenCounter.get(500));
+    var keys = givenCounter.keysByCount();
+    assertEquals(1_000, keys.length);
+    for (int i = 1; i < keys.length; i++) {
+      assertTrue(givenCounter.get(keys[i - 1]) >= givenCounter.get(keys[i]));
+    }
+  }
+
+  @Test
+  @DisplayName("removing values from the probe chains")
+  void remove_IfValuesAreRemovedAndAdded_ShouldCountLikeHashMap() {
+    //Given
+    var random = new Random(7);
+    var givenCounter = new IntCounter();
+    var expectedCounts = new HashMap<Integer, Long>();
+
+    //When
+    for (int i = 0; i < 200_000; i++) {
+      var value = random.nextInt(512) * 1_024;
+      if (random.nextInt(3) == 0) {
+        assertEquals(expectedCounts.getOrDefault(value, 0L), givenCounter.remove(value));
+        expectedCounts.remove(value);
+      } else {
+        givenCounter.increment(value);
+        expectedCounts.merge(value, 1L, Long::sum);
+      }
+    }
+
+    //Then
+    assertEquals(expectedCounts.size(), givenCounter.size());
+    assertEquals(expectedCounts, givenCounter.toMap());
+    for (int value = 0; value < 512 * 1_024; value += 1_024) {
+      assertEquals(expectedCounts.getOrDefault(value, 0L), givenCounter.get(value));
+    }
+  }
+
+  @Test
+  @DisplayName("merging two counters")
+  void merge_IfCountersHaveCommonValues_ShouldAddCounts() {
+    //Given
+    var givenFirst = new IntCounter();
+    givenFirst.add(1, 2);
+    givenFirst.increment(0);
+    var givenSecond = new IntCounter(10);
+    givenSecond.add(1, 3);
+    givenSecond.increment(2);
+
+    //When
+    var result = givenFirst.merge(givenSecond);
+
+    //Then
+    assertEquals(3, result.size());
+    assertEquals(5, result.get(1));
+    assertEquals(1, result.get(0));
+    assertEquals(1, result.get(2));
+    assertEquals(1, result.keysByCount()[0]);
+  }
+}
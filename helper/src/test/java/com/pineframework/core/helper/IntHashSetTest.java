@@ -0,0 +1,128 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link IntHashSetTest} class provides unit tests for {@link IntHashSet}.
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see IntHashSet
+ * @since 2022-01-01
+ */
+@SuppressWarnings("ALL")
+@DisplayName("Int Hash Set Tests")
+class IntHashSetTest extends AbstractUtilsTest {
+
+  @Test
+  @DisplayName("creating a set with a negative expected size")
+  void constructor_IfExpectedSizeIsNegative_ShouldThrowIllegalArgumentException() {
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> new IntHashSet(-1));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.size")), message);
+  }
+
+  @Test
+  @DisplayName("creating a set with a too large expected size")
+  void constructor_IfExpectedSizeIsTooLarge_ShouldThrowIllegalArgumentException() {
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> new IntHashSet(Integer.MAX_VALUE));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.size")), message);
+  }
+
+  @Test
+  @DisplayName("adding, finding and removing values including zero")
+  void add_IfValuesAreRepeated_ShouldKeepThemOnce() {
+    //Given
+    var givenSet = IntHashSet.of(0, 1, -1, 1, Integer.MIN_VALUE, 0);
+
+    //When
+    var removed = givenSet.remove(0);
+    var removedAgain = givenSet.remove(0);
+
+    //Then
+    assertTrue(removed);
+    assertFalse(removedAgain);
+    assertEquals(3, givenSet.size());
+    assertTrue(givenSet.contains(Integer.MIN_VALUE));
+    assertFalse(givenSet.contains(0));
+    assertArrayEquals(new int[] {Integer.MIN_VALUE, -1, 1}, sorted(givenSet.toArray()));
+    assertEquals("[-2147483648, -1, 1]", givenSet.toString());
+  }
+
+  @Test
+  @DisplayName("adding and removing many random values")
+  void remove_IfValuesAreRandom_ShouldBehaveLikeHashSet() {
+    //Given
+    var random = new Random(11);
+    var givenSet = new IntHashSet();
+    var expectedSet = new HashSet<Integer>();
+
+    //When
+    for (int i = 0; i < 100_000; i++) {
+      var value = random.nextInt(5_000);
+      if (random.nextBoolean()) {
+        assertEquals(expectedSet.add(value), givenSet.add(value));
+      } else {
+        assertEquals(expectedSet.remove(value), givenSet.remove(value));
+      }
+    }
+
+    //Then
+    assertEquals(expectedSet.size(), givenSet.size());
+    assertArrayEquals(expectedSet.stream().mapToInt(Integer::intValue).sorted().toArray(), sorted(givenSet.toArray()));
+    for (int value = 0; value < 5_000; value++) {
+      assertEquals(expectedSet.contains(value), givenSet.contains(value));
+    }
+  }
+
+  private static int[] sorted(int[] values) {
+    Arrays.sort(values);
+    return values;
+  }
+}
@@ -266,6 +266,21 @@ class JsonUtilsTest {
     assertEquals(expectedDto.age, result);
   }
 
+  @Test
+  @DisplayName("getting a text field from JSON string")
+  void readPrimitive_IfFieldIsText_ShouldReturnTextWithoutQuotes() {
+    //Given
+    var givenJsonString = JSON_STRING;
+    var givenFieldName = "name";
+    var givenFieldType = String.class;
+
+    //When
+    var result = readPrimitive(givenJsonString, givenFieldName, givenFieldType);
+
+    //Then
+    assertEquals(JSON_DTO.name, result);
+  }
+
   @Test
   @DisplayName("checking a JSON string contains the field")
   void contain_IfJsonContainsField_ShouldReturnTrue() {
@@ -0,0 +1,127 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link LongCounterTest} class provides unit tests for {@link LongCounter}.
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see LongCounter
+ * @since 2022-01-01
+ */
+@SuppressWarnings("ALL")
+@DisplayName("Long Counter Tests")
+class LongCounterTest extends AbstractUtilsTest {
+
+  @Test
+  @DisplayName("creating a counter with a too large expected size")
+  void constructor_IfExpectedSizeIsTooLarge_ShouldThrowIllegalArgumentException() {
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> new LongCounter(Integer.MAX_VALUE));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.size")), message);
+  }
+
+  @Test
+  @DisplayName("adding a count which is not positive")
+  void add_IfDeltaIsNotPositive_ShouldThrowIllegalArgumentException() {
+    //Given
+    var givenCounter = new LongCounter();
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> givenCounter.add(1L, 0L));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.number")), message);
+  }
+
+  @Test
+  @DisplayName("counting many random values and merging counters")
+  void increment_IfValuesAreRandom_ShouldCountLikeHashMap() {
+    //Given
+    var random = new Random(5);
+    var givenFirst = new LongCounter();
+    var givenSecond = new LongCounter(10);
+    var expectedCounts = new HashMap<Long, Long>();
+
+    //When
+    for (int i = 0; i < 100_000; i++) {
+      var value = random.nextLong() % 3_000;
+      (i % 2 == 0 ? givenFirst : givenSecond).increment(value);
+      expectedCounts.merge(value, 1L, Long::sum);
+    }
+    var result = givenFirst.merge(givenSecond);
+
+    //Then
+    assertEquals(expectedCounts, result.toMap());
+    var keys = result.keysByCount();
+    for (int i = 1; i < keys.length; i++) {
+      assertTrue(result.get(keys[i - 1]) >= result.get(keys[i]));
+    }
+  }
+
+  @Test
+  @DisplayName("removing values from the probe chains")
+  void remove_IfValuesAreRemovedAndAdded_ShouldCountLikeHashMap() {
+    //Given
+    var random = new Random(9);
+    var givenCounter = new LongCounter();
+    var expectedCounts = new HashMap<Long, Long>();
+
+    //When
+    for (int i = 0; i < 200_000; i++) {
+      var value = random.nextInt(512) * (1L << 32);
+      if (random.nextInt(3) == 0) {
+        assertEquals(expectedCounts.getOrDefault(value, 0L), givenCounter.remove(value));
+        expectedCounts.remove(value);
+      } else {
+        givenCounter.increment(value);
+        expectedCounts.merge(value, 1L, Long::sum);
+      }
+    }
+
+    //Then
+    assertEquals(expectedCounts.size(), givenCounter.size());
+    assertEquals(expectedCounts, givenCounter.toMap());
+  }
+}
@@ -0,0 +1,340 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static com.pineframework.core.helper.MappingUtils.map;
+import static com.pineframework.core.helper.MappingUtils.mapAll;
+import static com.pineframework.core.helper.MappingUtils.plan;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link MappingUtilsTest} class provides unit tests for {@link MappingUtils}.
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see MappingUtils
+ * @since 2022-01-01
+ */
+@SuppressWarnings("ALL")
+@DisplayName("Mapping Utils Tests")
+class MappingUtilsTest extends AbstractUtilsTest {
+
+  @Test
+  @DisplayName("mapping a null source")
+  void map_IfSourceIsNull_ShouldThrowIllegalArgumentException() {
+    //Given
+    Object givenSource = null;
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> map(givenSource, TestDto.class));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.should.not.be.null", i18n("var.name.source")), message);
+  }
+
+  @Test
+  @DisplayName("mapping to a null target type")
+  void map_IfTargetTypeIsNull_ShouldThrowIllegalArgumentException() {
+    //Given
+    var givenSource = new TestEntity();
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> map(givenSource, null));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.should.not.be.null", i18n("var.name.target")), message);
+  }
+
+  @Test
+  @DisplayName("mapping the fields with the same name including inherited fields")
+  void map_IfFieldsHaveTheSameName_ShouldCopyValues() {
+    //Given
+    var givenSource = TestEntity.create();
+
+    //When
+    var result = map(givenSource, TestDto.class);
+
+    //Then
+    assertNotNull(result);
+    assertEquals(1L, result.id);
+    assertEquals("pine", result.name);
+    assertEquals(12, result.count);
+    assertEquals(LocalDate.of(2022, 1, 1), result.date);
+    assertSame(givenSource.tags, result.tags);
+  }
+
+  @Test
+  @DisplayName("mapping the fields with the different types")
+  void map_IfFieldTypesAreDifferent_ShouldConvertValues() {
+    //Given
+    var givenSource = TestEntity.create();
+
+    //When
+    var result = map(givenSource, TestDto.class);
+
+    //Then
+    assertNotNull(result);
+    assertEquals(5000000000L, result.total);
+    assertEquals("7", result.code);
+    assertEquals(3.5d, result.rate);
+    assertNull(result.unmatched);
+  }
+
+  @Test
+  @DisplayName("mapping the fields with the same name and unrelated types")
+  void map_IfFieldTypesAreUnrelated_ShouldSkipFields() {
+    //Given
+    var givenSource = new TestUnrelatedSource();
+    givenSource.tags = List.of("a");
+    givenSource.address = new TestAddress();
+    givenSource.name = "pine";
+
+    //When
+    var result = map(givenSource, TestUnrelatedTarget.class);
+
+    //Then
+    assertNotNull(result);
+    assertNull(result.tags);
+    assertNull(result.address);
+    assertEquals("pine", result.name);
+  }
+
+  @Test
+  @DisplayName("mapping null values to primitive fields")
+  void map_IfSourceValueIsNull_ShouldSetDefaultValue() {
+    //Given
+    var givenSource = TestEntity.create();
+    givenSource.count = null;
+    givenSource.name = null;
+
+    //When
+    var result = map(givenSource, TestDto.class);
+
+    //Then
+    assertNotNull(result);
+    assertEquals(0, result.count);
+    assertNull(result.name);
+  }
+
+  @Test
+  @DisplayName("mapping to an existing target")
+  void map_IfTargetExists_ShouldFillTheTarget() {
+    //Given
+    var givenSource = TestEntity.create();
+    var givenTarget = new TestDto();
+    givenTarget.unmatched = "keep";
+
+    //When
+    var result = plan(TestEntity.class, TestDto.class).map(givenSource, givenTarget);
+
+    //Then
+    assertSame(givenTarget, result);
+    assertEquals("pine", result.name);
+    assertEquals("keep", result.unmatched);
+  }
+
+  @Test
+  @DisplayName("mapping to a record")
+  void map_IfTargetIsRecord_ShouldUseCanonicalConstructor() {
+    //Given
+    var givenSource = TestEntity.create();
+
+    //When
+    var result = map(givenSource, TestRecord.class);
+
+    //Then
+    assertEquals(new TestRecord(1L, "pine", 12, 0), result);
+  }
+
+  @Test
+  @DisplayName("mapping to an existing record")
+  void map_IfExistingTargetIsRecord_ShouldThrowUnsupportedOperationException() {
+    //Given
+    var givenSource = TestEntity.create();
+    var givenTarget = new TestRecord(0L, null, 0, 0);
+
+    //Expectation
+    var expectedException = UnsupportedOperationException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> plan(TestEntity.class, TestRecord.class).map(givenSource, givenTarget));
+
+    //Then
+    assertNotNull(result);
+    logErrorAsInfo(result.getMessage());
+  }
+
+  @Test
+  @DisplayName("mapping to a type without no-arg constructor")
+  void map_IfTargetHasNotNoArgConstructor_ShouldThrowIllegalArgumentException() {
+    //Given
+    var givenSource = TestEntity.create();
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> map(givenSource, TestImmutable.class));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.can.not.find", i18n("var.name.constructor")), message);
+  }
+
+  @Test
+  @DisplayName("mapping by the rules")
+  void map_IfRulesAreGiven_ShouldOverrideMatching() {
+    //Given
+    var givenSource = TestEntity.create();
+    var givenRules = MappingRules.create()
+        .rename("unmatched", "name")
+        .ignore("code")
+        .convert("count", value -> (Integer) value * 2);
+
+    //When
+    var result = plan(TestEntity.class, TestDto.class, givenRules).map(givenSource);
+
+    //Then
+    assertNotNull(result);
+    assertEquals("pine", result.unmatched);
+    assertNull(result.code);
+    assertEquals(24, result.count);
+    assertEquals("pine", result.name);
+  }
+
+  @Test
+  @DisplayName("caching the default plan")
+  void plan_IfCalledTwice_ShouldReturnTheSamePlan() {
+    //When
+    var first = plan(TestEntity.class, TestDto.class);
+    var second = plan(TestEntity.class, TestDto.class);
+
+    //Then
+    assertSame(first, second);
+    assertEquals(TestEntity.class, first.sourceType());
+    assertEquals(TestDto.class, first.targetType());
+  }
+
+  @Test
+  @DisplayName("mapping all elements of a collection")
+  void mapAll_IfCollectionHasNullElement_ShouldMapItToNull() {
+    //Given
+    List<TestEntity> givenSources = Arrays.asList(TestEntity.create(), null);
+
+    //When
+    var result = mapAll(givenSources, TestDto.class);
+
+    //Then
+    assertThat(result).hasSize(2);
+    assertEquals("pine", result.get(0).name);
+    assertNull(result.get(1));
+  }
+
+  static class TestBaseEntity {
+    private long id;
+  }
+
+  static class TestEntity extends TestBaseEntity {
+    private static final String CONSTANT = "constant";
+    private String name;
+    private Integer count;
+    private LocalDate date;
+    private List<String> tags;
+    private long total;
+    private int code;
+    private float rate;
+
+    static TestEntity create() {
+      var entity = new TestEntity();
+      ((TestBaseEntity) entity).id = 1L;
+      entity.name = "pine";
+      entity.count = 12;
+      entity.date = LocalDate.of(2022, 1, 1);
+      entity.tags = List.of("a", "b");
+      entity.total = 5000000000L;
+      entity.code = 7;
+      entity.rate = 3.5f;
+      return entity;
+    }
+  }
+
+  static class TestDto {
+    private Long id;
+    private String name;
+    private int count;
+    private LocalDate date;
+    private List<String> tags;
+    private Long total;
+    private String code;
+    private double rate;
+    private String unmatched;
+  }
+
+  static class TestAddress {
+    private String city = "pine";
+  }
+
+  static class TestUnrelatedSource {
+    private List<String> tags;
+    private TestAddress address;
+    private String name;
+  }
+
+  static class TestUnrelatedTarget {
+    private Integer tags;
+    private String address;
+    private String name;
+  }
+
+  record TestRecord(long id, String name, int count, int missing) {
+  }
+
+  static class TestImmutable {
+    private final String name;
+
+    TestImmutable(String name) {
+      this.name = name;
+    }
+  }
+}
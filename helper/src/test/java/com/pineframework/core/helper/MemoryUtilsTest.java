@@ -0,0 +1,177 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static com.pineframework.core.helper.MemoryUtils.deepSizeOf;
+import static com.pineframework.core.helper.MemoryUtils.shallowSizeOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link MemoryUtilsTest} class provides unit tests for {@link MemoryUtils}.
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see MemoryUtils
+ * @since 2022-01-01
+ */
+@SuppressWarnings("ALL")
+@DisplayName("Memory Utils Tests")
+class MemoryUtilsTest extends AbstractUtilsTest {
+
+  @Test
+  @DisplayName("getting shallow size of a null type")
+  void shallowSizeOf_IfTypeIsNull_ShouldThrowIllegalArgumentException() {
+    //Given
+    Class<?> givenType = null;
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> shallowSizeOf(givenType));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.should.not.be.null", i18n("var.name.type")), message);
+  }
+
+  @Test
+  @DisplayName("getting shallow size of an array type")
+  void shallowSizeOf_IfTypeIsArray_ShouldThrowIllegalArgumentException() {
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> shallowSizeOf(int[].class));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.type")), message);
+  }
+
+  @Test
+  @DisplayName("getting shallow size of classes")
+  void shallowSizeOf_IfTypeIsClass_ShouldReturnAlignedSizeOfFields() {
+    //When
+    var objectSize = shallowSizeOf(Object.class);
+    var nodeSize = shallowSizeOf(TestNode.class);
+
+    //Then
+    assertEquals(0, objectSize % 8);
+    assertEquals(0, nodeSize % 8);
+    assertTrue(nodeSize >= objectSize + 8 + 4);
+  }
+
+  @Test
+  @DisplayName("getting shallow size of arrays")
+  void shallowSizeOf_IfObjectIsArray_ShouldIncludeElements() {
+    //When
+    var emptySize = shallowSizeOf(new long[0]);
+    var result = shallowSizeOf(new long[10]);
+
+    //Then
+    assertEquals(emptySize + 80, result);
+  }
+
+  @Test
+  @DisplayName("getting deep size of null")
+  void deepSizeOf_IfObjectIsNull_ShouldReturnZero() {
+    //Then
+    assertEquals(0, deepSizeOf(null));
+  }
+
+  @Test
+  @DisplayName("getting deep size of an object graph")
+  void deepSizeOf_IfObjectHasReferences_ShouldCountReferredObjects() {
+    //Given
+    var givenLeaf = new TestNode(1L, new long[100], null);
+    var givenRoot = new TestNode(2L, null, givenLeaf);
+
+    //When
+    var result = deepSizeOf(givenRoot);
+
+    //Then
+    assertEquals(shallowSizeOf(givenRoot) + shallowSizeOf(givenLeaf) + shallowSizeOf(givenLeaf.values), result);
+  }
+
+  @Test
+  @DisplayName("getting deep size of an object graph with shared objects and cycles")
+  void deepSizeOf_IfObjectsAreSharedOrCyclic_ShouldCountThemOnce() {
+    //Given
+    var givenShared = new long[100];
+    var givenFirst = new TestNode(1L, givenShared, null);
+    var givenSecond = new TestNode(2L, givenShared, givenFirst);
+    givenFirst.next = givenSecond;
+
+    //When
+    var result = deepSizeOf(givenFirst);
+
+    //Then
+    assertEquals(2 * shallowSizeOf(TestNode.class) + shallowSizeOf(givenShared), result);
+  }
+
+  @Test
+  @DisplayName("getting deep size of strings, enums and collections")
+  void deepSizeOf_IfObjectIsJdkObject_ShouldEstimateIt() {
+    //Given
+    var givenLatin = "a".repeat(100);
+    var givenUnicode = "\u0627".repeat(100);
+    List<Object> givenList = new ArrayList<>(List.of(givenLatin, DayOfWeek.MONDAY));
+    var givenMap = new HashMap<String, Object>();
+    givenMap.put("key", givenList);
+
+    //When
+    var latinSize = deepSizeOf(givenLatin);
+    var unicodeSize = deepSizeOf(givenUnicode);
+    var listSize = deepSizeOf(givenList);
+    var mapSize = deepSizeOf(givenMap);
+
+    //Then
+    assertEquals(shallowSizeOf(new byte[200]) - shallowSizeOf(new byte[100]), unicodeSize - latinSize);
+    assertEquals(0, deepSizeOf(DayOfWeek.MONDAY));
+    assertTrue(listSize > latinSize);
+    assertTrue(mapSize > listSize + deepSizeOf("key"));
+  }
+
+  static class TestNode {
+    private final long id;
+    private final long[] values;
+    private TestNode next;
+
+    TestNode(long id, long[] values, TestNode next) {
+      this.id = id;
+      this.values = values;
+      this.next = next;
+    }
+  }
+}
@@ -0,0 +1,180 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link ObjectCounterTest} class provides unit tests for {@link ObjectCounter}.
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see ObjectCounter
+ * @since 2022-01-01
+ */
+@SuppressWarnings("ALL")
+@DisplayName("Object Counter Tests")
+class ObjectCounterTest extends AbstractUtilsTest {
+
+  @Test
+  @DisplayName("creating a counter with a negative expected size")
+  void constructor_IfExpectedSizeIsNegative_ShouldThrowIllegalArgumentException() {
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> new ObjectCounter<String>(-1));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.size")), message);
+  }
+
+  @Test
+  @DisplayName("creating a counter with a too large expected size")
+  void constructor_IfExpectedSizeIsTooLarge_ShouldThrowIllegalArgumentException() {
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> new ObjectCounter<String>(Integer.MAX_VALUE));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.size")), message);
+  }
+
+  @Test
+  @DisplayName("counting and removing the null object")
+  void increment_IfKeyIsNull_ShouldCountAndRemoveIt() {
+    //Given
+    var givenCounter = new ObjectCounter<String>();
+    givenCounter.increment("a");
+
+    //When
+    givenCounter.increment(null);
+    givenCounter.add(null, 2);
+
+    //Then
+    assertEquals(3, givenCounter.get(null));
+    assertEquals(2, givenCounter.size());
+    assertEquals(List.of("a"), givenCounter.keysByCount().subList(1, 2));
+    assertTrue(givenCounter.toMap().containsKey(null));
+    assertEquals(3, givenCounter.remove(null));
+    assertEquals(0, givenCounter.get(null));
+    assertEquals(0, givenCounter.remove(null));
+    assertEquals(1, givenCounter.size());
+  }
+
+  @Test
+  @DisplayName("counting objects until the table grows")
+  void increment_IfObjectsAreMoreThanCapacity_ShouldKeepCountsAfterResize() {
+    //Given
+    var givenCounter = new ObjectCounter<String>();
+
+    //When
+    for (int i = 0; i < 1_000; i++) {
+      givenCounter.add("key" + i, i % 5 + 1L);
+    }
+
+    //Then
+    assertEquals(1_000, givenCounter.size());
+    for (int i = 0; i < 1_000; i++) {
+      assertEquals(i % 5 + 1L, givenCounter.get("key" + i));
+    }
+    assertEquals(0, givenCounter.get("key1000"));
+  }
+
+  @Test
+  @DisplayName("removing objects from the probe chains")
+  void remove_IfObjectsAreRemovedAndAdded_ShouldCountLikeHashMap() {
+    //Given
+    var random = new Random(11);
+    var givenCounter = new ObjectCounter<Integer>();
+    var expectedCounts = new HashMap<Integer, Long>();
+
+    //When
+    for (int i = 0; i < 200_000; i++) {
+      var key = random.nextInt(600) == 0 ? null : Integer.valueOf(random.nextInt(600));
+      if (random.nextInt(3) == 0) {
+        assertEquals(expectedCounts.getOrDefault(key, 0L), givenCounter.remove(key));
+        expectedCounts.remove(key);
+      } else {
+        givenCounter.increment(key);
+        expectedCounts.merge(key, 1L, Long::sum);
+      }
+    }
+
+    //Then
+    assertEquals(expectedCounts.size(), givenCounter.size());
+    assertEquals(expectedCounts, givenCounter.toMap());
+  }
+
+  @Test
+  @DisplayName("finding the most frequent objects with a negative limit")
+  void keysByCount_IfLimitIsNegative_ShouldThrowIllegalArgumentException() {
+    //Given
+    var givenCounter = new ObjectCounter<String>();
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> givenCounter.keysByCount(-1));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.size")), message);
+  }
+
+  @Test
+  @DisplayName("finding the most frequent objects")
+  void keysByCount_IfLimitIsGiven_ShouldReturnMostFrequentObjects() {
+    //Given
+    var givenCounter = new ObjectCounter<String>();
+    givenCounter.add("a", 1);
+    givenCounter.add("b", 4);
+    givenCounter.add(null, 3);
+    givenCounter.add("c", 2);
+
+    //When
+    var result = givenCounter.keysByCount(2);
+
+    //Then
+    assertEquals(Arrays.asList("b", null), result);
+    assertEquals(List.of(), givenCounter.keysByCount(0));
+    assertEquals(givenCounter.keysByCount(), givenCounter.keysByCount(10));
+  }
+}
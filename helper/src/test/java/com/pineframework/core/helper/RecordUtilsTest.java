@@ -0,0 +1,217 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static com.pineframework.core.helper.JdbcUtils.createSpliterator;
+import static com.pineframework.core.helper.RecordUtils.fromMap;
+import static com.pineframework.core.helper.RecordUtils.fromResultSet;
+import static com.pineframework.core.helper.RecordUtils.newInstance;
+import static com.pineframework.core.helper.RecordUtils.rowMapper;
+import static com.pineframework.core.helper.RecordUtils.toArray;
+import static com.pineframework.core.helper.RecordUtils.toMap;
+import static com.pineframework.core.helper.TestEnvironmentConfig.TEST_DB;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.vavr.control.Try;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link RecordUtilsTest} class provides unit tests for {@link RecordUtils}.
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see RecordUtils
+ * @since 2022-01-01
+ */
+@SuppressWarnings("ALL")
+@DisplayName("Record Utils Tests")
+class RecordUtilsTest extends AbstractUtilsTest {
+
+  private static Connection connection;
+
+  @BeforeAll
+  static void openConnection() {
+    connection = TEST_DB.createH2Connection(RecordUtilsTest.class.getSimpleName());
+    TEST_DB.executeSqlFile(connection, "sql/test-db.sql");
+  }
+
+  @AfterAll
+  static void closeConnection() {
+    TEST_DB.close(connection);
+  }
+
+  @Test
+  @DisplayName("creating a record of a null type")
+  void newInstance_IfTypeIsNull_ShouldThrowIllegalArgumentException() {
+    //Given
+    Class<TestRow> givenType = null;
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> newInstance(givenType, 1L, "text", 1));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.should.not.be.null", i18n("var.name.type")), message);
+  }
+
+  @Test
+  @DisplayName("creating a record of a type which is not a record")
+  void newInstance_IfTypeIsNotRecord_ShouldThrowIllegalArgumentException() {
+    //Given
+    Class<? extends Record> givenType = Record.class;
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> newInstance(givenType));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.type")), message);
+  }
+
+  @Test
+  @DisplayName("creating a record with less values than its components")
+  void newInstance_IfNumberOfValuesIsWrong_ShouldThrowIllegalArgumentException() {
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> newInstance(TestRow.class, 1L, "text"));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.expectation", i18n("var.name.size"), 2, 3), message);
+  }
+
+  @Test
+  @DisplayName("creating a record from values which should be converted")
+  void newInstance_IfValuesAreConvertible_ShouldConvertThem() {
+    //When
+    var result = newInstance(TestRow.class, 1, "text", "3");
+
+    //Then
+    assertEquals(new TestRow(1L, "text", 3), result);
+  }
+
+  @Test
+  @DisplayName("creating a record from a value which can not be converted")
+  void newInstance_IfValueIsNotConvertible_ShouldThrowIllegalArgumentException() {
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> newInstance(TestRow.class, 1L, "text", List.of()));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.value")), message);
+  }
+
+  @Test
+  @DisplayName("creating a record from a map with missing components")
+  void fromMap_IfComponentsAreMissing_ShouldUseDefaultValues() {
+    //Given
+    var givenValues = Map.of("text", "text", "other", "ignored");
+
+    //When
+    var result = fromMap(TestRow.class, givenValues);
+
+    //Then
+    assertEquals(new TestRow(0L, "text", null), result);
+  }
+
+  @Test
+  @DisplayName("creating a record from the current row of a result set")
+  void fromResultSet_IfRowExists_ShouldMatchColumnsByName() {
+    //Given
+    var givenQuery = "SELECT * FROM TEST_T ORDER BY ID";
+
+    //When
+    var result = Try.of(() -> {
+      try (var statement = connection.prepareStatement(givenQuery); var resultSet = statement.executeQuery()) {
+        resultSet.next();
+        return fromResultSet(TestRow.class, resultSet);
+      }
+    }).get();
+
+    //Then
+    assertEquals(new TestRow(1L, "text1", 1), result);
+  }
+
+  @Test
+  @DisplayName("creating the records of all the rows of a result set")
+  void rowMapper_IfRowsExist_ShouldCreateRecordOfEachRow() {
+    //Given
+    var givenQuery = "SELECT * FROM TEST_T ORDER BY ID";
+
+    //When
+    var result = Try.of(() -> {
+      try (var statement = connection.prepareStatement(givenQuery); var resultSet = statement.executeQuery()) {
+        return StreamSupport.stream(createSpliterator(resultSet), false)
+            .map(rowMapper(TestRow.class, resultSet))
+            .toList();
+      }
+    }).get();
+
+    //Then
+    assertEquals(List.of(new TestRow(1L, "text1", 1), new TestRow(2L, "text2", 2), new TestRow(3L, "text3", 3)), result);
+  }
+
+  @Test
+  @DisplayName("reading the components of a record")
+  void toArray_IfRecordIsValid_ShouldReturnComponentsInOrder() {
+    //Given
+    var givenRecord = new TestRow(1L, "text", null);
+
+    //When
+    var array = toArray(givenRecord);
+    var map = toMap(givenRecord);
+
+    //Then
+    assertArrayEquals(new Object[] {1L, "text", null}, array);
+    assertEquals(List.of("id", "text", "intNumber"), List.copyOf(map.keySet()));
+    assertEquals(givenRecord, fromMap(TestRow.class, map));
+  }
+
+  record TestRow(long id, String text, Integer intNumber) {
+  }
+}
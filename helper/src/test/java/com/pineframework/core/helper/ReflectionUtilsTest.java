@@ -28,16 +28,22 @@ import static com.pineframework.core.helper.ReflectionUtils.getFieldType;
 import static com.pineframework.core.helper.ReflectionUtils.getFields;
 import static com.pineframework.core.helper.ReflectionUtils.scanPackage;
 import static com.pineframework.core.helper.ReflectionUtils.scanPackageByAnnotation;
+import static com.pineframework.core.helper.ReflectionUtils.scanPackageDescriptors;
+import static com.pineframework.core.helper.ReflectionUtils.structuralEquivalence;
 import static com.pineframework.core.helper.ReflectionUtils.toJavaBasicType;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.pineframework.core.helper.noneemptypackage.TestReflection;
+import com.pineframework.core.helper.scaninitpackage.TestScanInitializer;
+import com.pineframework.core.helper.staticinitpackage.TestStaticInitializer;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Documented;
@@ -50,6 +56,7 @@ import java.lang.reflect.Field;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -191,6 +198,27 @@ class ReflectionUtilsTest extends AbstractUtilsTest {
     assertThat(result).containsOnly(expectedClasses);
   }
 
+  @Test
+  @DisplayName("scan and initialize classes under many packages in one pass")
+  void scanPackage_IfPackagesAreMany_ShouldReturnAllClassesUnderPackages() {
+    //Given
+    var givenPackageNames = new String[] {
+        "com.pineframework.core.helper.noneemptypackage",
+        "com.pineframework.core.helper.scaninitpackage",
+        "com.pineframework.core.helper.emptypackage"};
+
+    //Expectation
+    var expectedClasses = new Class<?>[] {Object.class, Serializable.class, TestReflection.class, TestScanInitializer.class};
+
+    //When
+    var result = scanPackage(givenPackageNames);
+
+    //Then
+    assertNotNull(result);
+    assertThat(result).containsOnly(expectedClasses);
+    assertEquals("true", System.getProperty(TestScanInitializer.INITIALIZED));
+  }
+
   @Test
   @DisplayName("scan classes under invalid packages")
   void scanPackage_IfPackageIsInvalid_ShouldReturnEmptySet() {
@@ -358,6 +386,103 @@ class ReflectionUtilsTest extends AbstractUtilsTest {
     assertThat(result).containsOnly(expectedClasses);
   }
 
+  @Test
+  @DisplayName("scan class descriptors under packages if package names is null")
+  void scanPackageDescriptors_IfPackageNamesIsNull_ShouldThrowIllegalArgumentException() {
+    //Given
+    String[] givenPackageNames = null;
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> scanPackageDescriptors(givenPackageNames));
+
+    // Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.should.not.be.emptyOrNull", i18n("var.name.array")), message);
+  }
+
+  @Test
+  @DisplayName("scan class descriptors under packages if package names includes empty package")
+  void scanPackageDescriptors_IfPackageNamesAreEmpty_ShouldThrowIllegalArgumentException() {
+    //Given
+    var givenPackageNames = new String[] {""};
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> scanPackageDescriptors(givenPackageNames));
+
+    // Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.should.not.be.emptyOrNull", i18n("var.name.packageName")), message);
+  }
+
+  @Test
+  @DisplayName("scan class descriptors under invalid packages")
+  void scanPackageDescriptors_IfPackageIsInvalid_ShouldReturnEmptySet() {
+    //Given
+    var givenPackageNames = new String[] {"invalid package"};
+
+    //When
+    var result = scanPackageDescriptors(givenPackageNames);
+
+    //Then
+    assertNotNull(result);
+    assertTrue(result.isEmpty());
+  }
+
+  @Test
+  @DisplayName("scan class descriptors under non empty packages without initializing the classes")
+  void scanPackageDescriptors_IfPackageIsNotEmpty_ShouldReturnDescriptorsWithoutInitializing() {
+    //Given
+    var givenPackageNames = new String[] {"com.pineframework.core.helper.staticinitpackage"};
+
+    //Expectation
+    var expectedName = "com.pineframework.core.helper.staticinitpackage.TestStaticInitializer";
+
+    //When
+    var result = scanPackageDescriptors(givenPackageNames);
+
+    //Then
+    assertNotNull(result);
+    assertEquals(1, result.size());
+    var descriptor = result.iterator().next();
+    assertEquals(expectedName, descriptor.name());
+    assertEquals("java.lang.Object", descriptor.superName());
+    assertThat(descriptor.interfaceNames()).containsOnly(Serializable.class.getName());
+    assertTrue(descriptor.isPublic());
+    assertFalse(descriptor.isInterface());
+    assertEquals(TestStaticInitializer.class, descriptor.resolve());
+    assertNull(System.getProperty(TestStaticInitializer.INITIALIZED));
+  }
+
+  @Test
+  @DisplayName("scan class descriptors and read the annotations")
+  void scanPackageDescriptors_IfClassIsAnnotated_ShouldReturnAnnotationNames() {
+    //Given
+    var givenPackageNames = new String[] {"com.pineframework.core.helper"};
+
+    //When
+    var result = scanPackageDescriptors(givenPackageNames);
+
+    //Then
+    var descriptor = result.stream()
+        .filter(d -> d.name().equals(TestClass.class.getName()))
+        .findFirst()
+        .orElseThrow();
+    assertTrue(descriptor.isAnnotatedWith(TestAnnotation.class));
+    assertTrue(descriptor.isAnnotatedWith(TestAnnotationForConcreteClass.class));
+    assertFalse(descriptor.isAnnotatedWith(TestAnnotationForAbstractClass.class));
+    assertEquals(TestAbstractClass.class.getName(), descriptor.superName());
+  }
+
   @Test
   @DisplayName("getting field of a class if type is null")
   void getField_IfTypeIsNull_ShouldThrowIllegalArgumentException() {
@@ -541,6 +666,42 @@ class ReflectionUtilsTest extends AbstractUtilsTest {
     assertEquals(expectedFieldType, fieldType);
   }
 
+  @Test
+  @DisplayName("getting field type which is bound through the class hierarchy")
+  void getFieldType_IfFieldTypeIsBoundInHierarchy_ShouldReturnBoundType() {
+    //Given
+    var givenType = TestGenericLeaf.class;
+    var givenField = getField(givenType, "value").orElseThrow();
+
+    //Expectation
+    var expectedFieldType = Long.class;
+
+    //When
+    var fieldType = getFieldType(givenType, givenField);
+    var cachedFieldType = getFieldType(givenType, givenField);
+
+    //Then
+    assertEquals(expectedFieldType, fieldType);
+    assertEquals(expectedFieldType, cachedFieldType);
+  }
+
+  @Test
+  @DisplayName("getting field type which is bound to a parameterized type")
+  void getFieldType_IfFieldTypeIsBoundToParameterizedType_ShouldReturnRawType() {
+    //Given
+    var givenType = TestGenericListLeaf.class;
+    var givenField = getField(givenType, "value").orElseThrow();
+
+    //Expectation
+    var expectedFieldType = List.class;
+
+    //When
+    var fieldType = getFieldType(givenType, givenField);
+
+    //Then
+    assertEquals(expectedFieldType, fieldType);
+  }
+
   @Test
   @DisplayName("getting field type if the field is null")
   void getFieldType_IfFieldIsNull_ShouldThrowIllegalArgumentException() {
@@ -846,6 +1007,25 @@ class ReflectionUtilsTest extends AbstractUtilsTest {
     assertEquals(i18n("error.validation.should.not.be.null", i18n("var.name.type")), message);
   }
 
+  @Test
+  @DisplayName("converting an empty string to java basic type")
+  void toJavaBasicType_IfValueIsEmpty_ShouldThrowIllegalArgumentException() {
+    //Given
+    var givenValue = "";
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> toJavaBasicType(givenValue, Integer.class));
+
+    // Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.should.not.be.emptyOrNull", i18n("var.name.date")), message);
+  }
+
   @ParameterizedTest(name = "[{index}]: given {0} convert to {1}")
   @ArgumentsSource(PrimitiveArgumentsProvider.class)
   @DisplayName("converting value with unknown type to java basic type")
@@ -858,6 +1038,100 @@ class ReflectionUtilsTest extends AbstractUtilsTest {
     assertEquals(expectedValue, result);
   }
 
+  @Test
+  @DisplayName("getting structural equivalence of a null type")
+  void structuralEquivalence_IfTypeIsNull_ShouldThrowIllegalArgumentException() {
+    //Given
+    Class<?> givenType = null;
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> structuralEquivalence(givenType));
+
+    // Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.should.not.be.null", i18n("var.name.type")), message);
+  }
+
+  @Test
+  @DisplayName("getting structural equivalence if the annotation is null")
+  void structuralEquivalence_IfAnnotationIsNull_ShouldThrowIllegalArgumentException() {
+    //Given
+    var givenType = TestStructure.class;
+    Class<? extends Annotation> givenAnnotation = null;
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> structuralEquivalence(givenType, givenAnnotation));
+
+    // Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.should.not.be.null", i18n("var.name.annotation")), message);
+  }
+
+  @Test
+  @DisplayName("comparing objects by all fields")
+  void structuralEquivalence_IfObjectsHaveTheSameFields_ShouldBeEqual() {
+    //Given
+    var givenFirst = new TestStructure(1, "pine", 2.5d, new int[] {1, 2}, List.of("a"));
+    var givenSecond = new TestStructure(1, "pine", 2.5d, new int[] {1, 2}, List.of("a"));
+    var givenThird = new TestStructure(1, "pine", 2.5d, new int[] {1, 3}, List.of("a"));
+
+    //When
+    var result = structuralEquivalence(TestStructure.class);
+
+    //Then
+    assertTrue(result.test(givenFirst, givenSecond));
+    assertEquals(result.hash(givenFirst), result.hash(givenSecond));
+    assertEquals(0, result.compare(givenFirst, givenSecond));
+    assertEquals(result.key(givenFirst), result.key(givenSecond));
+    assertFalse(result.test(givenFirst, givenThird));
+    assertFalse(result.test(givenFirst, null));
+    assertTrue(result.test(null, null));
+    assertEquals(0, result.hash(null));
+  }
+
+  @Test
+  @DisplayName("ordering objects field by field")
+  void structuralEquivalence_IfFieldsAreDifferent_ShouldOrderByFields() {
+    //Given
+    var givenFirst = new TestStructure(1, "a", 2.5d, null, null);
+    var givenSecond = new TestStructure(1, "b", 2.5d, null, null);
+    var givenThird = new TestStructure(2, "a", 2.5d, null, null);
+
+    //When
+    var result = structuralEquivalence(TestStructure.class);
+
+    //Then
+    assertTrue(result.compare(givenFirst, givenSecond) < 0);
+    assertTrue(result.compare(givenThird, givenSecond) > 0);
+    assertTrue(result.compare(null, givenFirst) < 0);
+  }
+
+  @Test
+  @DisplayName("comparing objects by annotated fields")
+  void structuralEquivalence_IfAnnotationIsGiven_ShouldCompareAnnotatedFields() {
+    //Given
+    var givenFirst = new TestStructure(1, "a", 2.5d, null, null);
+    var givenSecond = new TestStructure(1, "b", 3.5d, null, null);
+
+    //When
+    var result = structuralEquivalence(TestStructure.class, TestAnnotation.class);
+
+    //Then
+    assertTrue(result.test(givenFirst, givenSecond));
+    assertEquals(result.hash(givenFirst), result.hash(givenSecond));
+    assertSame(result, structuralEquivalence(TestStructure.class, TestAnnotation.class));
+  }
+
   @Target(value = {ElementType.TYPE, ElementType.METHOD, ElementType.FIELD})
   @Retention(RetentionPolicy.RUNTIME)
   @Inherited
@@ -938,6 +1212,36 @@ class ReflectionUtilsTest extends AbstractUtilsTest {
     protected Object field;
   }
 
+  static class TestStructure {
+    @TestAnnotation
+    private final int id;
+    private final String name;
+    private final double rate;
+    private final int[] values;
+    private final List<String> tags;
+
+    TestStructure(int id, String name, double rate, int[] values, List<String> tags) {
+      this.id = id;
+      this.name = name;
+      this.rate = rate;
+      this.values = values;
+      this.tags = tags;
+    }
+  }
+
+  static class TestGenericBase<E> {
+    protected E value;
+  }
+
+  static class TestGenericMiddle<M> extends TestGenericBase<M> {
+  }
+
+  static class TestGenericLeaf extends TestGenericMiddle<Long> {
+  }
+
+  static class TestGenericListLeaf extends TestGenericMiddle<List<String>> {
+  }
+
   static class PrimitiveArgumentsProvider implements ArgumentsProvider {
 
     @Override
@@ -949,7 +1253,18 @@ class ReflectionUtilsTest extends AbstractUtilsTest {
           Arguments.of("1990-01-01T09:15:45", LocalDateTime.class, LocalDateTime.of(1990, 1, 1, 9, 15, 45)),
           Arguments.of("true", Boolean.class, true),
           Arguments.of("false", Boolean.class, false),
-          Arguments.of("string", String.class, "string"));
+          Arguments.of("string", String.class, "string"),
+          Arguments.of("TRUE", String.class, true),
+          Arguments.of("1990-01-01", String.class, LocalDate.of(1990, 1, 1)),
+          Arguments.of(1, Integer.class, 1),
+          Arguments.of(1, Long.class, 1L),
+          Arguments.of(1L, Integer.class, 1),
+          Arguments.of(1, Double.class, 1.0),
+          Arguments.of(1.5, Float.class, 1.5F),
+          Arguments.of(1.5, String.class, "1.5"),
+          Arguments.of(1.1F, Double.class, 1.1),
+          Arguments.of(1, Object.class, null),
+          Arguments.of(1, AnyClass.class, null));
     }
   }
 }
@@ -0,0 +1,108 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link SpaceSavingTest} class provides unit tests for {@link SpaceSaving}.
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see SpaceSaving
+ * @since 2022-01-01
+ */
+@SuppressWarnings("ALL")
+@DisplayName("Space-Saving Tests")
+class SpaceSavingTest extends AbstractUtilsTest {
+
+  @Test
+  @DisplayName("creating a summary without capacity")
+  void constructor_IfCapacityIsNotPositive_ShouldThrowIllegalArgumentException() {
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> new SpaceSaving<String>(0));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.is.wrong", i18n("var.name.size")), message);
+  }
+
+  @Test
+  @DisplayName("summarizing a stream with fewer elements than capacity")
+  void topK_IfElementsAreFewerThanCapacity_ShouldCountExactly() {
+    //Given
+    var givenSummary = new SpaceSaving<String>(10);
+
+    //When
+    for (var element : List.of("a", "b", "a", "c", "a", "b")) {
+      givenSummary.add(element);
+    }
+    givenSummary.add(null, 2);
+
+    //Then
+    assertEquals(List.of(new SpaceSaving.Entry<>("a", 3, 0), new SpaceSaving.Entry<>("b", 2, 0)), givenSummary.topK(2));
+    assertNull(givenSummary.topK(4).get(2).element());
+    assertEquals(0, givenSummary.estimate("d"));
+    assertEquals(8, givenSummary.total());
+  }
+
+  @Test
+  @DisplayName("summarizing skewed streams and merging summaries")
+  void merge_IfStreamsAreSkewed_ShouldFindHeavyHittersWithinBounds() {
+    //Given
+    var random = new Random(9);
+    var givenFirst = new SpaceSaving<Integer>(100);
+    var givenSecond = new SpaceSaving<Integer>(100);
+    var expectedCounts = new HashMap<Integer, Long>();
+
+    //When
+    for (int i = 0; i < 100_000; i++) {
+      var element = i % 4 == 0 ? i % 5 : random.nextInt(50_000);
+      (i < 50_000 ? givenFirst : givenSecond).add(element);
+      expectedCounts.merge(element, 1L, Long::sum);
+    }
+    var result = givenFirst.merge(givenSecond);
+
+    //Then
+    assertEquals(100, result.size());
+    assertEquals(100_000, result.total());
+    var top = result.topK(5);
+    assertEquals(5, top.size());
+    for (var entry : top) {
+      assertTrue(entry.element() < 5);
+      assertTrue(entry.guaranteedCount() <= expectedCounts.get(entry.element()));
+      assertTrue(entry.count() >= expectedCounts.get(entry.element()));
+    }
+  }
+}
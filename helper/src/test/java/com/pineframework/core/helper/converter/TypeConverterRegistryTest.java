@@ -0,0 +1,159 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper.converter;
+
+import static com.pineframework.core.helper.I18nUtils.i18n;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pineframework.core.helper.AbstractUtilsTest;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link TypeConverterRegistryTest} class provides unit tests for {@link TypeConverterRegistry}.
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see TypeConverterRegistry
+ * @since 2022-01-01
+ */
+@SuppressWarnings("ALL")
+@DisplayName("Type Converter Registry Tests")
+class TypeConverterRegistryTest extends AbstractUtilsTest {
+
+  @Test
+  @DisplayName("registering a converter of a null source")
+  void register_IfSourceIsNull_ShouldThrowIllegalArgumentException() {
+    //Given
+    Class<Object> givenSource = null;
+
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException,
+        () -> TypeConverterRegistry.defaults().derive().register(givenSource, String.class, String::valueOf));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.should.not.be.null", i18n("var.name.source")), message);
+  }
+
+  @Test
+  @DisplayName("finding a converter to the same type")
+  void find_IfTargetIsSourceType_ShouldReturnIdentity() {
+    //When
+    var result = TypeConverterRegistry.defaults().find(Integer.class, int.class);
+
+    //Then
+    assertSame(Function.identity(), result.orElseThrow());
+  }
+
+  @Test
+  @DisplayName("finding a converter to a super type")
+  void find_IfTargetIsSuperTypeOfSource_ShouldReturnEmpty() {
+    //When
+    var result = TypeConverterRegistry.defaults().find(Integer.class, Object.class);
+
+    //Then
+    assertFalse(result.isPresent());
+  }
+
+  @Test
+  @DisplayName("converting a float to a double")
+  void convert_IfValueIsFloat_ShouldKeepDecimalRepresentation() {
+    //Then
+    assertEquals(1.1d, TypeConverterRegistry.defaults().convert(1.1f, Double.class));
+    assertEquals(0.1d, TypeConverterRegistry.defaults().convert(0.1f, double.class));
+  }
+
+  @Test
+  @DisplayName("converting the numbers and the jdbc types directly")
+  void convert_IfConverterIsDirect_ShouldConvertWithoutString() {
+    //Given
+    var registry = TypeConverterRegistry.defaults();
+    var givenTimestamp = Timestamp.valueOf(LocalDateTime.of(1990, 1, 1, 9, 15, 45));
+
+    //Then
+    assertEquals(1L, registry.convert(1, long.class));
+    assertEquals(1, registry.convert(1L, Integer.class));
+    assertEquals(2.5d, registry.convert(new BigDecimal("2.5"), Double.class));
+    assertEquals(BigDecimal.valueOf(3L), registry.convert(3, BigDecimal.class));
+    assertEquals(LocalDateTime.of(1990, 1, 1, 9, 15, 45), registry.convert(givenTimestamp, LocalDateTime.class));
+  }
+
+  @Test
+  @DisplayName("converting a value without converter")
+  void convert_IfThereIsNoConverter_ShouldThrowIllegalArgumentException() {
+    //Expectation
+    var expectedException = IllegalArgumentException.class;
+
+    //When
+    var result = assertThrows(expectedException, () -> TypeConverterRegistry.defaults().convert(1, TestPoint.class));
+
+    //Then
+    assertNotNull(result);
+    var message = result.getMessage();
+    logErrorAsInfo(message);
+    assertEquals(i18n("error.validation.can.not.find", i18n("var.name.convertor")), message);
+  }
+
+  @Test
+  @DisplayName("registering a converter of a super type of the source")
+  void register_IfSourceIsSuperType_ShouldConvertSubTypes() {
+    //Given
+    var givenRegistry = TypeConverterRegistry.defaults().derive();
+    var before = givenRegistry.find(StringBuilder.class, TestPoint.class);
+
+    //When
+    givenRegistry.register(CharSequence.class, TestPoint.class, value -> new TestPoint(value.length()));
+
+    //Then
+    assertFalse(before.isPresent());
+    assertEquals(new TestPoint(3), givenRegistry.convert(new StringBuilder("abc"), TestPoint.class));
+    assertEquals(new TestPoint(2), givenRegistry.convert("ab", TestPoint.class));
+  }
+
+  @Test
+  @DisplayName("registering a converter in a derived registry")
+  void derive_IfConverterIsRegistered_ShouldOverrideOnlyDerivedRegistry() {
+    //Given
+    var givenRegistry = TypeConverterRegistry.defaults().derive()
+        .register(Object.class, Boolean.class, value -> "1".equals(String.valueOf(value)));
+
+    //Then
+    assertTrue(givenRegistry.convert("1", Boolean.class));
+    assertTrue(givenRegistry.convert(1L, boolean.class));
+    assertFalse(TypeConverterRegistry.defaults().convert("1", Boolean.class));
+    assertEquals(5, givenRegistry.convert("5", Integer.class));
+  }
+
+  record TestPoint(int x) {
+  }
+}
@@ -0,0 +1,43 @@
+/* **********************************************************************
+ * Copyright (c) 2022 Saman Alishirishahrbabak.
+ * All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ * ***********************************************************************/
+
+package com.pineframework.core.helper.scaninitpackage;
+
+import java.io.Serializable;
+
+/**
+ * The {@link TestScanInitializer} class use for test {@link com.pineframework.core.helper.ReflectionUtils}.
+ * <p>
+ * It marks the system properties when the class is initialized.
+ * </p>
+ *
+ * @author Saman Alishirishahrbabak
+ * @version 1.0.0
+ * @see com.pineframework.core.helper.ReflectionUtilsTest
+ * @see com.pineframework.core.helper.ReflectionUtils
+ * @since 2022-01-01
+ */
+public class TestScanInitializer implements Serializable {
+
+  public static final String INITIALIZED = "pine.test.scan.initialized";
+
+  private static final long serialVersionUID = 1L;
+
+  static {
+    System.setProperty(INITIALIZED, "true");
+  }
+}